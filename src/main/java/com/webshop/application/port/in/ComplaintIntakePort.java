@@ -0,0 +1,21 @@
+package com.webshop.application.port.in;
+
+import com.webshop.domain.model.Case;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Input port for complaints arriving from any channel.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface ComplaintIntakePort {
+    /**
+     * Queues a complaint for triage
+     * 
+     * @param complaint the complaint case
+     * @return completes with the stored complaint once it was triaged
+     */
+    CompletableFuture<Case> submitComplaint(Case complaint);
+}
@@ -1,6 +1,9 @@
 package com.webshop.application.port.in;
 
 import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderOutcome;
+
+import java.util.List;
 
 /**
  * Input port for order operations.
@@ -10,5 +13,6 @@ import com.webshop.domain.model.Order;
  */
 public interface OrderPort {
     Order createOrder(Order order);
-    Order updateOrderStatus(Long orderId, Order.OrderStatus status);
+    Order createOrder(String idempotencyKey, Order order);
+    List<OrderOutcome> processOrders(List<Order> orders);
 }
@@ -0,0 +1,14 @@
+package com.webshop.application.port.in;
+
+import com.webshop.application.port.out.RestockPlanWriter;
+import com.webshop.domain.model.RestockPlanSummary;
+
+/**
+ * Input port for catalog-wide restock planning.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface RestockPlanningPort {
+    RestockPlanSummary planRestock(RestockPlanWriter writer);
+}
@@ -0,0 +1,20 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.vo.Money;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Output port for payment processing that does not block the caller.
+ * Futures complete with the gateway's answer, or exceptionally if the
+ * gateway call failed.
+ * Refunds of order payments name the payment by the order number.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface AsyncPaymentGateway {
+    CompletableFuture<Boolean> processPayment(Long customerId, Money amount);
+
+    CompletableFuture<Boolean> refundPayment(String transactionId, Money amount);
+}
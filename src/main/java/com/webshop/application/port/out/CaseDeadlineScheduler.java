@@ -0,0 +1,27 @@
+package com.webshop.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Output port for timers that fire when an open case reaches its next
+ * priority boundary.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface CaseDeadlineScheduler {
+    /**
+     * Schedules the deadline of a case, replacing any deadline already pending for it
+     * 
+     * @param caseId   the case
+     * @param deadline when the deadline expires
+     */
+    void schedule(Long caseId, LocalDateTime deadline);
+
+    /**
+     * Cancels the pending deadline of a case, if any
+     * 
+     * @param caseId the case
+     */
+    void cancel(Long caseId);
+}
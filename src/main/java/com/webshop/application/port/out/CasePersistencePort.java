@@ -0,0 +1,61 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for bulk case persistence operations.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface CasePersistencePort {
+    /**
+     * Finds a case by id
+     * 
+     * @param id the case id
+     * @return the case, if it exists
+     */
+    Optional<Case> findById(Long id);
+
+    /**
+     * Saves several cases in one transaction
+     * 
+     * @param cases the cases to save
+     * @return the saved cases
+     */
+    List<Case> saveCases(List<Case> cases);
+
+    /**
+     * Gets the next page of unresolved cases in ascending id order (keyset paging)
+     * 
+     * @param afterId  id of the last case of the previous page, or null for the first page
+     * @param pageSize maximum number of cases to return
+     * @return open cases with an id greater than afterId
+     */
+    List<CasePrioritySnapshot> findOpenCasesAfter(Long afterId, int pageSize);
+
+    /**
+     * Raises the priority of many cases in one statement. Cases whose
+     * priority is already at least as high, for example because it was
+     * escalated since it was read, keep their priority.
+     * 
+     * @param caseIds  ids of the cases to update
+     * @param priority the new priority
+     * @return number of cases whose priority was raised
+     */
+    int raisePriority(Collection<Long> caseIds, Case.CasePriority priority);
+
+    /**
+     * Sets the status of many cases in one statement
+     * 
+     * @param caseIds ids of the cases to update
+     * @param status  the new status
+     * @return number of updated cases
+     */
+    int updateStatus(Collection<Long> caseIds, Case.CaseStatus status);
+}
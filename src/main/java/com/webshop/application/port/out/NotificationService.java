@@ -4,6 +4,8 @@ import com.webshop.domain.model.Order;
 import com.webshop.domain.model.Case;
 import com.webshop.domain.model.Return;
 
+import java.util.List;
+
 /**
  * Output port for notification services.
  * 
@@ -15,4 +17,13 @@ public interface NotificationService {
     void sendReturnApproval(Return returnRequest);
     void sendEscalationAlert(Case caseEntity);
     void sendStatusUpdate(Long customerId, String message);
+
+    /**
+     * Sends the approval of several returns at once
+     * 
+     * @param returnRequests the approved returns
+     */
+    default void sendReturnApprovals(List<Return> returnRequests) {
+        returnRequests.forEach(this::sendReturnApproval);
+    }
 }
@@ -0,0 +1,31 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.Order;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Output port that makes order creation idempotent per customer and client key.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface OrderIdempotencyPort {
+    /**
+     * Creates an order unless one was created, or is being created, for the
+     * same customer and key. The key is recorded in the transaction that
+     * first saves the order, so a submission that got as far as saving its
+     * order is never created again.
+     * 
+     * @param idempotencyKey key the client sent with the submission
+     * @param submitted      the order as submitted, before it is processed
+     * @param createOrder    creates the order, called at most once per customer
+     *                       and key; it is given a callback to run in the
+     *                       transaction that saves the order as pending
+     * @return the order created for the customer's key
+     * @throws com.webshop.shared.exception.IdempotencyKeyMismatchException if the
+     *         customer sent the key with a different order before
+     */
+    Order createOnce(String idempotencyKey, Order submitted, Function<Consumer<Order>, Order> createOrder);
+}
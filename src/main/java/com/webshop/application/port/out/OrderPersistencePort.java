@@ -0,0 +1,55 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.Order;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Output port for order persistence.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface OrderPersistencePort {
+    /**
+     * Saves several orders in one transaction
+     * 
+     * @param orders the orders to save
+     * @return the saved orders
+     */
+    List<Order> saveOrders(List<Order> orders);
+
+    /**
+     * Finds an order by its id
+     * 
+     * @param orderId the order id
+     * @return the order, or empty if there is none
+     */
+    Optional<Order> findOrder(Long orderId);
+
+    /**
+     * Finds several orders in one query
+     * 
+     * @param orderIds the order ids
+     * @return the orders that exist, in no particular order
+     */
+    List<Order> findOrders(Collection<Long> orderIds);
+
+    /**
+     * Finds several orders in one query, keyed by id
+     * 
+     * @param orderIds the order ids
+     * @return the orders that exist by their id
+     */
+    default Map<Long, Order> findOrdersById(Collection<Long> orderIds) {
+        Map<Long, Order> orders = new HashMap<>(orderIds.size() * 2);
+        for (Order order : findOrders(orderIds)) {
+            orders.put(order.getId(), order);
+        }
+        return orders;
+    }
+}
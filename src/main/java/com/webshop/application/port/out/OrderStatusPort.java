@@ -0,0 +1,24 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.OrderStatusChange;
+import com.webshop.domain.model.OrderStatusChangeResult;
+
+import java.util.List;
+
+/**
+ * Output port for changing order statuses without loading the orders.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface OrderStatusPort {
+    /**
+     * Applies status changes, each only if the order is in one of the
+     * allowed predecessor statuses of its new status and, if given, still
+     * has the expected version
+     * 
+     * @param changes the changes
+     * @return one result per change, in the order of the changes
+     */
+    List<OrderStatusChangeResult> changeStatuses(List<OrderStatusChange> changes);
+}
@@ -0,0 +1,36 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * Output port for read access to the product catalog.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface ProductCatalogPort {
+    /**
+     * Gets a snapshot of stock on hand for all products; may be served
+     * from a cache and lag behind recent stock changes
+     * 
+     * @return availability index
+     */
+    AvailabilityIndex availabilityIndex();
+
+    /**
+     * Discards any cached availability so the next call reloads it
+     */
+    void invalidateAvailability();
+
+    /**
+     * Gets the next page of products in ascending id order (keyset paging)
+     * 
+     * @param afterId  id of the last product of the previous page, or null for the first page
+     * @param pageSize maximum number of products to return
+     * @return products with an id greater than afterId
+     */
+    List<Product> findProductsAfter(Long afterId, int pageSize);
+}
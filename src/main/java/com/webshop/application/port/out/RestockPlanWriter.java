@@ -0,0 +1,17 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+
+/**
+ * Output port receiving restock plan lines as they are produced.
+ * Lines arrive from a single thread, in ascending product id order.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface RestockPlanWriter {
+    void writeLine(Product product, Quantity restockQuantity);
+
+    void flush();
+}
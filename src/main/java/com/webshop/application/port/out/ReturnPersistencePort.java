@@ -0,0 +1,24 @@
+package com.webshop.application.port.out;
+
+import com.webshop.domain.model.Return;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output port for bulk return persistence operations.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface ReturnPersistencePort {
+    /**
+     * Stores the status, refund amount and notes of decided returns.
+     * Only returns that are still requested are changed, so returns
+     * decided by someone else in the meantime keep their decision.
+     * 
+     * @param decidedReturns approved or rejected returns
+     * @return ids of the returns that were changed
+     */
+    Set<Long> saveDecisions(List<Return> decidedReturns);
+}
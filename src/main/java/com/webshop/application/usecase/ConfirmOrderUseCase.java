@@ -0,0 +1,200 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.service.OrderPlacementService;
+import com.webshop.domain.service.OrderService;
+import com.webshop.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * Use case for confirming validated orders.
+ * Orders are saved as pending before their payments are authorized, and
+ * payments are authorized outside any database transaction; saving the
+ * confirmed orders and queueing their confirmations run in one, so no
+ * connection is held while the payment provider responds.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConfirmOrderUseCase {
+
+    private final OrderService orderService;
+    private final AsyncPaymentGateway paymentGateway;
+    private final NotificationService notificationService;
+    private final OrderPersistencePort orderPersistence;
+    private final TransactionOperations transactionOperations;
+    private final OrderPlacementService orderPlacement;
+
+    /**
+     * Saves a validated order as pending and takes its payment, then saves
+     * the order as confirmed and sends its confirmation. The order is
+     * stored before the payment is taken, so a charged order always has a
+     * row; if the payment is declined the order is saved as cancelled, and
+     * if the confirmed order cannot be saved its payment is refunded.
+     *
+     * @param order the order to confirm
+     * @return the confirmed order
+     * @throws BusinessException if the order's status does not allow confirming it
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Order confirmOrder(Order order) {
+        return confirmOrder(order, pending -> { });
+    }
+
+    /**
+     * Confirms a validated order like {@link #confirmOrder(Order)}, running
+     * a callback in the transaction that saves the order as pending, so
+     * what it stores is kept only together with the order
+     *
+     * @param order        the order to confirm
+     * @param savedPending runs once the pending order has its id
+     * @return the confirmed order
+     * @throws BusinessException if the order's status does not allow confirming it
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Order confirmOrder(Order order, Consumer<Order> savedPending) {
+        if (!orderService.canConfirm(order)) {
+            throw new BusinessException("Order in status " + order.getStatus() + " cannot be confirmed",
+                    "INVALID_STATUS_TRANSITION");
+        }
+        savePendingOrders(List.of(order), savedPending);
+
+        // Process payment
+        boolean paymentSuccess = awaitPayment(paymentGateway.processPayment(
+                order.getCustomerId(),
+                order.getTotalAmount()));
+
+        if (!paymentSuccess) {
+            orderService.cancelOrder(order);
+            saveCancelledOrders(List.of(order));
+            throw new RuntimeException("Payment failed");
+        }
+
+        // Update order status, then save it and send the confirmation in one transaction
+        orderService.confirmOrder(order);
+        try {
+            saveConfirmedOrders(List.of(order));
+        } catch (RuntimeException e) {
+            log.error("Order {} was paid but could not be saved as confirmed, refunding it", order.getId(), e);
+            refundPayments(List.of(order));
+            throw e;
+        }
+
+        return order;
+    }
+
+    /**
+     * Gives validated orders their order numbers and their totals in the
+     * order currency, converting items priced in other currencies with the
+     * current rates, and saves them as pending in one transaction, before
+     * their payments are taken
+     *
+     * @param orders validated orders not paid yet
+     */
+    public void savePendingOrders(List<Order> orders) {
+        savePendingOrders(orders, pending -> { });
+    }
+
+    /**
+     * Saves validated orders as pending like {@link #savePendingOrders(List)},
+     * running a callback for each order in the same transaction
+     *
+     * @param orders       validated orders not paid yet
+     * @param savedPending runs for each order once it has its id
+     */
+    public void savePendingOrders(List<Order> orders, Consumer<Order> savedPending) {
+        for (Order order : orders) {
+            orderPlacement.placeOrder(order);
+        }
+        transactionOperations.executeWithoutResult(status -> {
+            orderPersistence.saveOrders(orders);
+            orders.forEach(savedPending);
+        });
+    }
+
+    /**
+     * Saves confirmed orders and sends their confirmations in one
+     * transaction, so a confirmation only goes out for a saved order
+     *
+     * @param confirmed orders already paid and confirmed
+     */
+    public void saveConfirmedOrders(List<Order> confirmed) {
+        transactionOperations.executeWithoutResult(status -> {
+            orderPersistence.saveOrders(confirmed);
+            for (Order order : confirmed) {
+                notificationService.sendOrderConfirmation(order);
+            }
+        });
+    }
+
+    /**
+     * Saves orders whose payment was declined as cancelled in one transaction
+     *
+     * @param cancelled orders cancelled after their payment was declined
+     */
+    public void saveCancelledOrders(List<Order> cancelled) {
+        transactionOperations.executeWithoutResult(status -> orderPersistence.saveOrders(cancelled));
+    }
+
+    /**
+     * Refunds the payments of orders that were paid but could not be saved
+     * as confirmed, and cancels the orders. Order payments are referenced by
+     * their order number. A refund that fails or is declined is logged, so
+     * it can be settled by hand.
+     *
+     * @param paid orders paid but not saved
+     */
+    public void refundPayments(List<Order> paid) {
+        List<CompletableFuture<Boolean>> refunds = new ArrayList<>(paid.size());
+        for (Order order : paid) {
+            try {
+                refunds.add(paymentGateway.refundPayment(String.valueOf(order.getOrderNumber()),
+                        order.getTotalAmount()));
+            } catch (RuntimeException e) {
+                refunds.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        for (int i = 0; i < paid.size(); i++) {
+            Order order = paid.get(i);
+            try {
+                if (!awaitPayment(refunds.get(i))) {
+                    log.error("Refund of order {} was declined", order.getOrderNumber());
+                }
+            } catch (RuntimeException e) {
+                log.error("Refund of order {} failed", order.getOrderNumber(), e);
+            }
+            orderService.cancelOrder(order);
+        }
+    }
+
+    /**
+     * Waits for a payment authorization, rethrowing what the gateway threw
+     */
+    private static boolean awaitPayment(CompletableFuture<Boolean> payment) {
+        try {
+            return Boolean.TRUE.equals(payment.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
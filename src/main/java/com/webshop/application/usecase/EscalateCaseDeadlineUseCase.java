@@ -0,0 +1,60 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.service.CaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Use case for handling an expired case deadline: raises the priority of the
+ * case if it has aged past a boundary, alerts about the escalation and works
+ * out when the next boundary is due.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class EscalateCaseDeadlineUseCase {
+
+    private final CaseService caseService;
+    private final CasePersistencePort casePersistence;
+    private final NotificationService notificationService;
+    private final Clock clock;
+
+    /**
+     * Handles the deadline of a case
+     *
+     * @param caseId the case whose deadline expired
+     * @return the next deadline of the case, or null if none is needed
+     */
+    @Transactional
+    public LocalDateTime onDeadline(Long caseId) {
+        Optional<Case> found = casePersistence.findById(caseId);
+        if (found.isEmpty() || isClosed(found.get()) || found.get().getCreatedAt() == null) {
+            return null;
+        }
+        Case caseEntity = found.get();
+
+        Case.CasePriority raised = caseService.reassessPriority(caseEntity.getType(), caseEntity.getCreatedAt(),
+                caseEntity.getPriority(), LocalDateTime.now(clock));
+        if (raised != null) {
+            caseEntity.setPriority(raised);
+            notificationService.sendEscalationAlert(caseEntity);
+        }
+
+        return caseService.nextPriorityBoundary(caseEntity.getType(), caseEntity.getCreatedAt(),
+                caseEntity.getPriority());
+    }
+
+    private static boolean isClosed(Case caseEntity) {
+        return caseEntity.getStatus() == Case.CaseStatus.RESOLVED || caseEntity.getStatus() == Case.CaseStatus.CLOSED;
+    }
+}
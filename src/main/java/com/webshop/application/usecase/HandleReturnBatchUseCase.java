@@ -0,0 +1,113 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.ReturnPersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.Return;
+import com.webshop.domain.service.CaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Use case for handling many stored product returns at once.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class HandleReturnBatchUseCase {
+
+    static final int BATCH_SIZE = 1000;
+    static final int PARALLEL_THRESHOLD = 1000;
+
+    private final CaseService caseService;
+    private final NotificationService notificationService;
+    private final OrderPersistencePort orderPersistence;
+    private final ReturnPersistencePort returnPersistence;
+    private final CasePersistencePort casePersistence;
+
+    /**
+     * Handles many stored return requests at once. The referenced orders
+     * are read with one query per {@value #BATCH_SIZE} orders, large
+     * batches are validated in parallel, and the decisions are written as
+     * one JDBC batch per chunk. Approved returns get their refund in the
+     * order currency. Only returns that were still requested are changed;
+     * the cases of those approved move to in progress, and their approvals
+     * are queued as one batch of notifications.
+     * 
+     * @param returnRequests the stored return requests
+     * @return the same returns, approved or rejected
+     */
+    @Transactional
+    public List<Return> handleReturns(List<Return> returnRequests) {
+        // Read every order referenced by the returns, keyed by order id
+        Set<Long> orderIds = new LinkedHashSet<>();
+        for (Return returnRequest : returnRequests) {
+            if (returnRequest.getOrderId() != null) {
+                orderIds.add(returnRequest.getOrderId());
+            }
+        }
+        Map<Long, Order> orders = new HashMap<>(orderIds.size() * 2);
+        inChunks(new ArrayList<>(orderIds), ids -> orders.putAll(orderPersistence.findOrdersById(ids)));
+
+        // Validation only reads the return and its order, so the returns can be checked concurrently
+        boolean[] valid = new boolean[returnRequests.size()];
+        IntStream indexes = IntStream.range(0, valid.length);
+        if (valid.length >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> valid[i] = caseService.validateReturnRequest(returnRequests.get(i),
+                orders.get(returnRequests.get(i).getOrderId())));
+
+        for (int i = 0; i < valid.length; i++) {
+            Return returnRequest = returnRequests.get(i);
+            if (valid[i]) {
+                caseService.approveReturn(returnRequest, orders.get(returnRequest.getOrderId()));
+            } else {
+                returnRequest.reject(HandleReturnUseCase.REJECTION_REASON);
+            }
+        }
+
+        // Returns decided by an earlier run keep their decision and are neither counted nor notified again
+        Set<Long> changedIds = new HashSet<>();
+        inChunks(returnRequests, decided -> changedIds.addAll(returnPersistence.saveDecisions(decided)));
+        List<Return> approved = new ArrayList<>();
+        Set<Long> caseIds = new LinkedHashSet<>();
+        for (int i = 0; i < valid.length; i++) {
+            Return returnRequest = returnRequests.get(i);
+            if (valid[i] && changedIds.contains(returnRequest.getId())) {
+                approved.add(returnRequest);
+                if (returnRequest.getCaseId() != null) {
+                    caseIds.add(returnRequest.getCaseId());
+                }
+            }
+        }
+
+        inChunks(new ArrayList<>(caseIds), ids -> casePersistence.updateStatus(ids, Case.CaseStatus.IN_PROGRESS));
+        if (!approved.isEmpty()) {
+            notificationService.sendReturnApprovals(approved);
+        }
+        return returnRequests;
+    }
+
+    private static <T> void inChunks(List<T> items, Consumer<List<T>> action) {
+        for (int from = 0; from < items.size(); from += BATCH_SIZE) {
+            action.accept(items.subList(from, Math.min(from + BATCH_SIZE, items.size())));
+        }
+    }
+}
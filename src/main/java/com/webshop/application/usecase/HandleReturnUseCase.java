@@ -1,7 +1,9 @@
 package com.webshop.application.usecase;
 
 import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
 import com.webshop.domain.model.Case;
+import com.webshop.domain.model.Order;
 import com.webshop.domain.model.Return;
 import com.webshop.domain.service.CaseService;
 import lombok.RequiredArgsConstructor;
@@ -18,8 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class HandleReturnUseCase {
 
+    static final String REJECTION_REASON = "Return window expired or order not delivered";
+
     private final CaseService caseService;
     private final NotificationService notificationService;
+    private final OrderPersistencePort orderPersistence;
 
     /**
      * Handles a return request
@@ -30,14 +35,17 @@ public class HandleReturnUseCase {
      */
     @Transactional
     public Return handleReturn(Return returnRequest, Case associatedCase) {
-        // Validate return request
-        if (!caseService.validateReturnRequest(returnRequest, null)) {
-            returnRequest.reject("Return window expired or order not delivered");
+        // Validate return request against the original order
+        Order order = returnRequest.getOrderId() == null ? null
+                : orderPersistence.findOrder(returnRequest.getOrderId()).orElse(null);
+        if (!caseService.validateReturnRequest(returnRequest, order)) {
+            returnRequest.reject(REJECTION_REASON);
             return returnRequest;
         }
 
-        // Approve return
+        // Approve return and work out the refund in the order currency
         returnRequest.approve();
+        returnRequest.calculateRefundAmount(order.resolveCurrency());
 
         // Update case
         associatedCase.setStatus(Case.CaseStatus.IN_PROGRESS);
@@ -0,0 +1,56 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.in.RestockPlanningPort;
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.application.port.out.RestockPlanWriter;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
+import com.webshop.domain.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use case for planning restocks across the whole catalog.
+ * Products are read in keyset pages, each page is evaluated in parallel on
+ * the common fork-join pool, and plan lines are handed to the writer in
+ * product id order, so only one page is held in memory at a time.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanRestockUseCase implements RestockPlanningPort {
+
+    static final int PAGE_SIZE = 1000;
+
+    private final ProductService productService;
+    private final ProductCatalogPort productCatalog;
+
+    /**
+     * Plans restocks for every product and streams the plan to the writer.
+     * Runs without a surrounding transaction so every page is read in its
+     * own short transaction and can be released once written.
+     * 
+     * @param writer receiver of the plan lines
+     * @return totals of the run
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RestockPlanSummary planRestock(RestockPlanWriter writer) {
+        RestockPlanSummary summary = new RestockPlanSummary(0, 0, 0);
+
+        List<Product> page = productCatalog.findProductsAfter(null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            summary = summary.plus(productService.planRestock(page, writer::writeLine));
+            Long lastId = page.get(page.size() - 1).getId();
+            page = page.size() < PAGE_SIZE ? List.of() : productCatalog.findProductsAfter(lastId, PAGE_SIZE);
+        }
+        writer.flush();
+        return summary;
+    }
+}
@@ -1,5 +1,7 @@
 package com.webshop.application.usecase;
 
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.port.out.CasePersistencePort;
 import com.webshop.application.port.out.NotificationService;
 import com.webshop.domain.model.Case;
 import com.webshop.domain.service.CaseService;
@@ -7,8 +9,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * Use case for processing customer complaints.
+ * Single complaints are processed in one call; bursts go through the
+ * triage steps {@link #prioritize}, {@link #escalate} and
+ * {@link #saveTriagedComplaints} separately, so a pipeline can run each
+ * step with its own parallelism and store complaints in batches.
  * 
  * @author WebShop Team
  * @version 1.0
@@ -19,6 +28,8 @@ public class ProcessComplaintUseCase {
     
     private final CaseService caseService;
     private final NotificationService notificationService;
+    private final CaseDeadlineScheduler deadlineScheduler;
+    private final CasePersistencePort casePersistence;
     
     /**
      * Processes a customer complaint
@@ -28,8 +39,7 @@ public class ProcessComplaintUseCase {
     @Transactional
     public Case processComplaint(Case complaint) {
         // Set priority
-        Case.CasePriority priority = caseService.determinePriority(complaint);
-        complaint.setPriority(priority);
+        prioritize(complaint);
         
         // Check if escalation needed
         if (caseService.escalateIfNeeded(complaint)) {
@@ -39,6 +49,60 @@ public class ProcessComplaintUseCase {
         // Update status
         complaint.setStatus(Case.CaseStatus.IN_PROGRESS);
         
+        // Track when aging raises the priority next
+        scheduleNextDeadline(complaint);
+        
         return complaint;
     }
+    
+    /**
+     * Sets the priority of a complaint. Needs no transaction.
+     * 
+     * @param complaint the complaint case
+     */
+    public void prioritize(Case complaint) {
+        complaint.setPriority(caseService.determinePriority(complaint));
+    }
+    
+    /**
+     * Escalates a prioritized complaint if needed, otherwise moves it to in
+     * progress. Escalated complaints keep their status until stored, when
+     * {@link #saveTriagedComplaints} sends their alerts. Needs no transaction.
+     * 
+     * @param complaint the prioritized complaint case
+     */
+    public void escalate(Case complaint) {
+        if (!caseService.escalateIfNeeded(complaint)) {
+            complaint.setStatus(Case.CaseStatus.IN_PROGRESS);
+        }
+    }
+    
+    /**
+     * Stores triaged complaints in one transaction, queues the alerts for
+     * escalated ones and tracks their next priority deadlines
+     * 
+     * @param complaints complaints that went through {@link #prioritize} and {@link #escalate}
+     * @return the stored complaints
+     */
+    @Transactional
+    public List<Case> saveTriagedComplaints(List<Case> complaints) {
+        List<Case> saved = casePersistence.saveCases(complaints);
+        for (Case complaint : saved) {
+            if (complaint.getStatus() == Case.CaseStatus.ESCALATED) {
+                notificationService.sendEscalationAlert(complaint);
+            }
+            scheduleNextDeadline(complaint);
+        }
+        return saved;
+    }
+    
+    private void scheduleNextDeadline(Case complaint) {
+        if (complaint.getId() != null && complaint.getCreatedAt() != null) {
+            LocalDateTime deadline = caseService.nextPriorityBoundary(complaint.getType(),
+                    complaint.getCreatedAt(), complaint.getPriority());
+            if (deadline != null) {
+                deadlineScheduler.schedule(complaint.getId(), deadline);
+            }
+        }
+    }
 }
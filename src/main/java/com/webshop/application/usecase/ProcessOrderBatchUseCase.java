@@ -0,0 +1,211 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderOutcome;
+import com.webshop.domain.model.OrderValidationResult;
+import com.webshop.domain.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Use case for processing many customer orders at once.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessOrderBatchUseCase {
+
+    /** Payment authorizations a batch keeps in flight at the same time */
+    static final int PAYMENT_WINDOW = 64;
+    /** Orders saved per transaction by a batch */
+    static final int PERSIST_BATCH_SIZE = 500;
+
+    private final OrderService orderService;
+    private final AsyncPaymentGateway paymentGateway;
+    private final ProductCatalogPort productCatalog;
+    private final ConfirmOrderUseCase confirmOrder;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderOutcome> processOrders(List<Order> orders) {
+        return processOrders(orders, PAYMENT_WINDOW);
+    }
+
+    /**
+     * Validates a single order against the current availability snapshot
+     *
+     * @param order the order to validate
+     * @throws IllegalArgumentException if the order has no items or a line cannot be fulfilled
+     */
+    public void validateOrder(Order order) {
+        OrderValidationResult validation = orderService.validateOrder(order, productCatalog.availabilityIndex());
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException("Invalid order: " + validation.getFailures());
+        }
+    }
+
+    /**
+     * Processes a batch of orders. All orders are validated against one
+     * availability snapshot and the valid ones are saved as pending, then
+     * their payments are authorized concurrently with at most
+     * {@code paymentWindow} in flight. Confirmed orders are saved in chunks
+     * of {@value #PERSIST_BATCH_SIZE}, each in its own transaction together
+     * with its confirmations; if a chunk cannot be saved, its orders fail
+     * and their payments are refunded. A failing order or chunk does not
+     * affect the rest of the batch.
+     *
+     * @param orders        the orders to process
+     * @param paymentWindow maximum number of concurrent payment authorizations
+     * @return one outcome per order, in the order of the input
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderOutcome> processOrders(List<Order> orders, int paymentWindow) {
+        if (paymentWindow <= 0) {
+            throw new IllegalArgumentException("Payment window must be positive");
+        }
+        List<OrderOutcome> outcomes = new ArrayList<>(Collections.nCopies(orders.size(), null));
+
+        // Validate every order against the same snapshot, skipping orders that cannot be confirmed
+        AvailabilityIndex availability = productCatalog.availabilityIndex();
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            if (!orderService.canConfirm(order)) {
+                outcomes.set(i, OrderOutcome.failed(order,
+                        "Order in status " + order.getStatus() + " cannot be confirmed"));
+                continue;
+            }
+            OrderValidationResult validation = orderService.validateOrder(order, availability);
+            if (validation.isValid()) {
+                valid.add(i);
+            } else {
+                outcomes.set(i, OrderOutcome.rejected(order, validation));
+            }
+        }
+
+        // Save the valid orders as pending before any of them is charged
+        inChunks(valid, chunk -> {
+            try {
+                confirmOrder.savePendingOrders(ordersAt(orders, chunk));
+            } catch (RuntimeException e) {
+                fail(orders, outcomes, chunk, "Could not save order: " + e.getMessage());
+            }
+        });
+
+        authorizePayments(orders, outcomes, paymentWindow);
+
+        // Save confirmed and cancelled orders in chunks, refunding the payments of a chunk that cannot be saved
+        List<Integer> confirmed = new ArrayList<>();
+        List<Integer> declined = new ArrayList<>();
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i).isConfirmed()) {
+                confirmed.add(i);
+            } else if (outcomes.get(i).isPaymentDeclined()) {
+                declined.add(i);
+            }
+        }
+        inChunks(confirmed, chunk -> {
+            List<Order> paid = ordersAt(orders, chunk);
+            try {
+                confirmOrder.saveConfirmedOrders(paid);
+            } catch (RuntimeException e) {
+                confirmOrder.refundPayments(paid);
+                fail(orders, outcomes, chunk, "Could not save confirmed order, payment refunded: " + e.getMessage());
+            }
+        });
+        inChunks(declined, chunk -> {
+            try {
+                confirmOrder.saveCancelledOrders(ordersAt(orders, chunk));
+            } catch (RuntimeException e) {
+                log.warn("Could not save {} cancelled orders, they stay pending", chunk.size(), e);
+            }
+        });
+        return outcomes;
+    }
+
+    /**
+     * Authorizes the payment of every order without an outcome yet, keeping
+     * at most {@code window} authorizations in flight, and records the
+     * outcome of each.
+     */
+    private void authorizePayments(List<Order> orders, List<OrderOutcome> outcomes, int window) {
+        List<Future<Boolean>> payments = new ArrayList<>(orders.size());
+        Semaphore inFlight = new Semaphore(window);
+        for (int i = 0; i < orders.size(); i++) {
+            if (outcomes.get(i) != null) {
+                payments.add(null);
+                continue;
+            }
+            Order order = orders.get(i);
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<Boolean> payment;
+            try {
+                payment = paymentGateway.processPayment(order.getCustomerId(), order.getTotalAmount());
+            } catch (RuntimeException e) {
+                payment = CompletableFuture.failedFuture(e);
+            }
+            payments.add(payment.whenComplete((paid, error) -> inFlight.release()));
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            Future<Boolean> payment = payments.get(i);
+            if (payment != null) {
+                outcomes.set(i, toOutcome(orders.get(i), payment));
+            }
+        }
+    }
+
+    private static void inChunks(List<Integer> indexes, Consumer<List<Integer>> action) {
+        for (int from = 0; from < indexes.size(); from += PERSIST_BATCH_SIZE) {
+            action.accept(indexes.subList(from, Math.min(from + PERSIST_BATCH_SIZE, indexes.size())));
+        }
+    }
+
+    private static List<Order> ordersAt(List<Order> orders, List<Integer> indexes) {
+        List<Order> selected = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            selected.add(orders.get(index));
+        }
+        return selected;
+    }
+
+    private static void fail(List<Order> orders, List<OrderOutcome> outcomes, List<Integer> indexes,
+            String message) {
+        for (int index : indexes) {
+            outcomes.set(index, OrderOutcome.failed(orders.get(index), message));
+        }
+    }
+
+    private OrderOutcome toOutcome(Order order, Future<Boolean> payment) {
+        try {
+            if (Boolean.TRUE.equals(payment.get())) {
+                orderService.confirmOrder(order);
+                return OrderOutcome.confirmed(order);
+            }
+            orderService.cancelOrder(order);
+            return OrderOutcome.paymentDeclined(order);
+        } catch (ExecutionException e) {
+            return OrderOutcome.failed(order, "Payment error: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return OrderOutcome.failed(order, "Interrupted while waiting for payment");
+        }
+    }
+}
@@ -1,19 +1,23 @@
 package com.webshop.application.usecase;
 
 import com.webshop.application.port.in.OrderPort;
-import com.webshop.application.port.out.PaymentGateway;
-import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderIdempotencyPort;
 import com.webshop.domain.model.Order;
-import com.webshop.domain.model.vo.Money;
-import com.webshop.domain.service.OrderService;
+import com.webshop.domain.model.OrderOutcome;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Use case for processing customer orders.
- * Orchestrates the order processing workflow.
- * 
+ * Orchestrates the order processing workflow: the order is validated
+ * against the catalog and then confirmed, which takes its payment and
+ * saves it. Batches are handed to {@link ProcessOrderBatchUseCase}.
+ *
  * @author WebShop Team
  * @version 1.0
  */
@@ -21,52 +25,73 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ProcessOrderUseCase implements OrderPort {
 
-    private final OrderService orderService;
-    private final PaymentGateway paymentGateway;
-    private final NotificationService notificationService;
+    /** Longest idempotency key a client may send */
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final OrderIdempotencyPort orderIdempotency;
+    private final ConfirmOrderUseCase confirmOrder;
+    private final ProcessOrderBatchUseCase processOrderBatch;
 
     /**
      * Processes a new order through the complete workflow
-     * 
+     *
      * @param order the order to process
      * @return processed order
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Order processOrder(Order order) {
-        // Validate order
-        if (!orderService.validateOrder(order, null)) {
-            throw new IllegalArgumentException("Invalid order");
-        }
-
-        // Process payment
-        boolean paymentSuccess = paymentGateway.processPayment(
-                order.getCustomerId(),
-                order.getTotalAmount());
-
-        if (!paymentSuccess) {
-            order.setStatus(Order.OrderStatus.CANCELLED);
-            throw new RuntimeException("Payment failed");
-        }
-
-        // Update order status
-        order.setStatus(Order.OrderStatus.CONFIRMED);
+        return processOrder(order, pending -> { });
+    }
 
-        // Send confirmation
-        notificationService.sendOrderConfirmation(order);
+    private Order processOrder(Order order, Consumer<Order> savedPending) {
+        // Validate order against the catalog availability snapshot
+        processOrderBatch.validateOrder(order);
 
-        return order;
+        // Take the payment, then save the order and send its confirmation
+        return confirmOrder.confirmOrder(order, savedPending);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Order createOrder(Order order) {
         return processOrder(order);
     }
 
+    /**
+     * Creates an order at most once per customer and idempotency key. A
+     * retry with the key of a submission that saved its order returns that
+     * order; a retry while it is still running waits for it. The key is
+     * recorded together with the pending order, before the payment is taken.
+     *
+     * @param idempotencyKey key the client sent, or null to always create
+     * @param order          the order to process
+     * @return processed order
+     * @throws IllegalArgumentException if the key is blank or too long
+     * @throws com.webshop.shared.exception.IdempotencyKeyMismatchException if
+     *         the customer sent the key with a different order before
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Order createOrder(String idempotencyKey, Order order) {
+        if (idempotencyKey == null) {
+            return processOrder(order);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must have 1 to "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return orderIdempotency.createOnce(idempotencyKey, order, recordKey -> processOrder(order, recordKey));
+    }
+
+    /**
+     * Processes many orders at once, see {@link ProcessOrderBatchUseCase}
+     *
+     * @param orders the orders to process
+     * @return one outcome per order, in the order of the input
+     */
     @Override
-    @Transactional
-    public Order updateOrderStatus(Long orderId, Order.OrderStatus status) {
-        // Implementation for updating order status
-        return null;
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<OrderOutcome> processOrders(List<Order> orders) {
+        return processOrderBatch.processOrders(orders);
     }
 }
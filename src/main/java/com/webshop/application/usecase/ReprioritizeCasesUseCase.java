@@ -0,0 +1,71 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import com.webshop.domain.service.CaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for raising the priority of open cases as they age.
+ * All cases are evaluated against one reading of the clock; each page of
+ * cases results in at most one UPDATE per new priority, and only for cases
+ * whose priority actually changes. The updates only ever raise a priority,
+ * so a case escalated after its page was read keeps its higher priority.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ReprioritizeCasesUseCase {
+
+    static final int PAGE_SIZE = 500;
+
+    private final CaseService caseService;
+    private final CasePersistencePort casePersistence;
+    private final Clock clock;
+
+    /**
+     * Re-evaluates all open cases. Runs without a surrounding transaction so
+     * every page is read and updated in its own short transaction.
+     * 
+     * @return number of cases whose priority was raised
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reprioritizeOpenCases() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int updated = 0;
+
+        List<CasePrioritySnapshot> page = casePersistence.findOpenCasesAfter(null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            Map<Case.CasePriority, List<Long>> changes = new EnumMap<>(Case.CasePriority.class);
+            for (CasePrioritySnapshot snapshot : page) {
+                if (snapshot.getCreatedAt() == null) {
+                    continue;
+                }
+                Case.CasePriority raised = caseService.reassessPriority(snapshot.getType(),
+                        snapshot.getCreatedAt(), snapshot.getPriority(), now);
+                if (raised != null) {
+                    changes.computeIfAbsent(raised, priority -> new ArrayList<>()).add(snapshot.getId());
+                }
+            }
+            for (Map.Entry<Case.CasePriority, List<Long>> change : changes.entrySet()) {
+                updated += casePersistence.raisePriority(change.getValue(), change.getKey());
+            }
+            Long lastId = page.get(page.size() - 1).getId();
+            page = page.size() < PAGE_SIZE ? List.of() : casePersistence.findOpenCasesAfter(lastId, PAGE_SIZE);
+        }
+        return updated;
+    }
+}
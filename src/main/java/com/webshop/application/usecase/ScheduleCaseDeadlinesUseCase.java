@@ -0,0 +1,60 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import com.webshop.domain.service.CaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use case for scheduling the next priority boundary of every open case,
+ * e.g. when a deadline scheduler that keeps its timers in memory starts.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCaseDeadlinesUseCase {
+
+    static final int PAGE_SIZE = 1000;
+
+    private final CaseService caseService;
+    private final CasePersistencePort casePersistence;
+
+    /**
+     * Hands the next deadline of every open case to the scheduler. Runs
+     * without a surrounding transaction so every page is read in its own
+     * short transaction.
+     *
+     * @param scheduler receiver of the deadlines
+     * @return number of deadlines scheduled
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int scheduleOpenCaseDeadlines(CaseDeadlineScheduler scheduler) {
+        int scheduled = 0;
+        List<CasePrioritySnapshot> page = casePersistence.findOpenCasesAfter(null, PAGE_SIZE);
+        while (!page.isEmpty()) {
+            for (CasePrioritySnapshot snapshot : page) {
+                if (snapshot.getCreatedAt() == null) {
+                    continue;
+                }
+                LocalDateTime deadline = caseService.nextPriorityBoundary(snapshot.getType(),
+                        snapshot.getCreatedAt(), snapshot.getPriority());
+                if (deadline != null) {
+                    scheduler.schedule(snapshot.getId(), deadline);
+                    scheduled++;
+                }
+            }
+            Long lastId = page.get(page.size() - 1).getId();
+            page = page.size() < PAGE_SIZE ? List.of() : casePersistence.findOpenCasesAfter(lastId, PAGE_SIZE);
+        }
+        return scheduled;
+    }
+}
@@ -0,0 +1,72 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.OrderStatusPort;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStatusChange;
+import com.webshop.domain.model.OrderStatusChangeResult;
+import com.webshop.shared.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Use case for moving placed orders to a new status.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UpdateOrderStatusUseCase {
+
+    private final OrderStatusPort orderStatus;
+    private final OrderPersistencePort orderPersistence;
+
+    /**
+     * Moves an order to a new status if its current status allows it.
+     * The change is a single conditional update; the order is only read
+     * afterwards to return it.
+     *
+     * @param orderId the order id
+     * @param status  the new status
+     * @return the updated order
+     * @throws BusinessException if the order does not exist or cannot move to the status
+     */
+    @Transactional
+    public Order updateOrderStatus(Long orderId, Order.OrderStatus status) {
+        OrderStatusChangeResult result = updateOrderStatuses(List.of(new OrderStatusChange(orderId, status, null)))
+                .get(0);
+        if (result.isNotFound()) {
+            throw new BusinessException("Order " + orderId + " not found", "ORDER_NOT_FOUND");
+        }
+        if (!result.isApplied()) {
+            throw new BusinessException(
+                    "Order " + orderId + " cannot move from " + result.getStatus() + " to " + status,
+                    "INVALID_STATUS_TRANSITION");
+        }
+        return orderPersistence.findOrder(orderId)
+                .orElseThrow(() -> new BusinessException("Order " + orderId + " not found", "ORDER_NOT_FOUND"));
+    }
+
+    /**
+     * Applies many status changes in one batch. Each change succeeds or
+     * fails on its own; a change with an expected version fails if the
+     * order was changed since that version was read.
+     *
+     * @param changes the changes
+     * @return one result per change, in the order of the changes
+     * @throws IllegalArgumentException if a change has no order id or status
+     */
+    @Transactional
+    public List<OrderStatusChangeResult> updateOrderStatuses(List<OrderStatusChange> changes) {
+        for (OrderStatusChange change : changes) {
+            if (change.getOrderId() == null || change.getStatus() == null) {
+                throw new IllegalArgumentException("Every status change needs an order id and a status");
+            }
+        }
+        return changes.isEmpty() ? List.of() : orderStatus.changeStatuses(changes);
+    }
+}
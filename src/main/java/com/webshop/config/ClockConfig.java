@@ -0,0 +1,22 @@
+package com.webshop.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Provides the application clock, so time-dependent rules can be tested
+ * with a fixed clock.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
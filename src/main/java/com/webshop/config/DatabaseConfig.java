@@ -1,6 +1,10 @@
 package com.webshop.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -18,4 +22,23 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 public class DatabaseConfig {
     // Additional database configuration can be added here
     // Connection pool settings, dialect configuration, etc.
+
+    /**
+     * Sends updates, and inserts of entities whose ids are not generated by
+     * the database, in JDBC batches grouped by entity. Entities with
+     * IDENTITY ids, such as orders, are still inserted one statement at a
+     * time, because Hibernate needs each generated id right away.
+     * 
+     * @param batchSize statements per JDBC batch
+     * @return the Hibernate settings
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${webshop.persistence.jdbc-batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
 }
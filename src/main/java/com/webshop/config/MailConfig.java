@@ -0,0 +1,34 @@
+package com.webshop.config;
+
+import com.webshop.infrastructure.messaging.ConsoleMailTransport;
+import com.webshop.infrastructure.messaging.InMemoryMailTransport;
+import com.webshop.infrastructure.messaging.MailTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Mail configuration for the web shop application.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Configuration
+public class MailConfig {
+
+    /**
+     * Selects how emails leave the application: {@code console} writes them
+     * to standard output, {@code in-memory} keeps them for inspection
+     * 
+     * @param transport name of the transport
+     * @return the mail transport
+     */
+    @Bean
+    public MailTransport mailTransport(@Value("${webshop.mail.transport:console}") String transport) {
+        return switch (transport) {
+            case "console" -> new ConsoleMailTransport();
+            case "in-memory" -> new InMemoryMailTransport();
+            default -> throw new IllegalArgumentException("Unknown mail transport: " + transport);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.webshop.config;
+
+import com.webshop.infrastructure.payment.ResilientPaymentGateway;
+import com.webshop.infrastructure.persistence.CachingCustomerRepository;
+import com.webshop.infrastructure.triage.ComplaintTriagePipeline;
+import com.webshop.shared.metrics.StatsSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes the counters of infrastructure components on the stats
+ * endpoint.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatsSource paymentGatewayStats(ResilientPaymentGateway paymentGateway) {
+        return StatsSource.of("payment-gateway", paymentGateway::stats);
+    }
+
+    @Bean
+    public StatsSource customerCacheStats(CachingCustomerRepository customerRepository) {
+        return StatsSource.of("customer-cache", customerRepository::cacheStats);
+    }
+
+    @Bean
+    public StatsSource complaintTriageStats(ComplaintTriagePipeline complaintTriage) {
+        return StatsSource.of("complaint-triage", complaintTriage::stats);
+    }
+}
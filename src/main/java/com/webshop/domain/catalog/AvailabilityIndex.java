@@ -0,0 +1,200 @@
+package com.webshop.domain.catalog;
+
+import com.webshop.domain.model.OrderValidationResult;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable map from product id to stock on hand.
+ * Uses open addressing over primitive arrays with Fibonacci hashing,
+ * so a lookup is a multiply, a shift and usually a single probe,
+ * with no boxing.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class AvailabilityIndex {
+
+    /** Returned by {@link #stockOf(long)} for products that are not in the index. */
+    public static final int UNKNOWN = -1;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final long EMPTY_KEY = 0L;
+    private static final AvailabilityIndex EMPTY = new Builder(0).build();
+
+    private final long[] keys;
+    private final int[] stock;
+    private final int shift;
+    private final int size;
+    /** Key 0 marks free slots, so product id 0 is stored out of line. */
+    private final int zeroKeyStock;
+
+    private AvailabilityIndex(long[] keys, int[] stock, int shift, int size, int zeroKeyStock) {
+        this.keys = keys;
+        this.stock = stock;
+        this.shift = shift;
+        this.size = size;
+        this.zeroKeyStock = zeroKeyStock;
+    }
+
+    public static AvailabilityIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Builds an index from products; products without an id are skipped
+     * 
+     * @param products the catalog products
+     * @return the availability index
+     */
+    public static AvailabilityIndex of(Collection<Product> products) {
+        Builder builder = new Builder(products.size());
+        for (Product product : products) {
+            if (product.getId() != null) {
+                builder.put(product.getId(),
+                        product.getStockQuantity() == null ? 0 : product.getStockQuantity().getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets stock on hand for a product
+     * 
+     * @param productId the product id
+     * @return stock on hand, or {@link #UNKNOWN} if the product is not indexed
+     */
+    public int stockOf(long productId) {
+        if (productId == EMPTY_KEY) {
+            return zeroKeyStock;
+        }
+        int mask = keys.length - 1;
+        int slot = (int) ((productId * GOLDEN_RATIO) >>> shift);
+        long key;
+        while ((key = keys[slot]) != EMPTY_KEY) {
+            if (key == productId) {
+                return stock[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return UNKNOWN;
+    }
+
+    public boolean contains(long productId) {
+        return stockOf(productId) != UNKNOWN;
+    }
+
+    public boolean isAvailable(long productId) {
+        return stockOf(productId) > 0;
+    }
+
+    /**
+     * Checks whether an order line can be fulfilled from stock on hand
+     * 
+     * @param productId the ordered product, may be null
+     * @param quantity  the ordered quantity, may be null
+     * @return why the line cannot be fulfilled, or null if it can
+     */
+    public OrderValidationResult.FailureReason checkLine(Long productId, Quantity quantity) {
+        int stockOnHand = productId == null ? UNKNOWN : stockOf(productId);
+        if (stockOnHand == UNKNOWN) {
+            return OrderValidationResult.FailureReason.UNKNOWN_PRODUCT;
+        }
+        if (stockOnHand == 0) {
+            return OrderValidationResult.FailureReason.OUT_OF_STOCK;
+        }
+        if (quantity != null && quantity.getValue() > stockOnHand) {
+            return OrderValidationResult.FailureReason.INSUFFICIENT_STOCK;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Collects entries for an {@link AvailabilityIndex}; later entries for the
+     * same product replace earlier ones.
+     */
+    public static final class Builder {
+        private long[] keys;
+        private int[] stock;
+        private int shift;
+        private int size;
+        private int zeroKeyStock = UNKNOWN;
+
+        private Builder(int expectedSize) {
+            allocate(capacityFor(expectedSize));
+        }
+
+        public Builder put(long productId, int stockOnHand) {
+            if (stockOnHand < 0) {
+                throw new IllegalArgumentException("Stock cannot be negative");
+            }
+            if (productId == EMPTY_KEY) {
+                if (zeroKeyStock == UNKNOWN) {
+                    size++;
+                }
+                zeroKeyStock = stockOnHand;
+                return this;
+            }
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            if (insert(productId, stockOnHand)) {
+                size++;
+            }
+            return this;
+        }
+
+        public AvailabilityIndex build() {
+            return new AvailabilityIndex(Arrays.copyOf(keys, keys.length), Arrays.copyOf(stock, stock.length),
+                    shift, size, zeroKeyStock);
+        }
+
+        private boolean insert(long productId, int stockOnHand) {
+            int mask = keys.length - 1;
+            int slot = (int) ((productId * GOLDEN_RATIO) >>> shift);
+            while (keys[slot] != EMPTY_KEY) {
+                if (keys[slot] == productId) {
+                    stock[slot] = stockOnHand;
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = productId;
+            stock[slot] = stockOnHand;
+            return true;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldStock = stock;
+            allocate(capacity);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    insert(oldKeys[i], oldStock[i]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            stock = new int[capacity];
+            shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        private static int capacityFor(int expectedSize) {
+            // Keep the load factor at or below one half
+            return Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize) * 4 - 1));
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.webshop.domain.catalog;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Price index over products, bucketed by currency and category.
+ * Each bucket keeps prices in minor units in a sorted long array next to
+ * the matching products, so a range query is two binary searches plus a
+ * copy of the hits. Readers use an immutable snapshot without locking;
+ * a price change rebuilds only the affected buckets and publishes a new
+ * snapshot.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class PriceIndex {
+
+    private static final Comparator<Product> BY_PRICE_THEN_ID = Comparator
+            .comparingLong((Product p) -> minorUnits(p.getPrice()))
+            .thenComparingLong(Product::getId);
+
+    private volatile Map<BucketKey, Bucket> buckets = Map.of();
+    /** Where each product currently sits; only touched by writers, under the lock. */
+    private final Map<Long, Location> locations = new HashMap<>();
+
+    /**
+     * Replaces the index contents; products without id or price are skipped
+     * 
+     * @param products the catalog products
+     */
+    public synchronized void rebuild(Collection<Product> products) {
+        Map<BucketKey, List<Product>> grouped = new HashMap<>();
+        locations.clear();
+        for (Product product : products) {
+            if (isIndexable(product)) {
+                BucketKey key = keyOf(product);
+                grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(product);
+                locations.put(product.getId(), new Location(key, minorUnits(product.getPrice())));
+            }
+        }
+        Map<BucketKey, Bucket> rebuilt = new HashMap<>();
+        grouped.forEach((key, bucketProducts) -> {
+            bucketProducts.sort(BY_PRICE_THEN_ID);
+            rebuilt.put(key, Bucket.of(bucketProducts));
+        });
+        buckets = Map.copyOf(rebuilt);
+    }
+
+    /**
+     * Adds a product or moves it after a price or category change
+     * 
+     * @param product the product with its current price
+     */
+    public synchronized void update(Product product) {
+        if (!isIndexable(product)) {
+            if (product.getId() != null) {
+                remove(product.getId());
+            }
+            return;
+        }
+        Map<BucketKey, Bucket> updated = new HashMap<>(buckets);
+        Location previous = locations.get(product.getId());
+        if (previous != null) {
+            Bucket bucket = updated.get(previous.key()).without(previous.price(), product.getId());
+            putOrRemove(updated, previous.key(), bucket);
+        }
+        BucketKey key = keyOf(product);
+        long price = minorUnits(product.getPrice());
+        updated.put(key, updated.getOrDefault(key, Bucket.EMPTY).with(price, product));
+        locations.put(product.getId(), new Location(key, price));
+        buckets = Map.copyOf(updated);
+    }
+
+    public synchronized void remove(Long productId) {
+        Location previous = locations.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        Map<BucketKey, Bucket> updated = new HashMap<>(buckets);
+        putOrRemove(updated, previous.key(), updated.get(previous.key()).without(previous.price(), productId));
+        buckets = Map.copyOf(updated);
+    }
+
+    /**
+     * Finds products priced within a range, inclusive
+     * 
+     * @param category category to search, or null for all categories
+     * @param minPrice lower bound
+     * @param maxPrice upper bound, in the same currency
+     * @return matching products, ordered by price within each category
+     */
+    public List<Product> findInRange(ProductCategory category, Money minPrice, Money maxPrice) {
+        if (!minPrice.getCurrency().equals(maxPrice.getCurrency())) {
+            throw new IllegalArgumentException("Cannot compare money with different currencies");
+        }
+        long min = minorUnits(minPrice);
+        long max = minorUnits(maxPrice);
+        Map<BucketKey, Bucket> snapshot = buckets;
+        List<Product> result = new ArrayList<>();
+        if (category != null) {
+            collect(snapshot.get(new BucketKey(minPrice.getCurrency(), category)), min, max, result);
+        } else {
+            for (ProductCategory each : ProductCategory.values()) {
+                collect(snapshot.get(new BucketKey(minPrice.getCurrency(), each)), min, max, result);
+            }
+            collect(snapshot.get(new BucketKey(minPrice.getCurrency(), null)), min, max, result);
+        }
+        return result;
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(bucket -> bucket.prices.length).sum();
+    }
+
+    private static void collect(Bucket bucket, long min, long max, List<Product> result) {
+        if (bucket == null || min > max) {
+            return;
+        }
+        int from = bucket.firstIndexAtLeast(min);
+        int to = max == Long.MAX_VALUE ? bucket.prices.length : bucket.firstIndexAtLeast(max + 1);
+        result.addAll(Arrays.asList(bucket.products).subList(from, to));
+    }
+
+    private static void putOrRemove(Map<BucketKey, Bucket> map, BucketKey key, Bucket bucket) {
+        if (bucket.prices.length == 0) {
+            map.remove(key);
+        } else {
+            map.put(key, bucket);
+        }
+    }
+
+    private static boolean isIndexable(Product product) {
+        return product.getId() != null && product.getPrice() != null;
+    }
+
+    private static BucketKey keyOf(Product product) {
+        return new BucketKey(product.getPrice().getCurrency(), product.getCategory());
+    }
+
+    private static long minorUnits(Money money) {
+        try {
+            return money.toMinorUnits();
+        } catch (ArithmeticException e) {
+            // Beyond the long range; clamp, as no real price gets there
+            return money.getAmount().signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    private record BucketKey(Currency currency, ProductCategory category) {
+    }
+
+    private record Location(BucketKey key, long price) {
+    }
+
+    /**
+     * Immutable, price-sorted bucket
+     */
+    private static final class Bucket {
+        static final Bucket EMPTY = new Bucket(new long[0], new Product[0]);
+
+        final long[] prices;
+        final Product[] products;
+
+        private Bucket(long[] prices, Product[] products) {
+            this.prices = prices;
+            this.products = products;
+        }
+
+        static Bucket of(List<Product> sorted) {
+            long[] prices = new long[sorted.size()];
+            for (int i = 0; i < prices.length; i++) {
+                prices[i] = minorUnits(sorted.get(i).getPrice());
+            }
+            return new Bucket(prices, sorted.toArray(new Product[0]));
+        }
+
+        Bucket with(long price, Product product) {
+            int index = firstIndexAtLeast(price);
+            while (index < prices.length && prices[index] == price && products[index].getId() < product.getId()) {
+                index++;
+            }
+            long[] newPrices = new long[prices.length + 1];
+            Product[] newProducts = new Product[products.length + 1];
+            System.arraycopy(prices, 0, newPrices, 0, index);
+            System.arraycopy(products, 0, newProducts, 0, index);
+            newPrices[index] = price;
+            newProducts[index] = product;
+            System.arraycopy(prices, index, newPrices, index + 1, prices.length - index);
+            System.arraycopy(products, index, newProducts, index + 1, products.length - index);
+            return new Bucket(newPrices, newProducts);
+        }
+
+        Bucket without(long price, Long productId) {
+            int index = firstIndexAtLeast(price);
+            while (index < prices.length && prices[index] == price && !products[index].getId().equals(productId)) {
+                index++;
+            }
+            if (index == prices.length || prices[index] != price) {
+                return this;
+            }
+            long[] newPrices = new long[prices.length - 1];
+            Product[] newProducts = new Product[products.length - 1];
+            System.arraycopy(prices, 0, newPrices, 0, index);
+            System.arraycopy(products, 0, newProducts, 0, index);
+            System.arraycopy(prices, index + 1, newPrices, index, prices.length - index - 1);
+            System.arraycopy(products, index + 1, newProducts, index, products.length - index - 1);
+            return new Bucket(newPrices, newProducts);
+        }
+
+        int firstIndexAtLeast(long price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.webshop.domain.customer;
+
+import com.webshop.domain.model.Customer;
+
+import java.util.Optional;
+
+/**
+ * Read access to customers, implemented by the persistence layer.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface CustomerDirectory {
+
+    /**
+     * Directory without any customers
+     * 
+     * @return the empty directory
+     */
+    static CustomerDirectory empty() {
+        return customerId -> Optional.empty();
+    }
+
+    /**
+     * Finds a customer by id
+     * 
+     * @param customerId the customer id
+     * @return the customer, if it exists
+     */
+    Optional<Customer> findCustomer(Long customerId);
+}
@@ -0,0 +1,20 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a case needed to re-evaluate its priority, read without
+ * loading the full entity.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class CasePrioritySnapshot {
+    Long id;
+    Case.CaseType type;
+    Case.CasePriority priority;
+    LocalDateTime createdAt;
+}
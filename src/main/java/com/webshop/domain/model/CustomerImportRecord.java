@@ -0,0 +1,23 @@
+package com.webshop.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Raw, unvalidated customer row as received from a bulk import.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+@Builder(toBuilder = true)
+public class CustomerImportRecord {
+    String email;
+    String firstName;
+    String lastName;
+    String phoneNumber;
+    String street;
+    String city;
+    String zipCode;
+    String country;
+}
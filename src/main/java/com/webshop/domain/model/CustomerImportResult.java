@@ -0,0 +1,80 @@
+package com.webshop.domain.model;
+
+import com.webshop.domain.model.vo.Address;
+import com.webshop.domain.model.vo.EmailAddress;
+import com.webshop.domain.model.vo.PhoneNumber;
+
+/**
+ * Outcome of validating a batch of customer import rows.
+ * Values are held in arrays indexed by row; each row also has a bitmask
+ * of the {@code INVALID_*} flags, which is zero for a valid row.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class CustomerImportResult {
+
+    public static final int INVALID_EMAIL = 1;
+    public static final int INVALID_PHONE = 1 << 1;
+    public static final int INVALID_ADDRESS = 1 << 2;
+    public static final int MISSING_NAME = 1 << 3;
+
+    private final EmailAddress[] emails;
+    private final PhoneNumber[] phoneNumbers;
+    private final Address[] addresses;
+    private final byte[] errors;
+    private final int invalidCount;
+
+    public CustomerImportResult(EmailAddress[] emails, PhoneNumber[] phoneNumbers, Address[] addresses,
+            byte[] errors) {
+        this.emails = emails;
+        this.phoneNumbers = phoneNumbers;
+        this.addresses = addresses;
+        this.errors = errors;
+        int invalid = 0;
+        for (byte error : errors) {
+            if (error != 0) {
+                invalid++;
+            }
+        }
+        this.invalidCount = invalid;
+    }
+
+    public int size() {
+        return errors.length;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    public int getValidCount() {
+        return errors.length - invalidCount;
+    }
+
+    public boolean isValid(int row) {
+        return errors[row] == 0;
+    }
+
+    /**
+     * Gets the error flags of a row
+     * 
+     * @param row row index in the submitted batch
+     * @return bitmask of {@code INVALID_*} flags, zero if the row is valid
+     */
+    public int getErrors(int row) {
+        return errors[row];
+    }
+
+    public EmailAddress getEmail(int row) {
+        return emails[row];
+    }
+
+    public PhoneNumber getPhoneNumber(int row) {
+        return phoneNumbers[row];
+    }
+
+    public Address getAddress(int row) {
+        return addresses[row];
+    }
+}
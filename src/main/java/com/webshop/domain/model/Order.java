@@ -8,8 +8,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Currency;
 
@@ -26,6 +30,8 @@ import java.util.Currency;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
+    private static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +48,8 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    private Currency currency;
+
     @Embedded
     @AttributeOverrides({
             @AttributeOverride(name = "amount", column = @Column(name = "order_total_amount")),
@@ -56,8 +64,22 @@ public class Order {
     @Embedded
     private Address shippingAddress;
 
+    /** Incremented by every update, so concurrent changes of the same order are detected */
+    @Version
+    private Long version;
+
     public enum OrderStatus {
-        PENDING, CONFIRMED, PROCESSING, SHIPPED, DELIVERED, CANCELLED, RETURNED
+        PENDING, CONFIRMED, PROCESSING, SHIPPED, DELIVERED, CANCELLED, RETURNED;
+
+        /**
+         * Checks whether an order in this status may move to another status
+         * 
+         * @param target the new status
+         * @return true if {@link OrderStateMachine} allows the transition
+         */
+        public boolean canTransitionTo(OrderStatus target) {
+            return OrderStateMachine.canTransition(this, target);
+        }
     }
 
     @Entity
@@ -70,6 +92,8 @@ public class Order {
         @GeneratedValue(strategy = GenerationType.IDENTITY)
         private Long productId;
         private String productName;
+        @Enumerated(EnumType.STRING)
+        private ProductCategory category;
         @Embedded
         private Quantity quantity;
         @Embedded
@@ -88,19 +112,81 @@ public class Order {
         public void calculateTotalPrice() {
             this.totalPrice = this.unitPrice.multiply(this.quantity.getValue());
         }
+
+        /**
+         * Gets the number of units on the line
+         * 
+         * @return ordered units, 0 if no quantity is set
+         */
+        public int unitCount() {
+            return quantity == null ? 0 : quantity.getValue();
+        }
+
+        /**
+         * Gets the line total, working it out from unit price and quantity
+         * if it has not been calculated yet
+         * 
+         * @return line total, or null if it cannot be worked out
+         */
+        public Money lineTotal() {
+            if (totalPrice != null || unitPrice == null || quantity == null) {
+                return totalPrice;
+            }
+            return unitPrice.multiply(quantity.getValue());
+        }
     }
 
     /**
-     * Calculates and updates the total order amount
+     * Calculates and updates the total order amount in the order currency.
+     * Items priced in other currencies need a rate snapshot, see
+     * {@code ExchangeRateService#calculateOrderTotal}.
      */
     public void calculateTotal() {
-        // First calculate totals for each item
-        items.forEach(OrderItem::calculateTotalPrice);
+        MoneyAccumulator total = MoneyAccumulator.of(resolveCurrency());
+
+        // Calculate totals for each item and sum them up
+        for (OrderItem item : items) {
+            item.calculateTotalPrice();
+            total.add(item.getTotalPrice());
+        }
+        this.totalAmount = total.toMoney();
+    }
 
-        // Then sum up all items
-        this.totalAmount = items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(Money.zero(Currency.getInstance("USD")), Money::add);
+    /**
+     * Gets the order currency, defaulting it to the currency of the first item
+     * 
+     * @return order currency
+     */
+    public Currency resolveCurrency() {
+        if (currency == null) {
+            currency = items.isEmpty() ? DEFAULT_CURRENCY : items.get(0).getUnitPrice().getCurrency();
+        }
+        return currency;
+    }
+
+    /**
+     * Hashes what the customer submitted: the customer, currency, shipping
+     * address and items. Call it before the order is processed, which may
+     * fill in its currency.
+     * 
+     * @return SHA-256 of the submitted content, in hex
+     */
+    public String submissionHash() {
+        StringBuilder submission = new StringBuilder()
+                .append(customerId).append('|')
+                .append(currency).append('|')
+                .append(shippingAddress);
+        for (OrderItem item : items) {
+            submission.append('|').append(item.getProductId())
+                    .append('x').append(item.getQuantity())
+                    .append('@').append(item.getUnitPrice());
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(submission.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     /**
@@ -109,6 +195,7 @@ public class Order {
      * @return true if order is cancellable
      */
     public boolean isCancellable() {
-        return status == OrderStatus.PENDING || status == OrderStatus.CONFIRMED;
+        // An order not placed yet may always be cancelled
+        return status == null || status.canTransitionTo(OrderStatus.CANCELLED);
     }
 }
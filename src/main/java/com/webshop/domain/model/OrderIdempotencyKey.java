@@ -0,0 +1,40 @@
+package com.webshop.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency key a customer sent with an order submission, a hash of the
+ * submitted order, and the order the first submission created. Keys are
+ * unique per customer, so one customer cannot retrieve another's order,
+ * and shared by all nodes so a retry reaching another node is answered
+ * with the same order.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"customer_id", "idempotency_key"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "customer_id")
+    private Long customerId;
+    @Column(name = "idempotency_key")
+    private String key;
+    private String payloadHash;
+    private Long orderId;
+    private LocalDateTime createdAt;
+    @Version
+    private Long version;
+}
@@ -0,0 +1,48 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Result of processing one order of a batch.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class OrderOutcome {
+    Order order;
+    Status status;
+    List<OrderValidationResult.LineFailure> failures;
+    String message;
+
+    public static OrderOutcome confirmed(Order order) {
+        return new OrderOutcome(order, Status.CONFIRMED, List.of(), null);
+    }
+
+    public static OrderOutcome rejected(Order order, OrderValidationResult validation) {
+        return new OrderOutcome(order, Status.REJECTED, validation.getFailures(),
+                validation.isEmptyOrder() ? "Order has no items" : "Invalid order: " + validation.getFailures());
+    }
+
+    public static OrderOutcome paymentDeclined(Order order) {
+        return new OrderOutcome(order, Status.PAYMENT_DECLINED, List.of(), "Payment failed");
+    }
+
+    public static OrderOutcome failed(Order order, String message) {
+        return new OrderOutcome(order, Status.FAILED, List.of(), message);
+    }
+
+    public boolean isConfirmed() {
+        return status == Status.CONFIRMED;
+    }
+
+    public boolean isPaymentDeclined() {
+        return status == Status.PAYMENT_DECLINED;
+    }
+
+    public enum Status {
+        CONFIRMED, REJECTED, PAYMENT_DECLINED, FAILED
+    }
+}
@@ -0,0 +1,100 @@
+package com.webshop.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.webshop.domain.model.Order.OrderStatus.CANCELLED;
+import static com.webshop.domain.model.Order.OrderStatus.CONFIRMED;
+import static com.webshop.domain.model.Order.OrderStatus.DELIVERED;
+import static com.webshop.domain.model.Order.OrderStatus.PENDING;
+import static com.webshop.domain.model.Order.OrderStatus.PROCESSING;
+import static com.webshop.domain.model.Order.OrderStatus.RETURNED;
+import static com.webshop.domain.model.Order.OrderStatus.SHIPPED;
+
+/**
+ * The allowed order status transitions, precomputed into one bitmask of
+ * target statuses per source status, indexed by ordinal. Checking a
+ * transition is an array read and a bit test, so bulk status changes can
+ * validate every change without allocating or throwing. An order without a
+ * status has not been placed yet and may become pending, confirmed or
+ * cancelled. Moving an order to the status it already has is not a
+ * transition.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class OrderStateMachine {
+
+    private static final Order.OrderStatus[] STATUSES = Order.OrderStatus.values();
+    private static final int UNPLACED = STATUSES.length;
+
+    /** Allowed target statuses by source ordinal, the last row for an order without a status */
+    private static final int[] SUCCESSORS = new int[STATUSES.length + 1];
+    /** Allowed source statuses by target ordinal, not counting orders without a status */
+    private static final List<List<Order.OrderStatus>> PREDECESSORS = new ArrayList<>(STATUSES.length);
+
+    static {
+        allow(null, PENDING, CONFIRMED, CANCELLED);
+        allow(PENDING, CONFIRMED, CANCELLED);
+        allow(CONFIRMED, PROCESSING, SHIPPED, CANCELLED);
+        allow(PROCESSING, SHIPPED);
+        allow(SHIPPED, DELIVERED);
+        allow(DELIVERED, RETURNED);
+
+        for (Order.OrderStatus target : STATUSES) {
+            List<Order.OrderStatus> sources = new ArrayList<>();
+            for (Order.OrderStatus source : STATUSES) {
+                if (canTransition(source, target)) {
+                    sources.add(source);
+                }
+            }
+            PREDECESSORS.add(List.copyOf(sources));
+        }
+    }
+
+    private OrderStateMachine() {
+    }
+
+    private static void allow(Order.OrderStatus from, Order.OrderStatus... targets) {
+        for (Order.OrderStatus target : targets) {
+            SUCCESSORS[from == null ? UNPLACED : from.ordinal()] |= 1 << target.ordinal();
+        }
+    }
+
+    /**
+     * Checks whether an order may move from one status to another
+     *
+     * @param from current status, null for an order not placed yet
+     * @param to   the new status
+     * @return true if the transition is allowed
+     */
+    public static boolean canTransition(Order.OrderStatus from, Order.OrderStatus to) {
+        return to != null && (SUCCESSORS[from == null ? UNPLACED : from.ordinal()] & 1 << to.ordinal()) != 0;
+    }
+
+    /**
+     * Moves an order to a new status if its current status allows it
+     *
+     * @param order  the order
+     * @param target the new status
+     * @return true if the status was changed, false if the order was left as it was
+     */
+    public static boolean transition(Order order, Order.OrderStatus target) {
+        if (!canTransition(order.getStatus(), target)) {
+            return false;
+        }
+        order.setStatus(target);
+        return true;
+    }
+
+    /**
+     * Gets the statuses a placed order may move to a status from
+     *
+     * @param target the status
+     * @return the allowed source statuses in declaration order; empty if no
+     *         placed order can reach the status
+     */
+    public static List<Order.OrderStatus> predecessors(Order.OrderStatus target) {
+        return PREDECESSORS.get(target.ordinal());
+    }
+}
@@ -0,0 +1,17 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+/**
+ * Requested move of one order to a new status.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class OrderStatusChange {
+    Long orderId;
+    Order.OrderStatus status;
+    /** Version the order must still have, or null to accept any version */
+    Long expectedVersion;
+}
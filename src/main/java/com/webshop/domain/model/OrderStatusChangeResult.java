@@ -0,0 +1,45 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+/**
+ * Result of one requested order status change.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class OrderStatusChangeResult {
+    Long orderId;
+    Outcome outcome;
+    /** Status of the order after the change; null if the order does not exist */
+    Order.OrderStatus status;
+
+    public static OrderStatusChangeResult applied(Long orderId, Order.OrderStatus status) {
+        return new OrderStatusChangeResult(orderId, Outcome.APPLIED, status);
+    }
+
+    public static OrderStatusChangeResult notFound(Long orderId) {
+        return new OrderStatusChangeResult(orderId, Outcome.NOT_FOUND, null);
+    }
+
+    public static OrderStatusChangeResult invalidTransition(Long orderId, Order.OrderStatus status) {
+        return new OrderStatusChangeResult(orderId, Outcome.INVALID_TRANSITION, status);
+    }
+
+    public static OrderStatusChangeResult versionConflict(Long orderId, Order.OrderStatus status) {
+        return new OrderStatusChangeResult(orderId, Outcome.VERSION_CONFLICT, status);
+    }
+
+    public boolean isApplied() {
+        return outcome == Outcome.APPLIED;
+    }
+
+    public boolean isNotFound() {
+        return outcome == Outcome.NOT_FOUND;
+    }
+
+    public enum Outcome {
+        APPLIED, NOT_FOUND, INVALID_TRANSITION, VERSION_CONFLICT
+    }
+}
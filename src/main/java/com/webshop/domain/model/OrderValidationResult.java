@@ -0,0 +1,50 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Outcome of validating an order against product availability.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class OrderValidationResult {
+    private static final OrderValidationResult EMPTY_ORDER = new OrderValidationResult(true, List.of());
+    private static final OrderValidationResult VALID = new OrderValidationResult(false, List.of());
+
+    boolean emptyOrder;
+    List<LineFailure> failures;
+
+    public static OrderValidationResult valid() {
+        return VALID;
+    }
+
+    public static OrderValidationResult emptyOrder() {
+        return EMPTY_ORDER;
+    }
+
+    public static OrderValidationResult withFailures(List<LineFailure> failures) {
+        return failures.isEmpty() ? VALID : new OrderValidationResult(false, List.copyOf(failures));
+    }
+
+    public boolean isValid() {
+        return !emptyOrder && failures.isEmpty();
+    }
+
+    public enum FailureReason {
+        UNKNOWN_PRODUCT, OUT_OF_STOCK, INSUFFICIENT_STOCK
+    }
+
+    /**
+     * A rejected order line
+     */
+    @Value
+    public static class LineFailure {
+        int lineIndex;
+        Long productId;
+        FailureReason reason;
+    }
+}
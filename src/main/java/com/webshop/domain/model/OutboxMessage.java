@@ -0,0 +1,70 @@
+package com.webshop.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Notification written to the outbox in the transaction of the change it
+ * reports, and delivered after that transaction committed.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = @Index(name = "idx_notification_outbox_status", columnList = "status, id"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    /** Customer whose address the message goes to; null if sent to a fixed recipient */
+    private Long customerId;
+    private String recipient;
+    private String subject;
+    @Column(length = 4000)
+    private String content;
+    @Enumerated(EnumType.STRING)
+    private Status status;
+    private int attempts;
+    private LocalDateTime createdAt;
+    private LocalDateTime processedAt;
+    @Column(length = 1000)
+    private String lastError;
+
+    public enum Status {
+        PENDING, SENT, FAILED
+    }
+
+    /**
+     * Records a delivery
+     * 
+     * @param at time of delivery
+     */
+    public void markSent(LocalDateTime at) {
+        this.attempts++;
+        this.status = Status.SENT;
+        this.processedAt = at;
+        this.lastError = null;
+    }
+
+    /**
+     * Records a failed delivery attempt, giving up after the last attempt
+     * 
+     * @param at          time of the attempt
+     * @param error       why delivery failed
+     * @param maxAttempts attempts after which the message is not retried
+     */
+    public void markAttemptFailed(LocalDateTime at, String error, int maxAttempts) {
+        this.attempts++;
+        this.status = attempts >= maxAttempts ? Status.FAILED : Status.PENDING;
+        this.processedAt = at;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
@@ -0,0 +1,27 @@
+package com.webshop.domain.model;
+
+import lombok.Value;
+
+/**
+ * Totals of a whole-catalog restock planning run.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class RestockPlanSummary {
+    long productsScanned;
+    long productsToRestock;
+    long unitsToOrder;
+
+    /**
+     * Adds the totals of another run, e.g. of the next page
+     * 
+     * @param other totals to add
+     * @return combined totals
+     */
+    public RestockPlanSummary plus(RestockPlanSummary other) {
+        return new RestockPlanSummary(productsScanned + other.productsScanned,
+                productsToRestock + other.productsToRestock, unitsToOrder + other.unitsToOrder);
+    }
+}
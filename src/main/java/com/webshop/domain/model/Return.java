@@ -7,8 +7,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Currency;
 import java.util.List;
 
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.MoneyAccumulator;
+
 /**
  * Return entity for handling product returns.
  * 
@@ -71,6 +75,27 @@ public class Return {
         return requestDate.isBefore(orderDate.plusDays(30));
     }
 
+    /**
+     * Sums the item refunds in minor units and stores the result as the
+     * refund amount
+     * 
+     * @param currency currency of the original order
+     * @return total refund
+     */
+    public Money calculateRefundAmount(Currency currency) {
+        MoneyAccumulator total = MoneyAccumulator.of(currency);
+        if (items != null) {
+            for (ReturnItem item : items) {
+                if (item.getRefundAmount() != null) {
+                    total.add(Money.of(item.getRefundAmount(), currency));
+                }
+            }
+        }
+        Money refund = total.toMoney();
+        this.refundAmount = refund.getAmount();
+        return refund;
+    }
+
     /**
      * Approves the return request
      */
@@ -38,6 +38,22 @@ public class Address {
         return new Address(street, city, zipCode, country);
     }
 
+    /**
+     * Creates an address without throwing
+     *
+     * @return the address, or null if any part is null or blank
+     */
+    public static Address tryOf(String street, String city, String zipCode, String country) {
+        if (isBlank(street) || isBlank(city) || isBlank(zipCode) || isBlank(country)) {
+            return null;
+        }
+        return new Address(street, city, zipCode, country);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
     @Override
     public String toString() {
         return String.format("%s, %s %s, %s", street, city, zipCode, country);
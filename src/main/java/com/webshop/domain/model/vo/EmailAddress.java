@@ -4,7 +4,6 @@ import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.Value;
-import java.util.regex.Pattern;
 
 @Embeddable
 @Value
@@ -13,8 +12,6 @@ public class EmailAddress {
     @jakarta.persistence.Column(name = "email_value")
     String value;
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
-
     private EmailAddress(String value) {
         this.value = value;
     }
@@ -23,10 +20,47 @@ public class EmailAddress {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email cannot be null or empty");
         }
-        if (!EMAIL_PATTERN.matcher(email).matches()) {
+        EmailAddress parsed = tryParse(email);
+        if (parsed == null) {
             throw new IllegalArgumentException("Invalid email format");
         }
-        return new EmailAddress(email.toLowerCase().trim());
+        return parsed;
+    }
+
+    /**
+     * Parses an email address in a single pass without throwing
+     *
+     * @param email raw email address
+     * @return the email address, or null if it is invalid
+     */
+    public static EmailAddress tryParse(String email) {
+        if (email == null) {
+            return null;
+        }
+        int length = email.length();
+        int at = 0;
+        while (at < length && isLocalPartChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at >= length - 1 || email.charAt(at) != '@') {
+            return null;
+        }
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(email.charAt(i))) {
+                return null;
+            }
+        }
+        String normalized = email.toLowerCase().trim();
+        return normalized.isEmpty() ? null : new EmailAddress(normalized);
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     @Override
@@ -0,0 +1,149 @@
+package com.webshop.domain.model.vo;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Map;
+
+/**
+ * Immutable, versioned snapshot of exchange rates.
+ * Currencies are addressed by their ISO 4217 numeric code, and cross rates
+ * are precomputed into a flat matrix, so a conversion is two array lookups
+ * and a multiply. A refresh publishes a whole new table.
+ */
+public final class FxRateTable {
+
+    private static final int NUMERIC_CODE_SPACE = 1000;
+    private static final FxRateTable IDENTITY = new FxRateTable(0, null, new short[NUMERIC_CODE_SPACE],
+            new Currency[0], new double[0]);
+
+    private final long version;
+    private final Currency baseCurrency;
+    private final short[] slotByNumericCode;
+    private final Currency[] currencyBySlot;
+    private final double[] crossRates;
+
+    private FxRateTable(long version, Currency baseCurrency, short[] slotByNumericCode,
+            Currency[] currencyBySlot, double[] crossRates) {
+        this.version = version;
+        this.baseCurrency = baseCurrency;
+        this.slotByNumericCode = slotByNumericCode;
+        this.currencyBySlot = currencyBySlot;
+        this.crossRates = crossRates;
+    }
+
+    /**
+     * Table that only converts a currency to itself
+     *
+     * @return the identity table
+     */
+    public static FxRateTable identity() {
+        return IDENTITY;
+    }
+
+    /**
+     * Builds a table from rates quoted against a base currency
+     *
+     * @param version      monotonically increasing snapshot version
+     * @param baseCurrency the quote base
+     * @param unitsPerBase units of each currency bought by one unit of the base currency
+     * @return the rate table
+     */
+    public static FxRateTable of(long version, Currency baseCurrency, Map<Currency, Double> unitsPerBase) {
+        if (baseCurrency == null || unitsPerBase == null) {
+            throw new IllegalArgumentException("Base currency and rates cannot be null");
+        }
+        short[] slots = new short[NUMERIC_CODE_SPACE];
+        Currency[] currencies = new Currency[unitsPerBase.size() + 1];
+        double[] perBase = new double[currencies.length];
+        int size = 0;
+        slots[numericCode(baseCurrency)] = (short) ++size;
+        currencies[0] = baseCurrency;
+        perBase[0] = 1.0;
+        for (Map.Entry<Currency, Double> entry : unitsPerBase.entrySet()) {
+            Currency currency = entry.getKey();
+            Double rate = entry.getValue();
+            if (rate == null || !(rate > 0) || Double.isInfinite(rate)) {
+                throw new IllegalArgumentException("Invalid exchange rate for " + currency);
+            }
+            if (currency.equals(baseCurrency)) {
+                continue;
+            }
+            int code = numericCode(currency);
+            if (slots[code] != 0) {
+                throw new IllegalArgumentException("Numeric code of " + currency + " clashes with "
+                        + currencies[slots[code] - 1]);
+            }
+            slots[code] = (short) ++size;
+            currencies[size - 1] = currency;
+            perBase[size - 1] = rate;
+        }
+
+        double[] crossRates = new double[size * size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                crossRates[from * size + to] = from == to ? 1.0 : perBase[to] / perBase[from];
+            }
+        }
+        return new FxRateTable(version, baseCurrency, slots, Arrays.copyOf(currencies, size), crossRates);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Currency getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public boolean supports(Currency currency) {
+        return slotOf(currency) >= 0;
+    }
+
+    /**
+     * Gets the rate converting one unit of a currency into another
+     *
+     * @param from source currency
+     * @param to   target currency
+     * @return units of the target currency per unit of the source currency
+     * @throws IllegalArgumentException if either currency is not in the table
+     */
+    public double rate(Currency from, Currency to) {
+        if (from.equals(to)) {
+            return 1.0;
+        }
+        int fromSlot = slotOf(from);
+        int toSlot = slotOf(to);
+        if (fromSlot < 0 || toSlot < 0) {
+            throw new IllegalArgumentException(
+                    "No exchange rate from " + from.getCurrencyCode() + " to " + to.getCurrencyCode());
+        }
+        return crossRates[fromSlot * currencyBySlot.length + toSlot];
+    }
+
+    public Money convert(Money money, Currency target) {
+        return MoneyAccumulator.of(target).add(money, this).toMoney();
+    }
+
+    private int slotOf(Currency currency) {
+        int code = currency.getNumericCode();
+        if (code < 0 || code >= NUMERIC_CODE_SPACE) {
+            return -1;
+        }
+        int slot = slotByNumericCode[code] - 1;
+        // Currency instances are singletons; a few legacy codes share a numeric code
+        return slot >= 0 && currencyBySlot[slot] == currency ? slot : -1;
+    }
+
+    private static int numericCode(Currency currency) {
+        int code = currency.getNumericCode();
+        if (code < 0 || code >= NUMERIC_CODE_SPACE) {
+            throw new IllegalArgumentException("Unsupported currency: " + currency.getCurrencyCode());
+        }
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return "FxRateTable[version=" + version + ", base=" + baseCurrency + ", currencies=" + currencyBySlot.length + "]";
+    }
+}
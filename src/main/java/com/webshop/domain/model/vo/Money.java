@@ -2,6 +2,7 @@ package com.webshop.domain.model.vo;
 
 import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Value;
 import java.math.BigDecimal;
@@ -12,12 +13,35 @@ import java.util.Currency;
 @Value
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 public class Money {
+    static final int SCALE = 2;
+    private static final long MAX_COMPACT_UNITS = 999_999_999_999_999_999L;
+    /** Zero values by ISO 4217 numeric code, filled on first use; racing writers store equal values. */
+    private static final Money[] ZEROS = new Money[1000];
+
     BigDecimal amount;
     Currency currency;
 
+    /**
+     * Amount in minor units (hundredths), valid only when {@link #compact} is set.
+     * Instances materialized by JPA keep the defaults and use the BigDecimal path.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    transient long minorUnits;
+    @Getter(AccessLevel.PACKAGE)
+    transient boolean compact;
+
     private Money(BigDecimal amount, Currency currency) {
-        this.amount = amount.setScale(2, RoundingMode.HALF_UP);
+        this.amount = amount.setScale(SCALE, RoundingMode.HALF_UP);
+        this.currency = currency;
+        this.compact = this.amount.precision() <= 18;
+        this.minorUnits = compact ? this.amount.unscaledValue().longValue() : 0;
+    }
+
+    private Money(long minorUnits, Currency currency) {
+        this.amount = BigDecimal.valueOf(minorUnits, SCALE);
         this.currency = currency;
+        this.compact = Math.abs(minorUnits) <= MAX_COMPACT_UNITS;
+        this.minorUnits = minorUnits;
     }
 
     public static Money of(BigDecimal amount, Currency currency) {
@@ -31,36 +55,73 @@ public class Money {
         return of(BigDecimal.valueOf(amount), currency);
     }
 
+    public static Money ofMinorUnits(long minorUnits, Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Amount and currency cannot be null");
+        }
+        return new Money(minorUnits, currency);
+    }
+
     public static Money zero(Currency currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        int code = currency.getNumericCode();
+        if (code < 0 || code >= ZEROS.length) {
+            return new Money(0L, currency);
+        }
+        Money zero = ZEROS[code];
+        // A few legacy currencies share a numeric code
+        if (zero == null || zero.currency != currency) {
+            zero = new Money(0L, currency);
+            ZEROS[code] = zero;
+        }
+        return zero;
     }
 
     public Money add(Money other) {
         validateSameCurrency(other);
+        if (compact && other.compact) {
+            return new Money(this.minorUnits + other.minorUnits, this.currency);
+        }
         return new Money(this.amount.add(other.amount), this.currency);
     }
 
     public Money subtract(Money other) {
         validateSameCurrency(other);
+        if (compact && other.compact) {
+            return new Money(this.minorUnits - other.minorUnits, this.currency);
+        }
         return new Money(this.amount.subtract(other.amount), this.currency);
     }
 
     public Money multiply(int quantity) {
+        if (compact && (quantity == 0 || Math.abs(minorUnits) <= MAX_COMPACT_UNITS / Math.abs((long) quantity))) {
+            return new Money(this.minorUnits * quantity, this.currency);
+        }
         return new Money(this.amount.multiply(new BigDecimal(quantity)), this.currency);
     }
 
     public Money multiply(double factor) {
+        if (factor == (int) factor) {
+            return multiply((int) factor);
+        }
         return new Money(this.amount.multiply(BigDecimal.valueOf(factor)), this.currency);
     }
 
     public boolean isGreaterThan(Money other) {
-        validateSameCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        return compareTo(other) > 0;
     }
 
     public boolean isLessThan(Money other) {
-        validateSameCurrency(other);
-        return this.amount.compareTo(other.amount) < 0;
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Returns the amount in minor units (hundredths of the currency unit).
+     *
+     * @return amount in minor units
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public long toMinorUnits() {
+        return compact ? minorUnits : amount.movePointRight(SCALE).longValueExact();
     }
 
     public boolean equals(Object obj) {
@@ -70,6 +131,9 @@ public class Money {
             return false;
 
         Money other = (Money) obj;
+        if (compact && other.compact) {
+            return minorUnits == other.minorUnits && currency.equals(other.currency);
+        }
         return currency.equals(other.currency) && amount.compareTo(other.amount) == 0;
     }
 
@@ -77,6 +141,14 @@ public class Money {
         return 31 * amount.hashCode() + currency.hashCode();
     }
 
+    private int compareTo(Money other) {
+        validateSameCurrency(other);
+        if (compact && other.compact) {
+            return Long.compare(this.minorUnits, other.minorUnits);
+        }
+        return this.amount.compareTo(other.amount);
+    }
+
     private void validateSameCurrency(Money other) {
         if (!this.currency.equals(other.currency)) {
             throw new IllegalArgumentException("Cannot compare money with different currencies");
@@ -0,0 +1,126 @@
+package com.webshop.domain.model.vo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.stream.Collector;
+
+/**
+ * Mutable, currency-checked running total of {@link Money} values.
+ * Amounts are summed as long minor units so adding does not allocate;
+ * anything that does not fit in a long is carried in a BigDecimal remainder.
+ * Instances are not thread-safe; use {@link #summing(Currency)} for parallel streams.
+ */
+public final class MoneyAccumulator {
+
+    private final Currency currency;
+    private long minorUnits;
+    private BigDecimal remainder;
+
+    private MoneyAccumulator(Currency currency) {
+        this.currency = currency;
+    }
+
+    public static MoneyAccumulator of(Currency currency) {
+        if (currency == null) {
+            throw new IllegalArgumentException("Currency cannot be null");
+        }
+        return new MoneyAccumulator(currency);
+    }
+
+    /**
+     * Collector summing money values into a single {@link Money} in the given currency
+     *
+     * @param currency currency of the total, also used for an empty stream
+     * @return summing collector
+     */
+    public static Collector<Money, MoneyAccumulator, Money> summing(Currency currency) {
+        return Collector.of(
+                () -> of(currency),
+                MoneyAccumulator::add,
+                MoneyAccumulator::merge,
+                MoneyAccumulator::toMoney,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public MoneyAccumulator add(Money money) {
+        if (!currency.equals(money.getCurrency())) {
+            throw new IllegalArgumentException("Cannot add money with different currencies");
+        }
+        if (money.isCompact()) {
+            addMinorUnits(money.getMinorUnits());
+        } else {
+            addToRemainder(money.getAmount());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a value after converting it into this accumulator's currency,
+     * rounded exactly like {@link Money#multiply(double)}
+     *
+     * @param money the value, in any currency known to the rate table
+     * @param rates the exchange rate snapshot to convert with
+     * @return this accumulator
+     */
+    public MoneyAccumulator add(Money money, FxRateTable rates) {
+        if (currency.equals(money.getCurrency())) {
+            return add(money);
+        }
+        Money converted = money.multiply(rates.rate(money.getCurrency(), currency));
+        if (converted.isCompact()) {
+            addMinorUnits(converted.getMinorUnits());
+        } else {
+            addToRemainder(converted.getAmount());
+        }
+        return this;
+    }
+
+    /**
+     * Adds a raw amount that is already expressed in this accumulator's currency
+     *
+     * @param amount the amount, rounded like {@link Money}
+     * @return this accumulator
+     */
+    public MoneyAccumulator add(BigDecimal amount) {
+        addToRemainder(amount.setScale(Money.SCALE, RoundingMode.HALF_UP));
+        return this;
+    }
+
+    public MoneyAccumulator merge(MoneyAccumulator other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Cannot add money with different currencies");
+        }
+        addMinorUnits(other.minorUnits);
+        if (other.remainder != null) {
+            addToRemainder(other.remainder);
+        }
+        return this;
+    }
+
+    public Money toMoney() {
+        if (remainder == null) {
+            return Money.ofMinorUnits(minorUnits, currency);
+        }
+        return Money.of(remainder.add(BigDecimal.valueOf(minorUnits, Money.SCALE)), currency);
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    void addMinorUnits(long units) {
+        long sum = minorUnits + units;
+        // Same overflow test as Math.addExact, without the exception
+        if (((minorUnits ^ sum) & (units ^ sum)) < 0) {
+            addToRemainder(BigDecimal.valueOf(minorUnits, Money.SCALE));
+            minorUnits = units;
+        } else {
+            minorUnits = sum;
+        }
+    }
+
+    private void addToRemainder(BigDecimal amount) {
+        remainder = remainder == null ? amount : remainder.add(amount);
+    }
+}
@@ -0,0 +1,10 @@
+package com.webshop.domain.model.vo;
+
+/**
+ * Source of new, unique order numbers.
+ */
+@FunctionalInterface
+public interface OrderNumberGenerator {
+
+    OrderNumber next();
+}
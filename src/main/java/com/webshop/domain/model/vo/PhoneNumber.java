@@ -4,7 +4,6 @@ import jakarta.persistence.Embeddable;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.Value;
-import java.util.regex.Pattern;
 
 @Embeddable
 @Value
@@ -13,7 +12,8 @@ public class PhoneNumber {
     @jakarta.persistence.Column(name = "phone_value")
     String value;
 
-    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+?[1-9]\\d{1,14}$");
+    private static final int MIN_DIGITS = 2;
+    private static final int MAX_DIGITS = 15;
 
     private PhoneNumber(String value) {
         this.value = value;
@@ -24,11 +24,51 @@ public class PhoneNumber {
             throw new IllegalArgumentException("Phone number cannot be null or empty");
         }
 
-        String normalized = phoneNumber.replaceAll("[\\s-()]", "");
-        if (!PHONE_PATTERN.matcher(normalized).matches()) {
+        PhoneNumber parsed = tryParse(phoneNumber);
+        if (parsed == null) {
             throw new IllegalArgumentException("Invalid phone number format");
         }
-        return new PhoneNumber(normalized);
+        return parsed;
+    }
+
+    /**
+     * Parses a phone number in a single pass without throwing.
+     * Whitespace, dashes and parentheses are dropped; the rest must be an
+     * optional leading '+' and 2-15 digits not starting with 0.
+     *
+     * @param phoneNumber raw phone number
+     * @return the phone number, or null if it is invalid
+     */
+    public static PhoneNumber tryParse(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        char[] normalized = new char[MAX_DIGITS + 1];
+        int length = 0;
+        int digits = 0;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char c = phoneNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if ((digits == 0 && c == '0') || digits == MAX_DIGITS) {
+                    return null;
+                }
+                normalized[length++] = c;
+                digits++;
+            } else if (c == '+') {
+                if (length != 0) {
+                    return null;
+                }
+                normalized[length++] = c;
+            } else if (!isSeparator(c)) {
+                return null;
+            }
+        }
+        return digits < MIN_DIGITS ? null : new PhoneNumber(new String(normalized, 0, length));
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                || c == '-' || c == '(' || c == ')';
     }
 
     @Override
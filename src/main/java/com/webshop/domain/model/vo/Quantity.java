@@ -9,6 +9,14 @@ import lombok.Value;
 @Value
 @NoArgsConstructor(force = true, access = AccessLevel.PROTECTED)
 public class Quantity {
+    private static final Quantity[] CACHE = new Quantity[1024];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new Quantity(i);
+        }
+    }
+
     @jakarta.persistence.Column(name = "quantity_value")
     int value;
 
@@ -20,19 +28,22 @@ public class Quantity {
     }
 
     public static Quantity of(int value) {
+        if (value >= 0 && value < CACHE.length) {
+            return CACHE[value];
+        }
         return new Quantity(value);
     }
 
     public static Quantity zero() {
-        return new Quantity(0);
+        return CACHE[0];
     }
 
     public Quantity add(Quantity other) {
-        return new Quantity(this.value + other.value);
+        return of(this.value + other.value);
     }
 
     public Quantity subtract(Quantity other) {
-        return new Quantity(this.value - other.value);
+        return of(this.value - other.value);
     }
 
     public boolean isGreaterThan(Quantity other) {
@@ -12,22 +12,97 @@ public class SKU {
     @jakarta.persistence.Column(name = "sku_value")
     String value;
 
-    private static final String SKU_PATTERN = "^[A-Z0-9]{8,15}$";
+    private static final int MIN_LENGTH = 8;
+    private static final int MAX_LENGTH = 15;
+    private static final int RADIX = 36;
+    /** Longest SKU whose packed form fits in a non-negative long (36^13 exceeds 2^63). */
+    private static final int MAX_PACKED_LENGTH = 12;
 
     private SKU(String value) {
         this.value = value;
     }
 
     public static SKU of(String sku) {
-        if (sku == null || sku.trim().isEmpty()) {
+        if (sku == null) {
             throw new IllegalArgumentException("SKU cannot be null or empty");
         }
+        int start = 0;
+        int end = sku.length();
+        while (start < end && sku.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && sku.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            throw new IllegalArgumentException("SKU cannot be null or empty");
+        }
+        int length = end - start;
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            throw invalidFormat();
+        }
+        char[] normalized = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = sku.charAt(start + i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            } else if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                throw invalidFormat();
+            }
+            normalized[i] = c;
+        }
+        return new SKU(new String(normalized));
+    }
+
+    /**
+     * Restores a SKU from its packed form
+     *
+     * @param packed value returned by {@link #packed()}
+     * @return the SKU
+     */
+    public static SKU fromPacked(long packed) {
+        char[] buffer = new char[MAX_PACKED_LENGTH];
+        int position = buffer.length;
+        long remaining = packed;
+        while (remaining > 0 && position > 0) {
+            remaining--;
+            int digit = (int) (remaining % RADIX);
+            buffer[--position] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+            remaining /= RADIX;
+        }
+        int length = buffer.length - position;
+        if (remaining != 0 || length < MIN_LENGTH) {
+            throw new IllegalArgumentException("Invalid packed SKU: " + packed);
+        }
+        return new SKU(new String(buffer, position, length));
+    }
+
+    public boolean isPackable() {
+        return value.length() <= MAX_PACKED_LENGTH;
+    }
 
-        String normalized = sku.toUpperCase().trim();
-        if (!normalized.matches(SKU_PATTERN)) {
-            throw new IllegalArgumentException("Invalid SKU format. Must be 8-15 alphanumeric characters");
+    /**
+     * Packs the SKU into a long using bijective base-36, so the length is
+     * implied by the value. Packed values sort shorter SKUs first, then
+     * alphanumerically, and are always positive.
+     *
+     * @return packed SKU
+     * @throws ArithmeticException if the SKU is longer than 12 characters
+     */
+    public long packed() {
+        if (!isPackable()) {
+            throw new ArithmeticException("SKU too long to pack: " + value);
+        }
+        long packed = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            packed = packed * RADIX + (c <= '9' ? c - '0' : c - 'A' + 10) + 1;
         }
-        return new SKU(normalized);
+        return packed;
+    }
+
+    private static IllegalArgumentException invalidFormat() {
+        return new IllegalArgumentException("Invalid SKU format. Must be 8-15 alphanumeric characters");
     }
 
     @Override
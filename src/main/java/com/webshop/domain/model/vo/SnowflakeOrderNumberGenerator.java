@@ -0,0 +1,73 @@
+package com.webshop.domain.model.vo;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, time-ordered order number generator.
+ * Each id packs 41 bits of milliseconds since 2024-01-01, a 10 bit node id
+ * and a 12 bit sequence, and is rendered as 13 Crockford base-32 characters,
+ * so order numbers sort by creation time both as numbers and as strings.
+ * Ids are strictly increasing per generator; when more than 4096 are drawn in
+ * one millisecond, or the clock steps back, the generator runs ahead of the
+ * clock instead of blocking. Nodes must be configured with distinct ids.
+ */
+public final class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    public static final int MAX_NODE_ID = (1 << 10) - 1;
+
+    private static final String PREFIX = "ORD-";
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    /** Last issued (timestamp << SEQUENCE_BITS | sequence). */
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public SnowflakeOrderNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    SnowflakeOrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    @Override
+    public OrderNumber next() {
+        return OrderNumber.of(encode(nextId()));
+    }
+
+    long nextId() {
+        long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long last;
+        long tick;
+        do {
+            last = lastTick.get();
+            tick = Math.max(last + 1, now);
+        } while (!lastTick.compareAndSet(last, tick));
+
+        long timestamp = tick >>> SEQUENCE_BITS;
+        long sequence = tick & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        long remaining = id;
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (remaining & 31)];
+            remaining >>>= 5;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,76 @@
+package com.webshop.domain.pricing;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.vo.ProductCategory;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A percentage discount and the conditions under which it applies.
+ * Unset conditions match every order. Rules are not evaluated directly;
+ * they are compiled into a {@link DiscountRuleSet}.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+@Builder
+public class DiscountRule {
+
+    String name;
+
+    /** Customer types the rule applies to; empty for all customers */
+    @Singular
+    Set<Customer.CustomerType> customerTypes;
+
+    /** Category whose items are discounted; null to discount the whole basket */
+    ProductCategory category;
+
+    /** Currency the order must be in; null for any currency */
+    Currency currency;
+
+    /** The discounted amount must exceed this value; null for no threshold */
+    BigDecimal spendThreshold;
+
+    /** Minimum number of units in the basket */
+    int minimumItems;
+
+    /** Start of the validity window, inclusive; null if open */
+    LocalDateTime validFrom;
+
+    /** End of the validity window, exclusive; null if open */
+    LocalDateTime validUntil;
+
+    /** Discount in percent, with at most two decimals */
+    BigDecimal percentage;
+
+    /**
+     * Rules applied until marketing publishes a rule set: 15% for VIP
+     * customers and 5% for everyone else, on orders over 100
+     *
+     * @return the default rules
+     */
+    static List<DiscountRule> defaults() {
+        return List.of(
+                DiscountRule.builder()
+                        .name("VIP")
+                        .customerType(Customer.CustomerType.VIP)
+                        .spendThreshold(BigDecimal.valueOf(100))
+                        .percentage(BigDecimal.valueOf(15))
+                        .build(),
+                DiscountRule.builder()
+                        .name("Standard")
+                        .customerType(Customer.CustomerType.REGULAR)
+                        .customerType(Customer.CustomerType.PREMIUM)
+                        .spendThreshold(BigDecimal.valueOf(100))
+                        .percentage(BigDecimal.valueOf(5))
+                        .build());
+    }
+}
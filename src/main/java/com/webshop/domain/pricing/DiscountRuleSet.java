@@ -0,0 +1,220 @@
+package com.webshop.domain.pricing;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Immutable, versioned set of discount rules compiled into a flat decision
+ * table. Every rule becomes one column in parallel primitive arrays:
+ * category ordinal, currency, threshold in minor units, unit count, validity
+ * window in epoch seconds and rate in basis points. Rules are pre-grouped by
+ * customer type ordinal and ordered by descending rate, so evaluating an
+ * order walks one row and stops as soon as no remaining rule can beat the
+ * best discount found. The best single discount wins; rules do not stack.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class DiscountRuleSet {
+
+    private static final int ANY = -1;
+    private static final long BASIS_POINTS = 10_000;
+    private static final int CATEGORY_COUNT = ProductCategory.values().length;
+    private static final int CUSTOMER_TYPE_COUNT = Customer.CustomerType.values().length;
+
+    private static final DiscountRuleSet DEFAULTS = compile(0, DiscountRule.defaults());
+
+    private final long version;
+    private final List<DiscountRule> rules;
+    /** Rule indexes by customer type ordinal, the last row for an unknown type; highest rate first */
+    private final int[][] candidates;
+    private final int[] category;
+    private final Currency[] currency;
+    private final long[] thresholdUnits;
+    private final int[] minimumItems;
+    private final long[] validFrom;
+    private final long[] validUntil;
+    private final long[] basisPoints;
+    private final boolean hasCategoryRules;
+
+    private DiscountRuleSet(long version, List<DiscountRule> rules) {
+        int size = rules.size();
+        this.version = version;
+        this.rules = rules;
+        this.category = new int[size];
+        this.currency = new Currency[size];
+        this.thresholdUnits = new long[size];
+        this.minimumItems = new int[size];
+        this.validFrom = new long[size];
+        this.validUntil = new long[size];
+        this.basisPoints = new long[size];
+
+        boolean categoryRules = false;
+        for (int i = 0; i < size; i++) {
+            DiscountRule rule = rules.get(i);
+            category[i] = rule.getCategory() == null ? ANY : rule.getCategory().ordinal();
+            categoryRules |= rule.getCategory() != null;
+            currency[i] = rule.getCurrency();
+            thresholdUnits[i] = rule.getSpendThreshold() == null ? Long.MIN_VALUE
+                    : rule.getSpendThreshold().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact();
+            minimumItems[i] = rule.getMinimumItems();
+            validFrom[i] = rule.getValidFrom() == null ? Long.MIN_VALUE : epochSecond(rule.getValidFrom());
+            validUntil[i] = rule.getValidUntil() == null ? Long.MAX_VALUE : epochSecond(rule.getValidUntil());
+            basisPoints[i] = toBasisPoints(rule);
+            if (validFrom[i] >= validUntil[i]) {
+                throw new IllegalArgumentException("Empty validity window in discount rule " + rule.getName());
+            }
+        }
+        this.hasCategoryRules = categoryRules;
+
+        Customer.CustomerType[] customerTypes = Customer.CustomerType.values();
+        this.candidates = new int[CUSTOMER_TYPE_COUNT + 1][];
+        Comparator<Integer> byRateDescending = Comparator.comparingLong((Integer i) -> basisPoints[i]).reversed();
+        for (int type = 0; type <= CUSTOMER_TYPE_COUNT; type++) {
+            List<Integer> row = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Collection<Customer.CustomerType> types = rules.get(i).getCustomerTypes();
+                if (types.isEmpty() || type < CUSTOMER_TYPE_COUNT && types.contains(customerTypes[type])) {
+                    row.add(i);
+                }
+            }
+            row.sort(byRateDescending);
+            candidates[type] = row.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Compiles rules into a rule set
+     *
+     * @param version monotonically increasing rule set version
+     * @param rules   the rules
+     * @return the compiled rule set
+     * @throws IllegalArgumentException if a rule has an invalid rate or validity window
+     */
+    public static DiscountRuleSet compile(long version, Collection<DiscountRule> rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Discount rules cannot be null");
+        }
+        return new DiscountRuleSet(version, List.copyOf(rules));
+    }
+
+    /**
+     * Rule set applied until marketing publishes one: 15% for VIP customers
+     * and 5% for everyone else, on orders over 100
+     *
+     * @return the default rule set
+     */
+    public static DiscountRuleSet defaults() {
+        return DEFAULTS;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<DiscountRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Calculates the best discount for an order
+     *
+     * @param order        the order, with its total calculated
+     * @param customerType type of the ordering customer, may be null
+     * @param at           time the date windows are checked against
+     * @return discount in the currency of the order total
+     */
+    public Money evaluate(Order order, Customer.CustomerType customerType, LocalDateTime at) {
+        Money total = order.getTotalAmount();
+        Currency orderCurrency = total.getCurrency();
+        long basket = total.toMinorUnits();
+        int[] row = candidates[customerType == null ? CUSTOMER_TYPE_COUNT : customerType.ordinal()];
+        if (row.length == 0 || basket <= 0) {
+            return Money.zero(orderCurrency);
+        }
+
+        List<Order.OrderItem> items = order.getItems() == null ? List.of() : order.getItems();
+        int units = countUnits(items);
+        long time = epochSecond(at);
+        long[] categoryTotals = hasCategoryRules ? categoryTotals(items, orderCurrency) : null;
+
+        long best = 0;
+        for (int rule : row) {
+            // No rule discounts more than the whole basket, and the rest of the row has lower rates
+            if (discountOf(basket, basisPoints[rule]) <= best) {
+                break;
+            }
+            if (currency[rule] != null && currency[rule] != orderCurrency
+                    || units < minimumItems[rule] || time < validFrom[rule] || time >= validUntil[rule]) {
+                continue;
+            }
+            long eligible = category[rule] == ANY ? basket : categoryTotals[category[rule]];
+            if (eligible > thresholdUnits[rule]) {
+                best = Math.max(best, discountOf(eligible, basisPoints[rule]));
+            }
+        }
+        return best == 0 ? Money.zero(orderCurrency) : Money.ofMinorUnits(best, orderCurrency);
+    }
+
+    private static int countUnits(List<Order.OrderItem> items) {
+        int units = 0;
+        for (Order.OrderItem item : items) {
+            units += item.unitCount();
+        }
+        return units;
+    }
+
+    /**
+     * Sums the line totals per category; lines without a category or in
+     * another currency than the order do not count towards any category.
+     */
+    private static long[] categoryTotals(List<Order.OrderItem> items, Currency orderCurrency) {
+        long[] totals = new long[CATEGORY_COUNT];
+        for (Order.OrderItem item : items) {
+            Money lineTotal = item.lineTotal();
+            if (item.getCategory() != null && lineTotal != null && lineTotal.getCurrency() == orderCurrency) {
+                totals[item.getCategory().ordinal()] += lineTotal.toMinorUnits();
+            }
+        }
+        return totals;
+    }
+
+    /** Applies a rate with the same half-up rounding as {@link Money#multiply(double)} */
+    private static long discountOf(long minorUnits, long basisPoints) {
+        if (minorUnits <= Long.MAX_VALUE / BASIS_POINTS) {
+            return (minorUnits * basisPoints + BASIS_POINTS / 2) / BASIS_POINTS;
+        }
+        return BigDecimal.valueOf(minorUnits).multiply(BigDecimal.valueOf(basisPoints))
+                .divide(BigDecimal.valueOf(BASIS_POINTS), 0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static long toBasisPoints(DiscountRule rule) {
+        BigDecimal percentage = rule.getPercentage();
+        if (percentage == null || percentage.signum() <= 0 || percentage.compareTo(BigDecimal.valueOf(100)) > 0
+                || percentage.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Invalid percentage in discount rule " + rule.getName());
+        }
+        return percentage.movePointRight(2).longValue();
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Override
+    public String toString() {
+        return "DiscountRuleSet[version=" + version + ", rules=" + rules.size() + "]";
+    }
+}
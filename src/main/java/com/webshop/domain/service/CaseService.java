@@ -3,7 +3,9 @@ package com.webshop.domain.service;
 import com.webshop.domain.model.Case;
 import com.webshop.domain.model.Return;
 import com.webshop.domain.model.Order;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -16,6 +18,20 @@ import java.time.temporal.ChronoUnit;
 @Service
 public class CaseService {
 
+    /** Ages at which {@link #determinePriority} can change, the first whole hour past each threshold */
+    private static final long[] PRIORITY_BOUNDARY_HOURS = {0, 25, 49};
+
+    private final Clock clock;
+
+    public CaseService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    @Autowired
+    public CaseService(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Determines priority based on case type and age
      * 
@@ -23,31 +39,90 @@ public class CaseService {
      * @return calculated priority
      */
     public Case.CasePriority determinePriority(Case caseEntity) {
-        long hoursSinceCreation = ChronoUnit.HOURS.between(caseEntity.getCreatedAt(), LocalDateTime.now());
+        return determinePriority(caseEntity.getType(), caseEntity.getCreatedAt(), LocalDateTime.now(clock));
+    }
+
+    /**
+     * Determines priority based on case type and age at a given time
+     * 
+     * @param type      the case type
+     * @param createdAt when the case was created
+     * @param now       the time to measure the age at
+     * @return calculated priority
+     */
+    public Case.CasePriority determinePriority(Case.CaseType type, LocalDateTime createdAt, LocalDateTime now) {
+        long hoursSinceCreation = ChronoUnit.HOURS.between(createdAt, now);
 
-        if (caseEntity.getType() == Case.CaseType.DAMAGE_CLAIM || hoursSinceCreation > 48) {
+        if (type == Case.CaseType.DAMAGE_CLAIM || hoursSinceCreation > 48) {
             return Case.CasePriority.HIGH;
-        } else if (caseEntity.getType() == Case.CaseType.COMPLAINT || hoursSinceCreation > 24) {
+        } else if (type == Case.CaseType.COMPLAINT || hoursSinceCreation > 24) {
             return Case.CasePriority.MEDIUM;
         }
         return Case.CasePriority.LOW;
     }
 
+    /**
+     * Re-evaluates the priority of an open case as it ages. Priorities are
+     * only ever raised, so manual escalations are kept.
+     * 
+     * @param type      the case type
+     * @param createdAt when the case was created
+     * @param current   the current priority, may be null
+     * @param now       the time to measure the age at
+     * @return the raised priority, or null if the priority should not change
+     */
+    public Case.CasePriority reassessPriority(Case.CaseType type, LocalDateTime createdAt,
+            Case.CasePriority current, LocalDateTime now) {
+        Case.CasePriority computed = determinePriority(type, createdAt, now);
+        return current == null || computed.compareTo(current) > 0 ? computed : null;
+    }
+
+    /**
+     * Finds the next time at which an aging case moves above its current priority
+     * 
+     * @param type      the case type
+     * @param createdAt when the case was created
+     * @param current   the current priority, may be null
+     * @return the time of the next priority boundary, or null if aging cannot raise the priority
+     */
+    public LocalDateTime nextPriorityBoundary(Case.CaseType type, LocalDateTime createdAt,
+            Case.CasePriority current) {
+        for (long hours : PRIORITY_BOUNDARY_HOURS) {
+            LocalDateTime boundary = createdAt.plusHours(hours);
+            if (reassessPriority(type, createdAt, current, boundary) != null) {
+                return boundary;
+            }
+        }
+        return null;
+    }
+
     /**
      * Validates return request
      * 
      * @param returnRequest the return request
-     * @param order         the original order
+     * @param order         the original order, null if it does not exist
      * @return true if return is valid
      */
     public boolean validateReturnRequest(Return returnRequest, Order order) {
-        if (order.getStatus() != Order.OrderStatus.DELIVERED) {
+        if (order == null || order.getStatus() != Order.OrderStatus.DELIVERED) {
             return false;
         }
 
         return returnRequest.isWithinReturnWindow(order.getOrderDate());
     }
 
+    /**
+     * Approves a valid return request and works out its refund in the
+     * currency of the original order
+     * 
+     * @param returnRequest the return request
+     * @param order         the original order
+     */
+    public void approveReturn(Return returnRequest, Order order) {
+        returnRequest.approve();
+        returnRequest.calculateRefundAmount(order.resolveCurrency());
+    }
+
     /**
      * Escalates case if needed based on rules
      * 
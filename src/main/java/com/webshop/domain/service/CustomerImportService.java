@@ -0,0 +1,101 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.CustomerImportRecord;
+import com.webshop.domain.model.CustomerImportResult;
+import com.webshop.domain.model.vo.Address;
+import com.webshop.domain.model.vo.EmailAddress;
+import com.webshop.domain.model.vo.PhoneNumber;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Domain service validating bulk customer imports.
+ * Rows are validated with the non-throwing value object parsers, so a bad
+ * row only sets error flags instead of creating an exception.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Service
+public class CustomerImportService {
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * Validates a batch of import rows, in parallel for large batches.
+     * Email, name and address are required; a blank phone number is allowed.
+     * 
+     * @param records the rows to validate, ideally a random access list
+     * @return per-row values and error flags
+     */
+    public CustomerImportResult validate(List<CustomerImportRecord> records) {
+        int size = records.size();
+        EmailAddress[] emails = new EmailAddress[size];
+        PhoneNumber[] phoneNumbers = new PhoneNumber[size];
+        Address[] addresses = new Address[size];
+        byte[] errors = new byte[size];
+
+        IntStream rows = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(row -> {
+            CustomerImportRecord record = records.get(row);
+            int rowErrors = 0;
+
+            emails[row] = EmailAddress.tryParse(record.getEmail());
+            if (emails[row] == null) {
+                rowErrors |= CustomerImportResult.INVALID_EMAIL;
+            }
+            if (!isBlank(record.getPhoneNumber())) {
+                phoneNumbers[row] = PhoneNumber.tryParse(record.getPhoneNumber());
+                if (phoneNumbers[row] == null) {
+                    rowErrors |= CustomerImportResult.INVALID_PHONE;
+                }
+            }
+            addresses[row] = Address.tryOf(record.getStreet(), record.getCity(),
+                    record.getZipCode(), record.getCountry());
+            if (addresses[row] == null) {
+                rowErrors |= CustomerImportResult.INVALID_ADDRESS;
+            }
+            if (isBlank(record.getFirstName()) || isBlank(record.getLastName())) {
+                rowErrors |= CustomerImportResult.MISSING_NAME;
+            }
+            errors[row] = (byte) rowErrors;
+        });
+        return new CustomerImportResult(emails, phoneNumbers, addresses, errors);
+    }
+
+    /**
+     * Builds new, active customers from the valid rows, in row order
+     * 
+     * @param records the validated rows
+     * @param result  the validation result of those rows
+     * @return customers for all valid rows
+     */
+    public List<Customer> toCustomers(List<CustomerImportRecord> records, CustomerImportResult result) {
+        List<Customer> customers = new ArrayList<>(result.getValidCount());
+        for (int row = 0; row < result.size(); row++) {
+            if (result.isValid(row)) {
+                CustomerImportRecord record = records.get(row);
+                Customer customer = new Customer();
+                customer.setEmail(result.getEmail(row));
+                customer.setFirstName(record.getFirstName().trim());
+                customer.setLastName(record.getLastName().trim());
+                customer.setPhoneNumber(result.getPhoneNumber(row));
+                customer.setAddress(result.getAddress(row));
+                customer.setType(Customer.CustomerType.REGULAR);
+                customer.setActive(true);
+                customers.add(customer);
+            }
+        }
+        return customers;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
@@ -1,6 +1,9 @@
 package com.webshop.domain.service;
 
+import com.webshop.domain.customer.CustomerDirectory;
 import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.vo.EmailAddress;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.util.Optional;
 
@@ -13,6 +16,17 @@ import java.util.Optional;
 @Service
 public class CustomerService {
 
+    private final CustomerDirectory customerDirectory;
+
+    public CustomerService() {
+        this(CustomerDirectory.empty());
+    }
+
+    @Autowired
+    public CustomerService(CustomerDirectory customerDirectory) {
+        this.customerDirectory = customerDirectory;
+    }
+
     /**
      * Gets customer email by ID
      * 
@@ -20,9 +34,9 @@ public class CustomerService {
      * @return optional containing the email if customer exists
      */
     public Optional<String> getCustomerEmail(Long customerId) {
-        // In a real implementation, this would fetch from repository
-        // For now return empty to avoid null pointer exceptions
-        return Optional.empty();
+        return getCustomer(customerId)
+                .map(Customer::getEmail)
+                .map(EmailAddress::getValue);
     }
 
     /**
@@ -32,8 +46,9 @@ public class CustomerService {
      * @return optional containing the customer if exists
      */
     public Optional<Customer> getCustomer(Long customerId) {
-        // In a real implementation, this would fetch from repository
-        // For now return empty to avoid null pointer exceptions
-        return Optional.empty();
+        if (customerId == null) {
+            return Optional.empty();
+        }
+        return customerDirectory.findCustomer(customerId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.pricing.DiscountRuleSet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Domain service for order discounts. Holds the discount rule set in
+ * effect and swaps it atomically when a newer one is published.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Service
+public class DiscountService {
+
+    private final AtomicReference<DiscountRuleSet> discountRules = new AtomicReference<>(DiscountRuleSet.defaults());
+    private final Clock clock;
+
+    public DiscountService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    @Autowired
+    public DiscountService(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Calculates discount based on customer type and order amount
+     * 
+     * @param order the order
+     * @param isVip whether customer is VIP
+     * @return discount amount
+     */
+    public Money calculateDiscount(Order order, boolean isVip) {
+        return calculateDiscount(order, isVip ? Customer.CustomerType.VIP : Customer.CustomerType.REGULAR);
+    }
+
+    /**
+     * Calculates the best discount the current rule set grants an order.
+     * Date windows are checked against the order date, or the current time
+     * for orders that have not been placed yet.
+     * 
+     * @param order        the order, with its total calculated
+     * @param customerType type of the ordering customer, may be null
+     * @return discount amount
+     */
+    public Money calculateDiscount(Order order, Customer.CustomerType customerType) {
+        LocalDateTime at = order.getOrderDate() != null ? order.getOrderDate() : LocalDateTime.now(clock);
+        return discountRules.get().evaluate(order, customerType, at);
+    }
+
+    /**
+     * Gets the discount rules currently in effect
+     * 
+     * @return current rule set
+     */
+    public DiscountRuleSet currentDiscountRules() {
+        return discountRules.get();
+    }
+
+    /**
+     * Publishes a new discount rule set unless a newer one is already in place
+     * 
+     * @param rules the compiled rule set
+     * @return true if the rule set was published
+     */
+    public boolean publishDiscountRules(DiscountRuleSet rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Discount rules cannot be null");
+        }
+        DiscountRuleSet current;
+        do {
+            current = discountRules.get();
+            if (rules.getVersion() <= current.getVersion()) {
+                return false;
+            }
+        } while (!discountRules.compareAndSet(current, rules));
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.FxRateTable;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.MoneyAccumulator;
+import org.springframework.stereotype.Service;
+import java.util.Currency;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Domain service holding the current exchange rate snapshot.
+ * Readers take the snapshot once and convert against it without locking;
+ * a refresh replaces the whole table atomically.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Service
+public class ExchangeRateService {
+
+    private final AtomicReference<FxRateTable> rates = new AtomicReference<>(FxRateTable.identity());
+
+    /**
+     * Gets the current rate snapshot
+     * 
+     * @return current rate table
+     */
+    public FxRateTable currentRates() {
+        return rates.get();
+    }
+
+    /**
+     * Publishes a new rate snapshot unless a newer one is already in place
+     * 
+     * @param table the new rate table
+     * @return true if the table was published
+     */
+    public boolean publish(FxRateTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("Rate table cannot be null");
+        }
+        FxRateTable current;
+        do {
+            current = rates.get();
+            if (table.getVersion() <= current.getVersion()) {
+                return false;
+            }
+        } while (!rates.compareAndSet(current, table));
+        return true;
+    }
+
+    /**
+     * Converts money into another currency using the current snapshot
+     * 
+     * @param money  the amount to convert
+     * @param target target currency
+     * @return converted amount
+     */
+    public Money convert(Money money, Currency target) {
+        return rates.get().convert(money, target);
+    }
+
+    /**
+     * Calculates and updates the order total in the order currency,
+     * converting items priced in other currencies with the current snapshot
+     * 
+     * @param order the order
+     * @return the order total
+     */
+    public Money calculateOrderTotal(Order order) {
+        FxRateTable snapshot = rates.get();
+        MoneyAccumulator total = MoneyAccumulator.of(order.resolveCurrency());
+        for (Order.OrderItem item : order.getItems()) {
+            item.calculateTotalPrice();
+            total.add(item.getTotalPrice(), snapshot);
+        }
+        order.setTotalAmount(total.toMoney());
+        return order.getTotalAmount();
+    }
+}
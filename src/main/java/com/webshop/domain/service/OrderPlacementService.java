@@ -0,0 +1,40 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.OrderNumberGenerator;
+import org.springframework.stereotype.Service;
+
+/**
+ * Domain service preparing validated orders for payment.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Service
+public class OrderPlacementService {
+
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ExchangeRateService exchangeRateService;
+    private final OrderService orderService;
+
+    public OrderPlacementService(OrderNumberGenerator orderNumberGenerator, ExchangeRateService exchangeRateService,
+            OrderService orderService) {
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.exchangeRateService = exchangeRateService;
+        this.orderService = orderService;
+    }
+
+    /**
+     * Gives a validated order an order number unless it already has one,
+     * works out its total in the order currency and marks it pending
+     * 
+     * @param order the order to place
+     */
+    public void placeOrder(Order order) {
+        if (order.getOrderNumber() == null) {
+            order.setOrderNumber(orderNumberGenerator.next());
+        }
+        exchangeRateService.calculateOrderTotal(order);
+        orderService.placeOrder(order);
+    }
+}
@@ -1,10 +1,11 @@
 package com.webshop.domain.service;
 
+import com.webshop.domain.catalog.AvailabilityIndex;
 import com.webshop.domain.model.Order;
-import com.webshop.domain.model.Product;
-import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.OrderStateMachine;
+import com.webshop.domain.model.OrderValidationResult;
 import org.springframework.stereotype.Service;
-import java.util.Currency;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,39 +18,62 @@ import java.util.List;
 public class OrderService {
 
     /**
-     * Validates if an order can be placed
+     * Validates if an order can be placed, checking each line with a
+     * single index lookup
      * 
-     * @param order             the order to validate
-     * @param availableProducts available products
-     * @return true if order is valid
+     * @param order        the order to validate
+     * @param availability stock on hand by product id
+     * @return validation result listing the lines that cannot be fulfilled
      */
-    public boolean validateOrder(Order order, List<Product> availableProducts) {
-        if (order.getItems().isEmpty()) {
-            return false;
+    public OrderValidationResult validateOrder(Order order, AvailabilityIndex availability) {
+        List<Order.OrderItem> items = order.getItems();
+        if (items.isEmpty()) {
+            return OrderValidationResult.emptyOrder();
         }
 
-        return order.getItems().stream().allMatch(item -> availableProducts.stream()
-                .anyMatch(p -> p.getId().equals(item.getProductId()) && p.isAvailable()));
+        List<OrderValidationResult.LineFailure> failures = null;
+        for (int line = 0; line < items.size(); line++) {
+            Order.OrderItem item = items.get(line);
+            OrderValidationResult.FailureReason reason = availability.checkLine(item.getProductId(),
+                    item.getQuantity());
+            if (reason != null) {
+                if (failures == null) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(new OrderValidationResult.LineFailure(line, item.getProductId(), reason));
+            }
+        }
+        return failures == null ? OrderValidationResult.valid() : OrderValidationResult.withFailures(failures);
     }
 
     /**
-     * Calculates discount based on customer type and order amount
+     * Checks whether an order may still be confirmed
      * 
      * @param order the order
-     * @param isVip whether customer is VIP
-     * @return discount amount
+     * @return true if the order's status allows confirming it
      */
-    public Money calculateDiscount(Order order, boolean isVip) {
-        Money total = order.getTotalAmount();
-        double discountRate = isVip ? 0.15 : 0.05;
+    public boolean canConfirm(Order order) {
+        return OrderStateMachine.canTransition(order.getStatus(), Order.OrderStatus.CONFIRMED);
+    }
 
-        Currency currency = total.getCurrency();
-        Money threshold = Money.of(100.0, currency);
+    /**
+     * Marks a validated order as placed, waiting for its payment
+     * 
+     * @param order the order to place
+     * @return true if the order was marked pending
+     */
+    public boolean placeOrder(Order order) {
+        return OrderStateMachine.transition(order, Order.OrderStatus.PENDING);
+    }
 
-        if (total.isGreaterThan(threshold)) {
-            return total.multiply(discountRate);
-        }
-        return Money.zero(currency);
+    /**
+     * Confirms a paid order
+     * 
+     * @param order the order to confirm
+     * @return true if the order was confirmed
+     */
+    public boolean confirmOrder(Order order) {
+        return OrderStateMachine.transition(order, Order.OrderStatus.CONFIRMED);
     }
 
     /**
@@ -59,10 +83,6 @@ public class OrderService {
      * @return true if cancellation successful
      */
     public boolean cancelOrder(Order order) {
-        if (!order.isCancellable()) {
-            return false;
-        }
-        order.setStatus(Order.OrderStatus.CANCELLED);
-        return true;
+        return OrderStateMachine.transition(order, Order.OrderStatus.CANCELLED);
     }
 }
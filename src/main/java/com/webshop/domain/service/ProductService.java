@@ -1,13 +1,18 @@
 package com.webshop.domain.service;
 
+import com.webshop.domain.catalog.PriceIndex;
 import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
 import com.webshop.domain.model.vo.Money;
 import com.webshop.domain.model.vo.Quantity;
 import com.webshop.domain.model.vo.ProductCategory;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
 import java.util.Currency;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Domain service for product business logic.
@@ -18,6 +23,14 @@ import java.util.stream.Collectors;
 @Service
 public class ProductService {
 
+    private static final Money SPECIAL_HANDLING_THRESHOLD = Money.of(1000.0, Currency.getInstance("USD"));
+    private static final Quantity LOW_STOCK_THRESHOLD = Quantity.of(10);
+    private static final Quantity MEDIUM_STOCK_THRESHOLD = Quantity.of(50);
+    private static final Quantity LOW_STOCK_RESTOCK = Quantity.of(100);
+    private static final Quantity MEDIUM_STOCK_RESTOCK = Quantity.of(50);
+
+    private final PriceIndex priceIndex = new PriceIndex();
+
     /**
      * Filters products by price range
      * 
@@ -32,6 +45,45 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds indexed products by price range using the price index
+     * 
+     * @param category category to search, or null for all categories
+     * @param minPrice minimum price
+     * @param maxPrice maximum price
+     * @return products within the range, ordered by price within each category
+     */
+    public List<Product> filterByPriceRange(ProductCategory category, Money minPrice, Money maxPrice) {
+        return priceIndex.findInRange(category, minPrice, maxPrice);
+    }
+
+    /**
+     * Replaces the contents of the price index
+     * 
+     * @param products the catalog products
+     */
+    public void indexProducts(Collection<Product> products) {
+        priceIndex.rebuild(products);
+    }
+
+    /**
+     * Updates the price index after a product was added or its price or category changed
+     * 
+     * @param product the changed product
+     */
+    public void reindexProduct(Product product) {
+        priceIndex.update(product);
+    }
+
+    /**
+     * Removes a product from the price index
+     * 
+     * @param productId the product ID
+     */
+    public void removeFromIndex(Long productId) {
+        priceIndex.remove(productId);
+    }
+
     /**
      * Checks if product requires special handling
      * 
@@ -39,11 +91,10 @@ public class ProductService {
      * @return true if special handling required
      */
     public boolean requiresSpecialHandling(Product product) {
-        Money threshold = Money.of(1000.0, Currency.getInstance("USD"));
         return product.getCategory() != null &&
                 (product.getCategory().isFragile() ||
                         product.getCategory().requiresSpecialHandling() ||
-                        !product.getPrice().isLessThan(threshold));
+                        !product.getPrice().isLessThan(SPECIAL_HANDLING_THRESHOLD));
     }
 
     /**
@@ -53,14 +104,41 @@ public class ProductService {
      * @return suggested restock quantity
      */
     public Quantity calculateRestockQuantity(Product product) {
-        Quantity lowThreshold = Quantity.of(10);
-        Quantity mediumThreshold = Quantity.of(50);
-
-        if (product.getStockQuantity().isLessThan(lowThreshold)) {
-            return Quantity.of(100); // Restock with 100 units if very low
-        } else if (product.getStockQuantity().isLessThan(mediumThreshold)) {
-            return Quantity.of(50); // Restock with 50 units if low
+        if (product.getStockQuantity().isLessThan(LOW_STOCK_THRESHOLD)) {
+            return LOW_STOCK_RESTOCK; // Restock with 100 units if very low
+        } else if (product.getStockQuantity().isLessThan(MEDIUM_STOCK_THRESHOLD)) {
+            return MEDIUM_STOCK_RESTOCK; // Restock with 50 units if low
         }
         return Quantity.zero(); // No restock needed
     }
+
+    /**
+     * Plans restocks for a page of products. Quantities are worked out in
+     * parallel on the common fork-join pool; lines are then handed to the
+     * receiver from the calling thread, in page order.
+     * 
+     * @param page  the products to plan
+     * @param lines receiver of each product that needs restocking and its quantity
+     * @return totals of the page
+     */
+    public RestockPlanSummary planRestock(List<Product> page, BiConsumer<Product, Quantity> lines) {
+        Quantity[] quantities = new Quantity[page.size()];
+        IntStream.range(0, quantities.length).parallel()
+                .forEach(i -> quantities[i] = restockQuantityOf(page.get(i)));
+        long toRestock = 0;
+        long units = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            if (!quantities[i].isZero()) {
+                lines.accept(page.get(i), quantities[i]);
+                toRestock++;
+                units += quantities[i].getValue();
+            }
+        }
+        return new RestockPlanSummary(page.size(), toRestock, units);
+    }
+
+    private Quantity restockQuantityOf(Product product) {
+        // Products without stock information cannot be planned
+        return product.getStockQuantity() == null ? Quantity.zero() : calculateRestockQuantity(product);
+    }
 }
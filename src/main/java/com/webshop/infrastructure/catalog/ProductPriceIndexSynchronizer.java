@@ -0,0 +1,154 @@
+package com.webshop.infrastructure.catalog;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.service.ProductService;
+import com.webshop.infrastructure.persistence.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the in-memory price index of {@link ProductService} in line with
+ * the product table. The index is loaded page by page once the application
+ * is ready; afterwards every committed insert, update and delete of a
+ * product is applied to it. Changes committed while the catalog is being
+ * loaded are held back and applied after the loaded pages, so a page read
+ * before the change cannot overwrite it. Changes rolled back never reach
+ * the index.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ProductPriceIndexSynchronizer implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final EntityManagerFactory entityManagerFactory;
+    /** Changes committed while the index is loading, in commit order; null while not loading */
+    private List<Runnable> heldBackChanges;
+
+    public ProductPriceIndexSynchronizer(ProductRepository productRepository, ProductService productService,
+            EntityManagerFactory entityManagerFactory) {
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    /**
+     * Loads the whole catalog into the price index
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        synchronized (this) {
+            heldBackChanges = new ArrayList<>();
+        }
+        List<Product> products = new ArrayList<>();
+        try {
+            List<Product> page = productRepository.findByIdGreaterThanOrderByIdAsc(Long.MIN_VALUE,
+                    PageRequest.ofSize(PAGE_SIZE));
+            while (!page.isEmpty()) {
+                products.addAll(page);
+                page = productRepository.findByIdGreaterThanOrderByIdAsc(page.get(page.size() - 1).getId(),
+                        PageRequest.ofSize(PAGE_SIZE));
+            }
+        } catch (RuntimeException e) {
+            applyHeldBackChanges();
+            throw e;
+        }
+        synchronized (this) {
+            productService.indexProducts(products);
+            applyHeldBackChanges();
+        }
+        log.info("Indexed prices of {} products", products.size());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Product.class.equals(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            apply(() -> productService.reindexProduct(product));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            apply(() -> productService.reindexProduct(product));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            apply(() -> productService.removeFromIndex(product.getId()));
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was indexed yet
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was indexed yet
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was removed yet
+    }
+
+    /**
+     * Applies a committed change now, or after the loaded pages if the
+     * index is being loaded
+     */
+    private synchronized void apply(Runnable change) {
+        if (heldBackChanges != null) {
+            heldBackChanges.add(change);
+        } else {
+            change.run();
+        }
+    }
+
+    private synchronized void applyHeldBackChanges() {
+        List<Runnable> changes = heldBackChanges;
+        heldBackChanges = null;
+        changes.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,149 @@
+package com.webshop.infrastructure.deadline;
+
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.usecase.EscalateCaseDeadlineUseCase;
+import com.webshop.application.usecase.ScheduleCaseDeadlinesUseCase;
+import com.webshop.shared.util.HierarchicalTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps one in-memory timer per open case, due at the case's next priority
+ * boundary, in a hierarchical timing wheel. The wheel is rebuilt from the
+ * open cases when the application starts and is advanced by a single ticker
+ * thread, which hands every expired deadline to
+ * {@link EscalateCaseDeadlineUseCase} and schedules the deadline it returns.
+ * A deadline scheduled inside a transaction only enters the wheel once the
+ * transaction commits, so a rollback leaves no timer behind.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TimingWheelCaseDeadlineScheduler implements CaseDeadlineScheduler {
+
+    private final EscalateCaseDeadlineUseCase escalateCaseDeadline;
+    private final ScheduleCaseDeadlinesUseCase scheduleCaseDeadlines;
+    private final Clock clock;
+    private final Duration tick;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Long>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService ticker;
+
+    public TimingWheelCaseDeadlineScheduler(EscalateCaseDeadlineUseCase escalateCaseDeadline,
+            ScheduleCaseDeadlinesUseCase scheduleCaseDeadlines, Clock clock,
+            @Value("${webshop.cases.deadline-tick:PT1S}") Duration tick) {
+        this.escalateCaseDeadline = escalateCaseDeadline;
+        this.scheduleCaseDeadlines = scheduleCaseDeadlines;
+        this.clock = clock;
+        this.tick = tick;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), clock.millis());
+    }
+
+    @Override
+    public void schedule(Long caseId, LocalDateTime deadline) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToWheel(caseId, deadline);
+                }
+            });
+        } else {
+            addToWheel(caseId, deadline);
+        }
+    }
+
+    private void addToWheel(Long caseId, LocalDateTime deadline) {
+        HierarchicalTimingWheel.Timeout<Long> timeout = wheel.schedule(caseId, toMillis(deadline));
+        HierarchicalTimingWheel.Timeout<Long> replaced = pending.put(caseId, timeout);
+        if (replaced != null) {
+            replaced.cancel();
+        }
+    }
+
+    @Override
+    public void cancel(Long caseId) {
+        HierarchicalTimingWheel.Timeout<Long> timeout = pending.remove(caseId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * Gets the number of cases with a pending deadline
+     *
+     * @return pending deadlines
+     */
+    public int pendingDeadlines() {
+        return wheel.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        int scheduled = rebuild();
+        log.info("Scheduled priority deadlines for {} open cases", scheduled);
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "case-deadline-ticker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleWithFixedDelay(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Schedules the next priority boundary of every open case
+     *
+     * @return number of deadlines scheduled
+     */
+    int rebuild() {
+        return scheduleCaseDeadlines.scheduleOpenCaseDeadlines(this);
+    }
+
+    /**
+     * Advances the wheel to the current time and handles every expired deadline
+     */
+    void tick() {
+        for (Long caseId : wheel.advance(clock.millis())) {
+            pending.computeIfPresent(caseId, (id, timeout) -> timeout.isExpired() ? null : timeout);
+            try {
+                LocalDateTime next = escalateCaseDeadline.onDeadline(caseId);
+                if (next != null) {
+                    schedule(caseId, next);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to handle priority deadline of case {}", caseId, e);
+            }
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
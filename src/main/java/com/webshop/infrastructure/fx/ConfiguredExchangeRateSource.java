@@ -0,0 +1,61 @@
+package com.webshop.infrastructure.fx;
+
+import com.webshop.domain.model.vo.FxRateTable;
+import com.webshop.domain.service.ExchangeRateService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Publishes the exchange rates configured in {@code webshop.fx.rates} to
+ * {@link ExchangeRateService} on startup. Rates are given as units of each
+ * currency per unit of {@code webshop.fx.base-currency}, for example
+ * {@code EUR=0.92,GBP=0.79}.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ConfiguredExchangeRateSource {
+
+    private final ExchangeRateService exchangeRateService;
+    private final FxRateTable rates;
+
+    public ConfiguredExchangeRateSource(ExchangeRateService exchangeRateService,
+            @Value("${webshop.fx.base-currency:USD}") String baseCurrency,
+            @Value("${webshop.fx.rates:}") String rates) {
+        this.exchangeRateService = exchangeRateService;
+        this.rates = FxRateTable.of(1, Currency.getInstance(baseCurrency), parseRates(rates));
+    }
+
+    @PostConstruct
+    void publish() {
+        exchangeRateService.publish(rates);
+        log.info("Published exchange rates {}", rates);
+    }
+
+    /**
+     * Parses a comma separated list of {@code CODE=rate} pairs
+     */
+    static Map<Currency, Double> parseRates(String rates) {
+        Map<Currency, Double> unitsPerBase = new LinkedHashMap<>();
+        for (String pair : rates.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] parts = pair.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid exchange rate '" + pair.trim()
+                        + "', expected CODE=rate");
+            }
+            unitsPerBase.put(Currency.getInstance(parts[0].trim()), Double.valueOf(parts[1].trim()));
+        }
+        return unitsPerBase;
+    }
+}
@@ -0,0 +1,99 @@
+package com.webshop.infrastructure.idempotency;
+
+import com.webshop.application.port.out.OrderIdempotencyPort;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderIdempotencyKey;
+import com.webshop.infrastructure.persistence.OrderIdempotencyKeyRepository;
+import com.webshop.infrastructure.persistence.OrderRepository;
+import com.webshop.shared.cache.IdempotencyCache;
+import com.webshop.shared.exception.IdempotencyKeyMismatchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Idempotency adapter for order creation. Keys are scoped to the customer
+ * and remembered with a hash of the submitted order, so a key sent again
+ * with a different order is rejected instead of answered with the first
+ * one. Keys are remembered in memory for the configured time to live, and
+ * concurrent submissions with the same key wait for the first one instead
+ * of charging the customer again. With
+ * {@code webshop.orders.idempotency.persistent} enabled, keys are also
+ * recorded in a table, in the transaction that saves the order as pending,
+ * so a retry that reaches another node, or follows a crash after the order
+ * was saved, is answered with the stored order in whatever status it
+ * reached. Two nodes receiving the same key at the same moment cannot both
+ * save an order, as the table allows each key once per customer.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+public class IdempotentOrderCreator implements OrderIdempotencyPort {
+
+    private final OrderIdempotencyKeyRepository keyRepository;
+    private final OrderRepository orderRepository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final boolean persistent;
+    private final IdempotencyCache<Map.Entry<Order, String>> cache;
+
+    public IdempotentOrderCreator(OrderIdempotencyKeyRepository keyRepository, OrderRepository orderRepository,
+            Clock clock,
+            @Value("${webshop.orders.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${webshop.orders.idempotency.persistent:false}") boolean persistent) {
+        this.keyRepository = keyRepository;
+        this.orderRepository = orderRepository;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.persistent = persistent;
+        this.cache = new IdempotencyCache<>(ttl);
+    }
+
+    @Override
+    public Order createOnce(String idempotencyKey, Order submitted, Function<Consumer<Order>, Order> createOrder) {
+        Long customerId = submitted.getCustomerId();
+        String payloadHash = submitted.submissionHash();
+        // The order a key was first used for, with the hash of that submission
+        Map.Entry<Order, String> first = cache.execute(customerId + ":" + idempotencyKey, () -> persistent
+                ? createOnceAcrossNodes(customerId, idempotencyKey, payloadHash, createOrder)
+                : Map.entry(createOrder.apply(order -> { }), payloadHash));
+        if (!first.getValue().equals(payloadHash)) {
+            throw new IdempotencyKeyMismatchException(
+                    "Idempotency key " + idempotencyKey + " was already sent with a different order");
+        }
+        return first.getKey();
+    }
+
+    private Map.Entry<Order, String> createOnceAcrossNodes(Long customerId, String idempotencyKey, String payloadHash,
+            Function<Consumer<Order>, Order> createOrder) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Optional<OrderIdempotencyKey> record = keyRepository.findByCustomerIdAndKey(customerId, idempotencyKey);
+        Optional<Map.Entry<Order, String>> recorded = record
+                .filter(key -> key.getCreatedAt().isAfter(now.minus(ttl)))
+                .flatMap(key -> orderRepository.findById(key.getOrderId())
+                        .map(order -> Map.entry(order, key.getPayloadHash())));
+        if (recorded.isPresent()) {
+            return recorded.get();
+        }
+
+        // An expired record is reused, as each key is stored once per customer
+        OrderIdempotencyKey key = record.orElseGet(OrderIdempotencyKey::new);
+        Order order = createOrder.apply(pending -> {
+            key.setCustomerId(customerId);
+            key.setKey(idempotencyKey);
+            key.setPayloadHash(payloadHash);
+            key.setOrderId(pending.getId());
+            key.setCreatedAt(now);
+            keyRepository.save(key);
+        });
+        return Map.entry(order, payloadHash);
+    }
+}
@@ -0,0 +1,225 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.shared.exception.MailQueueFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends emails in the background. Callers put emails on a bounded queue
+ * and get a future that completes once the email was handed to the
+ * {@link MailTransport}. A few virtual-thread workers take whatever is
+ * queued, up to the batch size, and send it in one transport call. When
+ * the queue is full, the backpressure policy decides whether the caller
+ * waits, the oldest queued email is dropped, or the new one is rejected.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AsyncMailSender {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final MailTransport transport;
+    private final int batchSize;
+    private final BackpressurePolicy backpressure;
+    private final BlockingQueue<QueuedEmail> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAccumulator maxSendNanos = new LongAccumulator(Math::max, 0);
+
+    public AsyncMailSender(MailTransport transport,
+            @Value("${webshop.mail.queue-capacity:1000}") int queueCapacity,
+            @Value("${webshop.mail.workers:2}") int workerCount,
+            @Value("${webshop.mail.batch-size:50}") int batchSize,
+            @Value("${webshop.mail.backpressure:BLOCK}") BackpressurePolicy backpressure) {
+        if (queueCapacity <= 0 || workerCount <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Mail queue capacity, workers and batch size must be positive");
+        }
+        this.transport = transport;
+        this.batchSize = batchSize;
+        this.backpressure = backpressure;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("mail-sender-" + i).start(this::work));
+        }
+    }
+
+    /**
+     * Queues an email for sending
+     * 
+     * @param message the email
+     * @return completes when the email was sent; fails if sending failed or
+     *         the email was dropped from a full queue
+     * @throws MailQueueFullException if the queue is full and the policy is
+     *                                {@link BackpressurePolicy#REJECT}, or the
+     *                                caller was interrupted while waiting
+     */
+    public CompletableFuture<Void> submit(EmailMessage message) {
+        if (!running) {
+            throw new IllegalStateException("Mail sender has been stopped");
+        }
+        QueuedEmail queued = new QueuedEmail(message);
+        switch (backpressure) {
+            case BLOCK -> {
+                try {
+                    queue.put(queued);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MailQueueFullException("Interrupted while waiting for room in the mail queue");
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(queued)) {
+                    QueuedEmail oldest = queue.poll();
+                    if (oldest != null) {
+                        dropped.increment();
+                        oldest.result.completeExceptionally(
+                                new MailQueueFullException("Dropped from the full mail queue"));
+                    }
+                }
+            }
+            case REJECT -> {
+                if (!queue.offer(queued)) {
+                    rejected.increment();
+                    throw new MailQueueFullException("Mail queue is full");
+                }
+            }
+        }
+        return queued.result;
+    }
+
+    public Stats stats() {
+        long batchCount = batches.sum();
+        return new Stats(queue.size(), sent.sum(), failed.sum(), dropped.sum(), rejected.sum(), batchCount,
+                Duration.ofNanos(batchCount == 0 ? 0 : sendNanos.sum() / batchCount),
+                Duration.ofNanos(maxSendNanos.get()));
+    }
+
+    /**
+     * Stops accepting emails, lets the workers send what is queued and
+     * fails whatever they could not send within the timeout
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Thread worker : workers) {
+            try {
+                if (!worker.join(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        QueuedEmail left;
+        while ((left = queue.poll()) != null) {
+            left.result.completeExceptionally(new IllegalStateException("Mail sender stopped before sending"));
+        }
+    }
+
+    private void work() {
+        List<QueuedEmail> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedEmail first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<QueuedEmail> batch) {
+        List<EmailMessage> messages = new ArrayList<>(batch.size());
+        for (QueuedEmail queued : batch) {
+            messages.add(queued.message);
+        }
+        long start = System.nanoTime();
+        try {
+            transport.send(messages);
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.warn("Failed to send a batch of {} emails", batch.size(), e);
+            for (QueuedEmail queued : batch) {
+                queued.result.completeExceptionally(e);
+            }
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        batches.increment();
+        sendNanos.add(elapsed);
+        maxSendNanos.accumulate(elapsed);
+        sent.add(batch.size());
+        for (QueuedEmail queued : batch) {
+            queued.result.complete(null);
+        }
+    }
+
+    /**
+     * What happens to an email submitted while the queue is full.
+     */
+    public enum BackpressurePolicy {
+        /** The caller waits for room */
+        BLOCK,
+        /** The oldest queued email is dropped and its future fails */
+        DROP_OLDEST,
+        /** The new email is refused with {@link MailQueueFullException} */
+        REJECT
+    }
+
+    private static final class QueuedEmail {
+        private final EmailMessage message;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private QueuedEmail(EmailMessage message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * Point-in-time sender counters. Send latency is the time of one
+     * transport call, measured per batch.
+     */
+    @lombok.Value
+    public static class Stats {
+        int queueDepth;
+        long sent;
+        long failed;
+        long dropped;
+        long rejected;
+        long batches;
+        Duration averageSendLatency;
+        Duration maxSendLatency;
+    }
+}
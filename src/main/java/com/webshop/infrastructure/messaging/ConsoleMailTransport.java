@@ -0,0 +1,36 @@
+package com.webshop.infrastructure.messaging;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Mail transport that writes emails to standard output instead of sending
+ * them. A batch is written with a single print, so it takes the stream's
+ * lock once rather than once per email.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class ConsoleMailTransport implements MailTransport {
+
+    private final PrintStream out;
+
+    public ConsoleMailTransport() {
+        this(System.out);
+    }
+
+    ConsoleMailTransport(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void send(List<EmailMessage> messages) {
+        StringBuilder text = new StringBuilder(messages.size() * 128);
+        for (EmailMessage message : messages) {
+            text.append("Sending email to ").append(message.getTo()).append(": ")
+                    .append(message.getSubject()).append(" - ").append(message.getContent())
+                    .append(System.lineSeparator());
+        }
+        out.print(text);
+    }
+}
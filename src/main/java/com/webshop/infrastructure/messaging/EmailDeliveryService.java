@@ -0,0 +1,55 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.domain.model.OutboxMessage;
+import com.webshop.domain.service.CustomerService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Turns messages taken from the notification outbox into emails and hands
+ * them to {@link AsyncMailSender}. Messages for a customer are addressed
+ * when they are delivered, so they reach the customer's current address.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class EmailDeliveryService {
+
+    private final CustomerService customerService;
+    private final AsyncMailSender mailSender;
+
+    public EmailDeliveryService(CustomerService customerService, AsyncMailSender mailSender) {
+        this.customerService = customerService;
+        this.mailSender = mailSender;
+    }
+
+    /**
+     * Queues an email taken from the outbox for sending. Messages for a
+     * customer go to the customer's current address and are dropped if
+     * there is none.
+     * 
+     * @param message the message
+     * @return completes when the email was sent or dropped
+     */
+    public CompletableFuture<Void> deliver(OutboxMessage message) {
+        if (message.getCustomerId() == null) {
+            return sendEmail(message.getRecipient(), message.getSubject(), message.getContent());
+        }
+        // Get customer email from customer service
+        return customerService.getCustomerEmail(message.getCustomerId())
+                .map(to -> sendEmail(to, message.getSubject(), message.getContent()))
+                .orElseGet(() -> {
+                    log.warn("No email address for customer {}, dropping outbox message {}: {}",
+                            message.getCustomerId(), message.getId(), message.getSubject());
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    private CompletableFuture<Void> sendEmail(String to, String subject, String content) {
+        return mailSender.submit(new EmailMessage(to, subject, content));
+    }
+}
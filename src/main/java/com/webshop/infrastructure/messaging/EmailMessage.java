@@ -0,0 +1,16 @@
+package com.webshop.infrastructure.messaging;
+
+import lombok.Value;
+
+/**
+ * An email ready to be handed to a {@link MailTransport}.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Value
+public class EmailMessage {
+    String to;
+    String subject;
+    String content;
+}
@@ -0,0 +1,101 @@
+package com.webshop.infrastructure.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text with named placeholders, such as {@code "Order #{orderNumber}"},
+ * parsed once into literal segments and argument positions. Rendering
+ * walks the segments and appends into a buffer reused by the rendering
+ * thread, so it neither parses nor allocates anything but the result.
+ * A brace that does not open a known placeholder can be written as
+ * {@code {{}}.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class EmailTemplate {
+
+    /** Buffers that grew beyond this are not kept for reuse */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /** Literal text before each argument; one more literal than arguments */
+    private final String[] literals;
+    /** Position of each argument in the values passed to render */
+    private final int[] arguments;
+
+    private EmailTemplate(String[] literals, int[] arguments) {
+        this.literals = literals;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Parses a template
+     *
+     * @param text           the template text
+     * @param parameterNames names of the placeholders, in the order values are passed to render
+     * @return the parsed template
+     * @throws IllegalArgumentException if the text uses an unknown or unclosed placeholder
+     */
+    public static EmailTemplate compile(String text, String... parameterNames) {
+        if (text == null) {
+            throw new IllegalArgumentException("Template text cannot be null");
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c != '{') {
+                literal.append(c);
+                i++;
+            } else if (text.startsWith("{{}", i)) {
+                literal.append('{');
+                i += 3;
+            } else {
+                int end = text.indexOf('}', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder in template: " + text);
+                }
+                arguments.add(indexOf(parameterNames, text.substring(i + 1, end), text));
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i = end + 1;
+            }
+        }
+        literals.add(literal.toString());
+        return new EmailTemplate(literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Renders the template
+     *
+     * @param values placeholder values in the order of the parameter names; null renders as "null"
+     * @return the rendered text
+     */
+    public String render(Object... values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            buffer.append(values[arguments[i]]).append(literals[i + 1]);
+        }
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    private static int indexOf(String[] parameterNames, String name, String text) {
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (parameterNames[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown placeholder {" + name + "} in template: " + text);
+    }
+}
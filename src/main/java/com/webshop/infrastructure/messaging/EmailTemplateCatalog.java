@@ -0,0 +1,94 @@
+package com.webshop.infrastructure.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Subject and body templates of every {@link NotificationTemplate}, per
+ * locale. The templates are read from the {@code email-templates} resource
+ * bundle and compiled when the application starts, so a missing text or an
+ * unknown placeholder stops startup instead of the first email. A locale
+ * without its own text for a template uses the base bundle.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+public class EmailTemplateCatalog {
+
+    static final String BUNDLE = "email-templates";
+
+    private final Locale defaultLocale;
+    private final Map<Locale, Map<NotificationTemplate, EmailTemplate[]>> templates = new HashMap<>();
+
+    public EmailTemplateCatalog(
+            @Value("${webshop.mail.default-locale:en}") Locale defaultLocale,
+            @Value("${webshop.mail.locales:en,de}") List<Locale> locales) {
+        this.defaultLocale = defaultLocale;
+        templates.put(defaultLocale, compile(defaultLocale));
+        for (Locale locale : locales) {
+            templates.computeIfAbsent(locale, EmailTemplateCatalog::compile);
+        }
+    }
+
+    /**
+     * Renders the subject and body of an email
+     *
+     * @param template the email
+     * @param locale   language to render in; the default locale if null or not configured
+     * @param values   placeholder values in the order of {@link NotificationTemplate#parameterNames()}
+     * @return the rendered email
+     */
+    public RenderedEmail render(NotificationTemplate template, Locale locale, Object... values) {
+        EmailTemplate[] subjectAndBody = templatesFor(locale).get(template);
+        return new RenderedEmail(subjectAndBody[0].render(values), subjectAndBody[1].render(values));
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    private Map<NotificationTemplate, EmailTemplate[]> templatesFor(Locale locale) {
+        if (locale == null) {
+            return templates.get(defaultLocale);
+        }
+        Map<NotificationTemplate, EmailTemplate[]> localized = templates.get(locale);
+        if (localized == null) {
+            localized = templates.get(Locale.of(locale.getLanguage()));
+        }
+        return localized != null ? localized : templates.get(defaultLocale);
+    }
+
+    private static Map<NotificationTemplate, EmailTemplate[]> compile(Locale locale) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale,
+                ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES));
+        Map<NotificationTemplate, EmailTemplate[]> compiled = new EnumMap<>(NotificationTemplate.class);
+        for (NotificationTemplate template : NotificationTemplate.values()) {
+            try {
+                compiled.put(template, new EmailTemplate[] {
+                        EmailTemplate.compile(bundle.getString(template.subjectKey()), template.parameterNames()),
+                        EmailTemplate.compile(bundle.getString(template.bodyKey()), template.parameterNames()) });
+            } catch (MissingResourceException e) {
+                throw new IllegalStateException("Missing email template " + e.getKey() + " for locale " + locale, e);
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Subject and body of a rendered email.
+     */
+    @lombok.Value
+    public static class RenderedEmail {
+        String subject;
+        String content;
+    }
+}
@@ -0,0 +1,43 @@
+package com.webshop.infrastructure.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mail transport that keeps sent emails in memory, for tests and local
+ * runs without a mail server.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class InMemoryMailTransport implements MailTransport {
+
+    private final List<List<EmailMessage>> batches = new ArrayList<>();
+
+    @Override
+    public synchronized void send(List<EmailMessage> messages) {
+        batches.add(List.copyOf(messages));
+    }
+
+    /**
+     * Gets every email sent so far, in the order they were sent
+     * 
+     * @return the sent emails
+     */
+    public synchronized List<EmailMessage> sentMessages() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * Gets the batches the emails were sent in
+     * 
+     * @return the batches
+     */
+    public synchronized List<List<EmailMessage>> sentBatches() {
+        return List.copyOf(batches);
+    }
+
+    public synchronized void clear() {
+        batches.clear();
+    }
+}
@@ -0,0 +1,18 @@
+package com.webshop.infrastructure.messaging;
+
+import java.util.List;
+
+/**
+ * Delivers emails to a mail server or a stand-in for one.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface MailTransport {
+    /**
+     * Sends a batch of emails, failing as a whole if any cannot be sent
+     * 
+     * @param messages the emails, never empty
+     */
+    void send(List<EmailMessage> messages);
+}
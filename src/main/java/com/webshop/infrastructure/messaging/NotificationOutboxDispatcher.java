@@ -0,0 +1,152 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.domain.model.OutboxMessage;
+import com.webshop.infrastructure.persistence.NotificationOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the notification outbox in the background. Pending messages are
+ * read oldest first in batches, handed to the mail sender by a bounded
+ * number of concurrent deliveries, and once every email of the batch was
+ * sent or failed, the outcome is saved for the whole batch at once.
+ * A message whose delivery fails stays pending and is retried on the next
+ * run until it has used up its attempts. Delivery is at least once: a
+ * message sent just before the application stops may be sent again.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EmailDeliveryService emailDelivery;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExecutorService senders;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+            EmailDeliveryService emailDelivery, Clock clock,
+            @Value("${webshop.notifications.outbox.batch-size:100}") int batchSize,
+            @Value("${webshop.notifications.outbox.parallelism:8}") int parallelism,
+            @Value("${webshop.notifications.outbox.max-attempts:5}") int maxAttempts) {
+        if (batchSize <= 0 || parallelism <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Outbox batch size, parallelism and attempts must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.emailDelivery = emailDelivery;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.senders = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("outbox-sender-", 0).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${webshop.notifications.outbox.poll-interval:PT1S}")
+    public void run() {
+        int delivered = drain();
+        if (delivered > 0) {
+            log.debug("Dispatched {} outbox notifications", delivered);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        senders.shutdownNow();
+    }
+
+    /**
+     * Dispatches pending messages batch by batch until a batch comes back
+     * short, so a backlog is worked off in one run. A batch with failed
+     * deliveries ends the run, leaving the retries for the next one.
+     *
+     * @return number of messages processed
+     */
+    int drain() {
+        int processed = 0;
+        List<OutboxMessage> batch;
+        int retrying;
+        do {
+            batch = outboxRepository.findByStatusOrderByIdAsc(OutboxMessage.Status.PENDING,
+                    PageRequest.of(0, batchSize));
+            retrying = dispatch(batch);
+            processed += batch.size();
+        } while (batch.size() == batchSize && retrying == 0);
+        return processed;
+    }
+
+    /**
+     * Delivers a batch and saves the outcome of every message
+     *
+     * @return number of messages left pending for a retry
+     */
+    private int dispatch(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Callable<CompletableFuture<Void>>> deliveries = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            deliveries.add(() -> emailDelivery.deliver(message));
+        }
+
+        List<Future<CompletableFuture<Void>>> results;
+        try {
+            results = senders.invokeAll(deliveries);
+            for (Future<CompletableFuture<Void>> result : results) {
+                if (result.state() == Future.State.SUCCESS) {
+                    result.resultNow().exceptionally(error -> null).join();
+                }
+            }
+        } catch (InterruptedException e) {
+            // Nothing is marked, so the whole batch is retried on the next run
+            Thread.currentThread().interrupt();
+            return batch.size();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int retrying = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            Throwable failure = failureOf(results.get(i));
+            if (failure == null) {
+                message.markSent(now);
+            } else {
+                message.markAttemptFailed(now, String.valueOf(failure.getMessage()), maxAttempts);
+                log.warn("Delivery of outbox message {} failed (attempt {})", message.getId(),
+                        message.getAttempts(), failure);
+                if (message.getStatus() == OutboxMessage.Status.PENDING) {
+                    retrying++;
+                }
+            }
+        }
+        outboxRepository.saveAll(batch);
+        return retrying;
+    }
+
+    private static Throwable failureOf(Future<CompletableFuture<Void>> result) {
+        return switch (result.state()) {
+            case SUCCESS -> {
+                CompletableFuture<Void> sent = result.resultNow();
+                yield sent.isCompletedExceptionally() ? sent.exceptionNow() : null;
+            }
+            case FAILED -> result.exceptionNow();
+            default -> new IllegalStateException("Delivery was cancelled");
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.domain.model.OutboxMessage;
+import com.webshop.infrastructure.persistence.NotificationOutboxRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Renders notification emails and writes them to the notification outbox,
+ * in the caller's transaction if there is one. Texts come from the
+ * precompiled {@link EmailTemplateCatalog}; customers have no preferred
+ * language yet, so every email uses the catalog's default locale.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+public class NotificationOutboxWriter {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final EmailTemplateCatalog templates;
+    private final Clock clock;
+
+    public NotificationOutboxWriter(NotificationOutboxRepository outboxRepository, EmailTemplateCatalog templates,
+            Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.templates = templates;
+        this.clock = clock;
+    }
+
+    /**
+     * Renders an email into a pending outbox message without saving it
+     * 
+     * @param customerId customer to address at delivery, or null
+     * @param recipient  fixed address, used if there is no customer
+     * @param template   the email template
+     * @param values     values for the template placeholders
+     * @return the pending message
+     */
+    public OutboxMessage compose(Long customerId, String recipient, NotificationTemplate template, Object... values) {
+        EmailTemplateCatalog.RenderedEmail email = templates.render(template, templates.getDefaultLocale(), values);
+        return OutboxMessage.builder()
+                .customerId(customerId)
+                .recipient(recipient)
+                .subject(email.getSubject())
+                .content(email.getContent())
+                .status(OutboxMessage.Status.PENDING)
+                .createdAt(LocalDateTime.now(clock))
+                .build();
+    }
+
+    /**
+     * Renders an email and writes it to the outbox
+     * 
+     * @param customerId customer to address at delivery, or null
+     * @param recipient  fixed address, used if there is no customer
+     * @param template   the email template
+     * @param values     values for the template placeholders
+     */
+    public void enqueue(Long customerId, String recipient, NotificationTemplate template, Object... values) {
+        outboxRepository.save(compose(customerId, recipient, template, values));
+    }
+
+    /**
+     * Writes composed messages to the outbox in one batch
+     * 
+     * @param messages messages from {@link #compose}
+     */
+    public void enqueueAll(List<OutboxMessage> messages) {
+        outboxRepository.saveAll(messages);
+    }
+}
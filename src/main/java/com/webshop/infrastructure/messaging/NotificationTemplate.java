@@ -0,0 +1,35 @@
+package com.webshop.infrastructure.messaging;
+
+/**
+ * The emails the shop sends, with the placeholders their subject and body
+ * templates may use. Values are passed to rendering in the order listed.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public enum NotificationTemplate {
+    ORDER_CONFIRMATION("order-confirmation", "orderNumber", "totalAmount"),
+    RETURN_APPROVAL("return-approval", "returnNumber"),
+    ESCALATION_ALERT("escalation-alert", "caseNumber", "priority"),
+    STATUS_UPDATE("status-update", "message");
+
+    private final String key;
+    private final String[] parameterNames;
+
+    NotificationTemplate(String key, String... parameterNames) {
+        this.key = key;
+        this.parameterNames = parameterNames;
+    }
+
+    public String subjectKey() {
+        return key + ".subject";
+    }
+
+    public String bodyKey() {
+        return key + ".body";
+    }
+
+    public String[] parameterNames() {
+        return parameterNames.clone();
+    }
+}
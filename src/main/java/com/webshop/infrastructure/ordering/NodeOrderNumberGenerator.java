@@ -0,0 +1,32 @@
+package com.webshop.infrastructure.ordering;
+
+import com.webshop.domain.model.vo.OrderNumber;
+import com.webshop.domain.model.vo.OrderNumberGenerator;
+import com.webshop.domain.model.vo.SnowflakeOrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues the order numbers of this node. A single node runs with
+ * {@code webshop.node-id} 0; when several nodes share the order table,
+ * every node must be started with its own {@code webshop.node-id} between
+ * 0 and {@value SnowflakeOrderNumberGenerator#MAX_NODE_ID}, or two nodes
+ * may issue the same order numbers.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+public class NodeOrderNumberGenerator implements OrderNumberGenerator {
+
+    private final OrderNumberGenerator generator;
+
+    public NodeOrderNumberGenerator(@Value("${webshop.node-id:0}") int nodeId) {
+        this.generator = new SnowflakeOrderNumberGenerator(nodeId);
+    }
+
+    @Override
+    public OrderNumber next() {
+        return generator.next();
+    }
+}
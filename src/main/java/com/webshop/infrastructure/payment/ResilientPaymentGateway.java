@@ -0,0 +1,156 @@
+package com.webshop.infrastructure.payment;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.shared.exception.PaymentTimeoutException;
+import com.webshop.shared.resilience.Bulkhead;
+import com.webshop.shared.resilience.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a slow or failing payment provider from stalling order processing.
+ * Calls first pass a circuit breaker, which turns them away while the
+ * provider keeps failing, then a bulkhead, which bounds how many calls may
+ * wait on the provider at once. Callers stop waiting after the timeout;
+ * the call itself holds its bulkhead permit until the provider answers,
+ * so a provider that hangs fills the bulkhead instead of the threads.
+ * Failed and timed out calls count as failures for the circuit breaker,
+ * declined payments do not. Rejections and timeouts fail the returned
+ * future, like any other gateway error. A call the provider still carries
+ * out after its caller timed out is logged and counted, so it can be
+ * reconciled with the order recorded as failed.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientPaymentGateway implements AsyncPaymentGateway {
+
+    private final AsyncPaymentGateway paymentGateway;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration timeout;
+
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder lateSuccesses = new LongAdder();
+
+    @Autowired
+    public ResilientPaymentGateway(@Qualifier("virtualThreadPaymentGateway") AsyncPaymentGateway paymentGateway,
+            @Value("${webshop.payment.bulkhead.max-concurrent-calls:100}") int maxConcurrentCalls,
+            @Value("${webshop.payment.bulkhead.max-wait:PT0.1S}") Duration maxWait,
+            @Value("${webshop.payment.timeout:PT5S}") Duration timeout,
+            @Value("${webshop.payment.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${webshop.payment.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${webshop.payment.circuit-breaker.window:PT60S}") Duration window,
+            @Value("${webshop.payment.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+            @Value("${webshop.payment.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        this(paymentGateway, maxConcurrentCalls, maxWait, timeout, failureRateThreshold, minimumCalls, window,
+                openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    ResilientPaymentGateway(AsyncPaymentGateway paymentGateway, int maxConcurrentCalls, Duration maxWait,
+            Duration timeout, int failureRateThreshold, int minimumCalls, Duration window, Duration openDuration,
+            int halfOpenCalls, LongSupplier ticker) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Payment timeout must be positive");
+        }
+        this.paymentGateway = paymentGateway;
+        this.bulkhead = new Bulkhead(maxConcurrentCalls, maxWait);
+        this.circuitBreaker = new CircuitBreaker(failureRateThreshold, minimumCalls, window, openDuration,
+                halfOpenCalls, ticker);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> processPayment(Long customerId, Money amount) {
+        return call("payment of " + amount + " by customer " + customerId,
+                () -> paymentGateway.processPayment(customerId, amount));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refundPayment(String transactionId, Money amount) {
+        return call("refund of " + amount + " for transaction " + transactionId,
+                () -> paymentGateway.refundPayment(transactionId, amount));
+    }
+
+    public Stats stats() {
+        return new Stats(bulkhead.stats(), circuitBreaker.stats(), timeouts.sum(), lateSuccesses.sum());
+    }
+
+    private CompletableFuture<Boolean> call(String operation, Supplier<CompletableFuture<Boolean>> call) {
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            bulkhead.acquirePermission();
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Boolean> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((answer, error) -> bulkhead.release());
+
+        CompletableFuture<Boolean> providerCall = result;
+        return result.copy()
+                .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+                .handle((answer, error) -> {
+                    if (error == null) {
+                        circuitBreaker.onSuccess();
+                        return answer;
+                    }
+                    circuitBreaker.onFailure();
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        timeouts.increment();
+                        providerCall.thenAccept(lateAnswer -> {
+                            if (Boolean.TRUE.equals(lateAnswer)) {
+                                lateSuccesses.increment();
+                                log.warn("Payment provider carried out the {} after its caller timed out, "
+                                        + "reconcile it with the failed order", operation);
+                            }
+                        });
+                        cause = new PaymentTimeoutException("Payment provider did not answer the " + operation
+                                + " within " + timeout);
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * Point-in-time resilience counters of the payment gateway. Timeouts
+     * also count as failed calls of the circuit breaker; late successes are
+     * timed out calls the provider carried out after all.
+     */
+    @lombok.Value
+    public static class Stats {
+        Bulkhead.Stats bulkhead;
+        CircuitBreaker.Stats circuitBreaker;
+        long timeouts;
+        long lateSuccesses;
+    }
+}
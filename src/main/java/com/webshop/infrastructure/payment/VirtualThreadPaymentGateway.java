@@ -0,0 +1,49 @@
+package com.webshop.infrastructure.payment;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.application.port.out.PaymentGateway;
+import com.webshop.domain.model.vo.Money;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Adapts a blocking {@link PaymentGateway} to {@link AsyncPaymentGateway}
+ * by running every call on its own virtual thread, so waiting for the
+ * payment provider ties up neither a platform thread nor the caller.
+ * Use cases get it behind {@link ResilientPaymentGateway}.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Component
+public class VirtualThreadPaymentGateway implements AsyncPaymentGateway {
+
+    private final PaymentGateway paymentGateway;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public VirtualThreadPaymentGateway(PaymentGateway paymentGateway) {
+        this.paymentGateway = paymentGateway;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> processPayment(Long customerId, Money amount) {
+        return CompletableFuture.supplyAsync(() -> paymentGateway.processPayment(customerId, amount), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refundPayment(String transactionId, Money amount) {
+        return CompletableFuture.supplyAsync(() -> paymentGateway.refundPayment(transactionId, amount), executor);
+    }
+
+    /**
+     * Stops accepting payments and waits for those in flight
+     */
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+}
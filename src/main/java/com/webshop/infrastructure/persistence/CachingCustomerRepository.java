@@ -0,0 +1,56 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.customer.CustomerDirectory;
+import com.webshop.domain.model.Customer;
+import com.webshop.shared.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Customer directory adapter that reads through a bounded in-memory cache
+ * keyed by customer id. A burst of lookups for the same customer, such as
+ * the notifications of one order, results in a single query. Cached
+ * customers are shared between callers and must not be modified.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Repository
+public class CachingCustomerRepository implements CustomerDirectory {
+
+    private final CustomerRepository customerRepository;
+    private final BoundedCache<Long, Customer> cache;
+
+    public CachingCustomerRepository(CustomerRepository customerRepository,
+            @Value("${webshop.customers.cache.maximum-size:10000}") int maximumSize,
+            @Value("${webshop.customers.cache.ttl:PT10M}") Duration ttl) {
+        this.customerRepository = customerRepository;
+        this.cache = new BoundedCache<>(maximumSize, ttl);
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(Long customerId) {
+        return Optional.ofNullable(cache.get(customerId, id -> customerRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * Drops a customer from the cache after it was changed
+     * 
+     * @param customerId the customer id
+     */
+    public void evict(Long customerId) {
+        cache.invalidate(customerId);
+    }
+
+    /**
+     * Gets the hit, miss, load and eviction counters of the cache
+     * 
+     * @return cache statistics
+     */
+    public BoundedCache.Stats cacheStats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,73 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Product;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Product catalog adapter that keeps an availability snapshot in memory.
+ * The snapshot is rebuilt from a single id/stock projection query once it
+ * is older than the configured time to live, or after an invalidation.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Repository
+public class CachingProductCatalogRepository implements ProductCatalogPort {
+
+    private final ProductRepository productRepository;
+    private final long ttlNanos;
+
+    private volatile AvailabilityIndex availability;
+    private volatile long expiresAtNanos;
+
+    public CachingProductCatalogRepository(ProductRepository productRepository,
+            @Value("${webshop.catalog.availability-ttl:PT5S}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public AvailabilityIndex availabilityIndex() {
+        AvailabilityIndex current = availability;
+        if (current != null && System.nanoTime() - expiresAtNanos < 0) {
+            return current;
+        }
+        return reload();
+    }
+
+    @Override
+    public void invalidateAvailability() {
+        availability = null;
+    }
+
+    @Override
+    public List<Product> findProductsAfter(Long afterId, int pageSize) {
+        return productRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? Long.MIN_VALUE : afterId,
+                PageRequest.ofSize(pageSize));
+    }
+
+    private synchronized AvailabilityIndex reload() {
+        // Another caller may have reloaded while this one waited for the lock
+        AvailabilityIndex current = availability;
+        if (current != null && System.nanoTime() - expiresAtNanos < 0) {
+            return current;
+        }
+        List<Object[]> rows = productRepository.findAllStockLevels();
+        AvailabilityIndex.Builder builder = AvailabilityIndex.builder(rows.size());
+        for (Object[] row : rows) {
+            Number stock = (Number) row[1];
+            builder.put(((Number) row[0]).longValue(), stock == null ? 0 : stock.intValue());
+        }
+        current = builder.build();
+        expiresAtNanos = System.nanoTime() + ttlNanos;
+        availability = current;
+        return current;
+    }
+}
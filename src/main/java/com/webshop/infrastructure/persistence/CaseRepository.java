@@ -0,0 +1,65 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CaseRepository extends JpaRepository<Case, Long>, CasePersistencePort {
+
+    @Override
+    Optional<Case> findById(Long id);
+
+    @Query("select new com.webshop.domain.model.CasePrioritySnapshot(c.id, c.type, c.priority, c.createdAt) "
+            + "from Case c where c.id > :afterId and c.status not in :closedStatuses order by c.id")
+    List<CasePrioritySnapshot> findPrioritySnapshots(@Param("afterId") Long afterId,
+            @Param("closedStatuses") Collection<Case.CaseStatus> closedStatuses, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Case c set c.priority = :priority "
+            + "where c.id in :ids and (c.priority is null or c.priority in :lowerPriorities)")
+    int setPriority(@Param("ids") Collection<Long> ids, @Param("priority") Case.CasePriority priority,
+            @Param("lowerPriorities") Collection<Case.CasePriority> lowerPriorities);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Case c set c.status = :status where c.id in :ids")
+    int setStatus(@Param("ids") Collection<Long> ids, @Param("status") Case.CaseStatus status);
+
+    @Override
+    default List<Case> saveCases(List<Case> cases) {
+        return saveAll(cases);
+    }
+
+    @Override
+    default List<CasePrioritySnapshot> findOpenCasesAfter(Long afterId, int pageSize) {
+        return findPrioritySnapshots(afterId == null ? Long.MIN_VALUE : afterId,
+                EnumSet.of(Case.CaseStatus.RESOLVED, Case.CaseStatus.CLOSED), PageRequest.ofSize(pageSize));
+    }
+
+    @Override
+    default int raisePriority(Collection<Long> caseIds, Case.CasePriority priority) {
+        EnumSet<Case.CasePriority> lowerPriorities = EnumSet.range(Case.CasePriority.LOW, priority);
+        lowerPriorities.remove(priority);
+        return caseIds.isEmpty() || lowerPriorities.isEmpty() ? 0 : setPriority(caseIds, priority, lowerPriorities);
+    }
+
+    @Override
+    default int updateStatus(Collection<Long> caseIds, Case.CaseStatus status) {
+        return caseIds.isEmpty() ? 0 : setStatus(caseIds, status);
+    }
+}
@@ -0,0 +1,9 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.Customer;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerRepository extends JpaRepository<Customer, Long> {
+}
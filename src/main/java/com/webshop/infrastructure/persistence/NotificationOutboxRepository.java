@@ -0,0 +1,21 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Finds messages in a status, oldest first
+     * 
+     * @param status   the status
+     * @param pageable maximum number of messages
+     * @return the messages
+     */
+    List<OutboxMessage> findByStatusOrderByIdAsc(OutboxMessage.Status status, Pageable pageable);
+}
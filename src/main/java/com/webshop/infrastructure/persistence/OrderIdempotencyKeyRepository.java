@@ -0,0 +1,13 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+    Optional<OrderIdempotencyKey> findByCustomerIdAndKey(Long customerId, String key);
+}
@@ -1,10 +1,29 @@
 package com.webshop.infrastructure.persistence;
 
+import com.webshop.application.port.out.OrderPersistencePort;
 import com.webshop.domain.model.Order;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
-    // Add custom query methods if needed
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderPersistencePort {
+
+    @Override
+    default List<Order> saveOrders(List<Order> orders) {
+        return saveAll(orders);
+    }
+
+    @Override
+    default Optional<Order> findOrder(Long orderId) {
+        return findById(orderId);
+    }
+
+    @Override
+    default List<Order> findOrders(Collection<Long> orderIds) {
+        return orderIds.isEmpty() ? List.of() : findAllById(orderIds);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.application.port.out.OrderStatusPort;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStateMachine;
+import com.webshop.domain.model.OrderStatusChange;
+import com.webshop.domain.model.OrderStatusChangeResult;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes order statuses with one conditional UPDATE per order, sent to
+ * the database as a single JDBC batch. The condition checks the current
+ * status against the allowed predecessors of the new status, and the
+ * version if the caller expects one, so no order is read before it is
+ * changed and concurrent changes cannot both succeed. The allowed
+ * predecessors come from {@link OrderStateMachine}. Only the orders
+ * whose update matched no row are read afterwards, to report why.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Repository
+public class OrderStatusRepository implements OrderStatusPort {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final int STATUS_COUNT = Order.OrderStatus.values().length;
+    private static final String UPDATE_SQL = "update orders set status = ?, version = coalesce(version, 0) + 1"
+            + " where id = ? and status in (" + "?, ".repeat(STATUS_COUNT - 1) + "?)"
+            + " and (cast(? as bigint) is null or version = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderStatusRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<OrderStatusChangeResult> changeStatuses(List<OrderStatusChange> changes) {
+        List<OrderStatusChangeResult> results = new ArrayList<>(Collections.nCopies(changes.size(), null));
+        List<Integer> updatable = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            OrderStatusChange change = changes.get(i);
+            if (OrderStateMachine.predecessors(change.getStatus()).isEmpty()) {
+                results.set(i, OrderStatusChangeResult.invalidTransition(change.getOrderId(), null));
+            } else {
+                updatable.add(i);
+            }
+        }
+
+        List<Integer> unmatched = new ArrayList<>();
+        for (int from = 0; from < updatable.size(); from += BATCH_SIZE) {
+            List<Integer> chunk = updatable.subList(from, Math.min(from + BATCH_SIZE, updatable.size()));
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, chunk.stream().map(changes::get).toList(),
+                    chunk.size(), OrderStatusRepository::setUpdateValues)[0];
+            for (int j = 0; j < counts.length; j++) {
+                int index = chunk.get(j);
+                // Drivers that do not report counts per statement answer SUCCESS_NO_INFO
+                if (counts[j] > 0 || counts[j] == Statement.SUCCESS_NO_INFO) {
+                    results.set(index, OrderStatusChangeResult.applied(changes.get(index).getOrderId(),
+                            changes.get(index).getStatus()));
+                } else {
+                    unmatched.add(index);
+                }
+            }
+        }
+
+        explainUnmatched(changes, unmatched, results);
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Reads the current status of orders whose update matched no row and
+     * records whether they are missing, in a status the change is not
+     * allowed from, or were changed by someone else
+     */
+    private void explainUnmatched(List<OrderStatusChange> changes, List<Integer> unmatched,
+            List<OrderStatusChangeResult> results) {
+        for (int from = 0; from < unmatched.size(); from += BATCH_SIZE) {
+            List<Integer> chunk = unmatched.subList(from, Math.min(from + BATCH_SIZE, unmatched.size()));
+            Object[] ids = chunk.stream().map(index -> changes.get(index).getOrderId()).toArray();
+            Map<Long, Order.OrderStatus> current = new HashMap<>();
+            jdbcTemplate.query("select id, status from orders where id in (" + "?, ".repeat(ids.length - 1) + "?)",
+                    row -> {
+                        String status = row.getString("status");
+                        current.put(row.getLong("id"), status == null ? null : Order.OrderStatus.valueOf(status));
+                    }, ids);
+
+            for (int index : chunk) {
+                OrderStatusChange change = changes.get(index);
+                Order.OrderStatus status = current.get(change.getOrderId());
+                if (!current.containsKey(change.getOrderId())) {
+                    results.set(index, OrderStatusChangeResult.notFound(change.getOrderId()));
+                } else if (status != null && OrderStateMachine.canTransition(status, change.getStatus())) {
+                    results.set(index, OrderStatusChangeResult.versionConflict(change.getOrderId(), status));
+                } else {
+                    results.set(index, OrderStatusChangeResult.invalidTransition(change.getOrderId(), status));
+                }
+            }
+        }
+    }
+
+    private static void setUpdateValues(PreparedStatement statement, OrderStatusChange change) throws SQLException {
+        int parameter = 1;
+        statement.setString(parameter++, change.getStatus().name());
+        statement.setLong(parameter++, change.getOrderId());
+
+        // Pad the IN list by repeating a predecessor, so every update uses the same statement
+        List<Order.OrderStatus> predecessors = OrderStateMachine.predecessors(change.getStatus());
+        for (int i = 0; i < STATUS_COUNT; i++) {
+            statement.setString(parameter++, predecessors.get(Math.min(i, predecessors.size() - 1)).name());
+        }
+
+        if (change.getExpectedVersion() == null) {
+            statement.setNull(parameter++, Types.BIGINT);
+            statement.setNull(parameter, Types.BIGINT);
+        } else {
+            statement.setLong(parameter++, change.getExpectedVersion());
+            statement.setLong(parameter, change.getExpectedVersion());
+        }
+    }
+}
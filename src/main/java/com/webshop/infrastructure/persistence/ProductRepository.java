@@ -1,10 +1,23 @@
 package com.webshop.infrastructure.persistence;
 
 import com.webshop.domain.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
-    // Add custom query methods if needed
+
+    /**
+     * Loads only id and stock on hand of every product
+     *
+     * @return rows of [id, stock quantity]
+     */
+    @Query("select p.id, p.stockQuantity.value from Product p")
+    List<Object[]> findAllStockLevels();
+
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
\ No newline at end of file
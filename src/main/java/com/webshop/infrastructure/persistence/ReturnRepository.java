@@ -0,0 +1,64 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.application.port.out.ReturnPersistencePort;
+import com.webshop.domain.model.Return;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores return decisions with one conditional UPDATE per return, sent
+ * to the database as a single JDBC batch. The condition only matches
+ * returns that are still requested, so running the same decisions twice
+ * changes nothing the second time.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Repository
+public class ReturnRepository implements ReturnPersistencePort {
+
+    static final int BATCH_SIZE = 1000;
+
+    private static final String UPDATE_SQL = "update returns set status = ?,"
+            + " refund_amount = coalesce(?, refund_amount), notes = coalesce(?, notes)"
+            + " where id = ? and status = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReturnRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<Long> saveDecisions(List<Return> decidedReturns) {
+        Set<Long> changed = new HashSet<>();
+        for (int from = 0; from < decidedReturns.size(); from += BATCH_SIZE) {
+            List<Return> chunk = decidedReturns.subList(from, Math.min(from + BATCH_SIZE, decidedReturns.size()));
+            int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(),
+                    ReturnRepository::setUpdateValues)[0];
+            for (int j = 0; j < counts.length; j++) {
+                // Drivers that do not report counts per statement answer SUCCESS_NO_INFO
+                if (counts[j] > 0 || counts[j] == Statement.SUCCESS_NO_INFO) {
+                    changed.add(chunk.get(j).getId());
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static void setUpdateValues(PreparedStatement statement, Return decided) throws SQLException {
+        statement.setString(1, decided.getStatus().name());
+        statement.setBigDecimal(2, decided.getRefundAmount());
+        // Only a rejection carries notes of its own, the reason
+        statement.setString(3, decided.getStatus() == Return.ReturnStatus.REJECTED ? decided.getNotes() : null);
+        statement.setLong(4, decided.getId());
+        statement.setString(5, Return.ReturnStatus.REQUESTED.name());
+    }
+}
@@ -0,0 +1,141 @@
+package com.webshop.infrastructure.reporting;
+
+import com.webshop.application.port.out.RestockPlanWriter;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes restock plan lines as CSV or newline-delimited JSON.
+ * Each line is formatted into a reused buffer and written straight through,
+ * so the report is never held in memory.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class RestockPlanFileWriter implements RestockPlanWriter, AutoCloseable {
+
+    public enum Format {
+        CSV("csv"), NDJSON("ndjson");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String CSV_HEADER = "product_id,sku,name,stock,restock_quantity\n";
+
+    private final Writer out;
+    private final Format format;
+    private final StringBuilder line = new StringBuilder(128);
+
+    public RestockPlanFileWriter(Writer out, Format format) {
+        this.out = out;
+        this.format = format;
+        if (format == Format.CSV) {
+            write(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Opens a report file, replacing any existing file
+     * 
+     * @param path   report file
+     * @param format report format
+     * @return the writer; close it to finish the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static RestockPlanFileWriter open(Path path, Format format) throws IOException {
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        return new RestockPlanFileWriter(writer, format);
+    }
+
+    @Override
+    public void writeLine(Product product, Quantity restockQuantity) {
+        line.setLength(0);
+        String sku = product.getSku() == null ? "" : product.getSku().getValue();
+        String name = product.getName() == null ? "" : product.getName();
+        int stock = product.getStockQuantity() == null ? 0 : product.getStockQuantity().getValue();
+        if (format == Format.CSV) {
+            line.append(product.getId()).append(',').append(sku).append(',');
+            appendCsv(name);
+            line.append(',').append(stock).append(',').append(restockQuantity.getValue()).append('\n');
+        } else {
+            line.append("{\"productId\":").append(product.getId()).append(",\"sku\":\"").append(sku)
+                    .append("\",\"name\":\"");
+            appendJson(name);
+            line.append("\",\"stock\":").append(stock)
+                    .append(",\"restockQuantity\":").append(restockQuantity.getValue()).append("}\n");
+        }
+        write(line);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void appendCsv(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private void appendJson(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    private void write(CharSequence text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.webshop.infrastructure.scheduling;
+
+import com.webshop.application.usecase.ReprioritizeCasesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically raises the priority of aging open cases.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseReprioritizationJob {
+
+    private final ReprioritizeCasesUseCase reprioritizeCases;
+
+    @Scheduled(fixedDelayString = "${webshop.cases.reprioritize-interval:PT15M}")
+    public void run() {
+        int updated = reprioritizeCases.reprioritizeOpenCases();
+        log.info("Raised priority of {} open cases", updated);
+    }
+}
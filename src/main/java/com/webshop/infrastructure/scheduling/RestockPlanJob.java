@@ -0,0 +1,60 @@
+package com.webshop.infrastructure.scheduling;
+
+import com.webshop.application.port.in.RestockPlanningPort;
+import com.webshop.domain.model.RestockPlanSummary;
+import com.webshop.infrastructure.reporting.RestockPlanFileWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+
+/**
+ * Nightly job writing the catalog restock plan to a report file.
+ * The report is written to a temporary file and moved into place when
+ * complete, so readers never see a partial plan.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class RestockPlanJob {
+
+    private final RestockPlanningPort restockPlanning;
+    private final Path outputDirectory;
+    private final RestockPlanFileWriter.Format format;
+
+    public RestockPlanJob(RestockPlanningPort restockPlanning,
+            @Value("${webshop.restock.output-dir:${java.io.tmpdir}}") Path outputDirectory,
+            @Value("${webshop.restock.format:CSV}") RestockPlanFileWriter.Format format) {
+        this.restockPlanning = restockPlanning;
+        this.outputDirectory = outputDirectory;
+        this.format = format;
+    }
+
+    @Scheduled(cron = "${webshop.restock.cron:0 0 2 * * *}")
+    public void run() {
+        Path target = outputDirectory.resolve("restock-plan-" + LocalDate.now() + "." + format.getExtension());
+        try {
+            Path partial = Files.createTempFile(outputDirectory, "restock-plan-", ".partial");
+            RestockPlanSummary summary;
+            try (RestockPlanFileWriter writer = RestockPlanFileWriter.open(partial, format)) {
+                summary = restockPlanning.planRestock(writer);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(partial);
+                throw e;
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Restock plan written to {}: {}", target, summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write restock plan " + target, e);
+        }
+    }
+}
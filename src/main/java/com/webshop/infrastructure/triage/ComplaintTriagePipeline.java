@@ -0,0 +1,365 @@
+package com.webshop.infrastructure.triage;
+
+import com.webshop.application.port.in.ComplaintIntakePort;
+import com.webshop.application.usecase.ProcessComplaintUseCase;
+import com.webshop.domain.model.Case;
+import com.webshop.shared.exception.ComplaintQueueFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Triages bursts of complaints from all channels in three stages:
+ * prioritize, escalate and persist. Every stage has its own bounded queue
+ * and its own virtual-thread workers, which take whatever is queued, up to
+ * the batch size, and pass the complaints on to the next stage. The
+ * persist stage stores each batch in one transaction, so the pipeline
+ * never holds more database connections than it has persist workers.
+ * A full queue makes the stage before it wait, up to the callers, who wait
+ * at most the submit timeout before their complaint is refused. The
+ * workers start with the first submitted complaint, so an application
+ * that never submits one runs no triage threads.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ComplaintTriagePipeline implements ComplaintIntakePort {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ProcessComplaintUseCase processComplaint;
+    private final Duration submitTimeout;
+    private final Stage persist;
+    private final Stage escalate;
+    private final Stage prioritize;
+    private final int prioritizeWorkers;
+    private final int escalateWorkers;
+    private final int persistWorkers;
+    /** Held to submit, so {@link #stop} cannot drain a queue a submit is still offering to */
+    private final ReadWriteLock intake = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+    private volatile boolean started;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    public ComplaintTriagePipeline(ProcessComplaintUseCase processComplaint,
+            @Value("${webshop.complaints.triage.queue-capacity:10000}") int queueCapacity,
+            @Value("${webshop.complaints.triage.prioritize-workers:4}") int prioritizeWorkers,
+            @Value("${webshop.complaints.triage.escalate-workers:2}") int escalateWorkers,
+            @Value("${webshop.complaints.triage.persist-workers:2}") int persistWorkers,
+            @Value("${webshop.complaints.triage.batch-size:500}") int batchSize,
+            @Value("${webshop.complaints.triage.submit-timeout:PT5S}") Duration submitTimeout) {
+        if (queueCapacity <= 0 || prioritizeWorkers <= 0 || escalateWorkers <= 0 || persistWorkers <= 0
+                || batchSize <= 0) {
+            throw new IllegalArgumentException("Triage queue capacity, workers and batch size must be positive");
+        }
+        this.processComplaint = processComplaint;
+        this.submitTimeout = submitTimeout;
+        this.persist = new Stage("persist", queueCapacity, batchSize, this::persist, null);
+        this.escalate = new Stage("escalate", queueCapacity, batchSize,
+                batch -> each(batch, processComplaint::escalate), persist);
+        this.prioritize = new Stage("prioritize", queueCapacity, batchSize,
+                batch -> each(batch, processComplaint::prioritize), escalate);
+        this.prioritizeWorkers = prioritizeWorkers;
+        this.escalateWorkers = escalateWorkers;
+        this.persistWorkers = persistWorkers;
+    }
+
+    /**
+     * Queues a complaint for triage
+     *
+     * @param complaint the complaint case
+     * @return completes with the stored complaint; fails if a stage failed for it
+     * @throws ComplaintQueueFullException if the queue stayed full for the
+     *                                     submit timeout, or the caller was
+     *                                     interrupted while waiting
+     * @throws IllegalStateException       if the pipeline has been stopped
+     */
+    @Override
+    public CompletableFuture<Case> submitComplaint(Case complaint) {
+        Triage triage = new Triage(complaint);
+        intake.readLock().lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Complaint triage has been stopped");
+            }
+            if (!started) {
+                startWorkers();
+            }
+            if (!prioritize.queue.offer(triage, submitTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ComplaintQueueFullException("Complaint triage queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ComplaintQueueFullException("Interrupted while waiting for room in the triage queue");
+        } finally {
+            intake.readLock().unlock();
+        }
+        return triage.result;
+    }
+
+    public Stats stats() {
+        long count = completed.sum();
+        return new Stats(count, failed.sum(), rejected.sum(),
+                Duration.ofNanos(count == 0 ? 0 : latencyNanos.sum() / count),
+                Duration.ofNanos(maxLatencyNanos.get()),
+                List.of(prioritize.stats(), escalate.stats(), persist.stats()));
+    }
+
+    /**
+     * Stops accepting complaints and lets every stage, in order, finish
+     * what is queued. Waits for submits already offering a complaint, so
+     * every queued complaint is drained. Complaints left after the timeout
+     * fail.
+     */
+    @PreDestroy
+    public void stop() {
+        intake.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            intake.writeLock().unlock();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        for (Stage stage : List.of(prioritize, escalate, persist)) {
+            stage.drain(deadline);
+        }
+    }
+
+    private synchronized void startWorkers() {
+        if (!running) {
+            throw new IllegalStateException("Complaint triage has been stopped");
+        }
+        if (!started) {
+            persist.start(persistWorkers);
+            escalate.start(escalateWorkers);
+            prioritize.start(prioritizeWorkers);
+            started = true;
+        }
+    }
+
+    /**
+     * Runs a triage step for every complaint of a batch and passes on the
+     * complaints it succeeded for
+     */
+    private List<Triage> each(List<Triage> batch, Consumer<Case> step) {
+        List<Triage> passed = new ArrayList<>(batch.size());
+        for (Triage triage : batch) {
+            try {
+                step.accept(triage.complaint);
+                passed.add(triage);
+            } catch (RuntimeException e) {
+                log.warn("Failed to triage complaint {}", triage.complaint.getCaseNumber(), e);
+                fail(triage, e);
+            }
+        }
+        return passed;
+    }
+
+    private List<Triage> persist(List<Triage> batch) {
+        List<Case> complaints = new ArrayList<>(batch.size());
+        for (Triage triage : batch) {
+            complaints.add(triage.complaint);
+        }
+        try {
+            List<Case> saved = processComplaint.saveTriagedComplaints(complaints);
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to store a batch of {} triaged complaints", batch.size(), e);
+            for (Triage triage : batch) {
+                fail(triage, e);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Counts a stored complaint before completing its future, so callers
+     * that waited for it see it in the stats
+     */
+    private void complete(Triage triage, Case saved) {
+        if (triage.finished.compareAndSet(false, true)) {
+            long latency = System.nanoTime() - triage.submittedNanos;
+            completed.increment();
+            latencyNanos.add(latency);
+            maxLatencyNanos.accumulate(latency);
+            triage.result.complete(saved);
+        }
+    }
+
+    private void fail(Triage triage, Throwable error) {
+        if (triage.finished.compareAndSet(false, true)) {
+            failed.increment();
+            triage.result.completeExceptionally(error);
+        }
+    }
+
+    private final class Stage {
+        private final String name;
+        private final BlockingQueue<Triage> queue;
+        private final int batchSize;
+        private final Function<List<Triage>, List<Triage>> handler;
+        private final Stage next;
+        private final List<Thread> workers = new ArrayList<>();
+        private volatile boolean draining;
+
+        private final LongAdder items = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder batchNanos = new LongAdder();
+        private final LongAccumulator maxBatchNanos = new LongAccumulator(Math::max, 0);
+
+        private Stage(String name, int queueCapacity, int batchSize,
+                Function<List<Triage>, List<Triage>> handler, Stage next) {
+            this.name = name;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.batchSize = batchSize;
+            this.handler = handler;
+            this.next = next;
+        }
+
+        private void start(int workerCount) {
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(Thread.ofVirtual().name("complaint-" + name + "-" + i).start(this::work));
+            }
+        }
+
+        private void work() {
+            List<Triage> batch = new ArrayList<>(batchSize);
+            while (!draining || !queue.isEmpty()) {
+                try {
+                    Triage first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    long start = System.nanoTime();
+                    List<Triage> passed = handler.apply(batch);
+                    long elapsed = System.nanoTime() - start;
+                    items.add(batch.size());
+                    batches.increment();
+                    batchNanos.add(elapsed);
+                    maxBatchNanos.accumulate(elapsed);
+                    forward(passed);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Complaint {} stage failed for a batch of {}", name, batch.size(), e);
+                    for (Triage triage : batch) {
+                        fail(triage, e);
+                    }
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * Hands complaints to the next stage, waiting while its queue is
+         * full; complaints not handed over when interrupted fail
+         */
+        private void forward(List<Triage> passed) throws InterruptedException {
+            for (int i = 0; i < passed.size(); i++) {
+                try {
+                    next.queue.put(passed.get(i));
+                } catch (InterruptedException e) {
+                    for (Triage triage : passed.subList(i, passed.size())) {
+                        fail(triage, new IllegalStateException("Complaint triage stopped before " + next.name));
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private void drain(long deadline) {
+            draining = true;
+            for (Thread worker : workers) {
+                try {
+                    if (!worker.join(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())))) {
+                        worker.interrupt();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            Triage left;
+            while ((left = queue.poll()) != null) {
+                fail(left, new IllegalStateException("Complaint triage stopped before " + name));
+            }
+        }
+
+        private StageStats stats() {
+            long batchCount = batches.sum();
+            return new StageStats(name, workers.size(), queue.size(), items.sum(), batchCount,
+                    Duration.ofNanos(batchCount == 0 ? 0 : batchNanos.sum() / batchCount),
+                    Duration.ofNanos(maxBatchNanos.get()));
+        }
+    }
+
+    private static final class Triage {
+        private final Case complaint;
+        private final long submittedNanos = System.nanoTime();
+        private final CompletableFuture<Case> result = new CompletableFuture<>();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Triage(Case complaint) {
+            this.complaint = complaint;
+        }
+    }
+
+    /**
+     * Point-in-time pipeline counters. Latency is the time from submitting a
+     * complaint until it was stored.
+     */
+    @lombok.Value
+    public static class Stats {
+        long completed;
+        long failed;
+        long rejected;
+        Duration averageLatency;
+        Duration maxLatency;
+        List<StageStats> stages;
+    }
+
+    /**
+     * Point-in-time counters of one stage. Batch latency is the time the
+     * stage spent on one batch, not counting the wait for the next queue.
+     */
+    @lombok.Value
+    public static class StageStats {
+        String name;
+        int workers;
+        int queueDepth;
+        long processed;
+        long batches;
+        Duration averageBatchLatency;
+        Duration maxBatchLatency;
+    }
+}
@@ -0,0 +1,46 @@
+package com.webshop.presentation.dto;
+
+import com.webshop.domain.model.Case;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ComplaintDto {
+    private Long id;
+    private Long customerId;
+    private Long orderId;
+    private Case.CaseType type;
+    private String description;
+    private String status;
+    private String priority;
+    private LocalDateTime createdAt;
+
+    /**
+     * Opens a complaint case received now, a general complaint unless a
+     * type was given
+     */
+    public Case toComplaint() {
+        return Case.builder()
+                .customerId(customerId)
+                .orderId(orderId)
+                .type(type == null ? Case.CaseType.COMPLAINT : type)
+                .status(Case.CaseStatus.OPEN)
+                .description(description)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static ComplaintDto from(Case complaint) {
+        ComplaintDto dto = new ComplaintDto();
+        dto.setId(complaint.getId());
+        dto.setCustomerId(complaint.getCustomerId());
+        dto.setOrderId(complaint.getOrderId());
+        dto.setType(complaint.getType());
+        dto.setDescription(complaint.getDescription());
+        dto.setStatus(complaint.getStatus() == null ? null : complaint.getStatus().name());
+        dto.setPriority(complaint.getPriority() == null ? null : complaint.getPriority().name());
+        dto.setCreatedAt(complaint.getCreatedAt());
+        return dto;
+    }
+}
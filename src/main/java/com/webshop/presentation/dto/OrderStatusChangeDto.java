@@ -0,0 +1,16 @@
+package com.webshop.presentation.dto;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStatusChange;
+import lombok.Data;
+
+@Data
+public class OrderStatusChangeDto {
+    private Long orderId;
+    private Order.OrderStatus status;
+    private Long expectedVersion;
+
+    public OrderStatusChange toStatusChange() {
+        return new OrderStatusChange(orderId, status, expectedVersion);
+    }
+}
@@ -0,0 +1,19 @@
+package com.webshop.presentation.dto;
+
+import com.webshop.domain.model.OrderStatusChangeResult;
+import lombok.Data;
+
+@Data
+public class OrderStatusChangeResultDto {
+    private Long orderId;
+    private String outcome;
+    private String status;
+
+    public static OrderStatusChangeResultDto from(OrderStatusChangeResult result) {
+        OrderStatusChangeResultDto dto = new OrderStatusChangeResultDto();
+        dto.setOrderId(result.getOrderId());
+        dto.setOutcome(result.getOutcome().name());
+        dto.setStatus(result.getStatus() == null ? null : result.getStatus().name());
+        return dto;
+    }
+}
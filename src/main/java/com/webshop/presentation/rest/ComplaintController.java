@@ -0,0 +1,23 @@
+package com.webshop.presentation.rest;
+
+import com.webshop.application.port.in.ComplaintIntakePort;
+import com.webshop.presentation.dto.ComplaintDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/complaints")
+@RequiredArgsConstructor
+public class ComplaintController {
+
+    private final ComplaintIntakePort complaintIntake;
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<ComplaintDto>> submitComplaint(@RequestBody ComplaintDto complaintDto) {
+        return complaintIntake.submitComplaint(complaintDto.toComplaint())
+                .thenApply(complaint -> ResponseEntity.ok(ComplaintDto.from(complaint)));
+    }
+}
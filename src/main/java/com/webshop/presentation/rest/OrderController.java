@@ -1,34 +1,52 @@
 package com.webshop.presentation.rest;
 
 import com.webshop.application.usecase.ProcessOrderUseCase;
+import com.webshop.application.usecase.UpdateOrderStatusUseCase;
 import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStatusChangeResult;
 import com.webshop.presentation.dto.OrderDto;
+import com.webshop.presentation.dto.OrderStatusChangeDto;
+import com.webshop.presentation.dto.OrderStatusChangeResultDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 public class OrderController {
 
     private final ProcessOrderUseCase orderUseCase;
+    private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
 
     @PostMapping
-    public ResponseEntity<OrderDto> createOrder(@RequestBody OrderDto orderDto) {
+    public ResponseEntity<OrderDto> createOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderDto orderDto) {
         Order order = convertToEntity(orderDto);
-        Order createdOrder = orderUseCase.createOrder(order);
+        Order createdOrder = orderUseCase.createOrder(idempotencyKey, order);
         return ResponseEntity.ok(convertToDto(createdOrder));
     }
 
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<OrderDto> updateOrderStatus(
             @PathVariable Long orderId,
-            @RequestParam String status) {
-        Order updatedOrder = orderUseCase.updateOrderStatus(orderId, Order.OrderStatus.valueOf(status));
+            @RequestParam Order.OrderStatus status) {
+        Order updatedOrder = updateOrderStatusUseCase.updateOrderStatus(orderId, status);
         return ResponseEntity.ok(convertToDto(updatedOrder));
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<List<OrderStatusChangeResultDto>> updateOrderStatuses(
+            @RequestBody List<OrderStatusChangeDto> changes) {
+        List<OrderStatusChangeResult> results = updateOrderStatusUseCase.updateOrderStatuses(changes.stream()
+                .map(OrderStatusChangeDto::toStatusChange)
+                .toList());
+        return ResponseEntity.ok(results.stream().map(OrderStatusChangeResultDto::from).toList());
+    }
+
     private Order convertToEntity(OrderDto dto) {
         // Implement conversion logic
         return new Order();
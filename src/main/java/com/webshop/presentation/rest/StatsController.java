@@ -0,0 +1,36 @@
+package com.webshop.presentation.rest;
+
+import com.webshop.shared.metrics.StatsSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final List<StatsSource> statsSources;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (StatsSource source : statsSources) {
+            stats.put(source.name(), source.stats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<Object> getStats(@PathVariable String name) {
+        return statsSources.stream()
+                .filter(source -> source.name().equals(name))
+                .findFirst()
+                .map(source -> ResponseEntity.ok(source.stats()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,281 @@
+package com.webshop.shared.cache;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded read-through cache with W-TinyLFU style eviction and a time to
+ * live per entry. New entries go to a small LRU window; an entry falling
+ * out of the window only replaces the least recently used entry of the main
+ * region if a frequency sketch says it is used more often, so a scan of
+ * one-off keys cannot flush the popular ones. Concurrent loads of the same
+ * key are collapsed into one call of the loader. Null values are not cached.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class BoundedCache<K, V> {
+
+    private final int windowCapacity;
+    private final int mainCapacity;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entry<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an empty cache
+     *
+     * @param maximumSize maximum number of entries
+     * @param ttl         time an entry stays valid after it was loaded
+     */
+    public BoundedCache(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, System::nanoTime);
+    }
+
+    BoundedCache(int maximumSize, Duration ttl, LongSupplier ticker) {
+        if (maximumSize <= 0 || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        }
+        this.windowCapacity = Math.max(1, maximumSize / 100);
+        this.mainCapacity = maximumSize - windowCapacity;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Gets a cached value
+     *
+     * @param key the key
+     * @return the value, or null if it is not cached or has expired
+     */
+    public V getIfPresent(K key) {
+        V value = lookup(key, true);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Gets a value, loading and caching it on a miss. Callers asking for a
+     * key that is already being loaded wait for that load instead of
+     * starting their own.
+     *
+     * @param key    the key
+     * @param loader loads the value for a key, may return null
+     * @return the value, or null if the loader found none
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, load);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        try {
+            // A load that finished after the lookup above has already stored its value
+            value = lookup(key, false);
+            if (value == null) {
+                loads.increment();
+                value = loader.apply(key);
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    /**
+     * Stores a value, replacing any cached value for the key
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cached values cannot be null");
+        }
+        Entry<V> entry = new Entry<>(value, ticker.getAsLong() + ttlNanos);
+        lock.lock();
+        try {
+            if (main.containsKey(key)) {
+                main.put(key, entry);
+                return;
+            }
+            window.put(key, entry);
+            if (window.size() > windowCapacity) {
+                Map.Entry<K, Entry<V>> candidate = removeEldest(window);
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a key from the cache
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            if (window.remove(key) == null) {
+                main.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return window.size() + main.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), size());
+    }
+
+    private V lookup(K key, boolean recordAccess) {
+        long now = ticker.getAsLong();
+        lock.lock();
+        try {
+            if (recordAccess) {
+                sketch.increment(key);
+            }
+            Entry<V> entry = window.get(key);
+            Map<K, Entry<V>> region = window;
+            if (entry == null) {
+                entry = main.get(key);
+                region = main;
+            }
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                region.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves an entry leaving the window into the main region, unless the
+     * main region is full and its least recently used entry is accessed
+     * more often than the candidate. Expired victims always give way.
+     */
+    private void admit(K candidateKey, Entry<V> candidate) {
+        if (main.size() < mainCapacity) {
+            main.put(candidateKey, candidate);
+            return;
+        }
+        evictions.increment();
+        if (mainCapacity == 0) {
+            return;
+        }
+        Map.Entry<K, Entry<V>> victim = main.entrySet().iterator().next();
+        if (victim.getValue().isExpired(ticker.getAsLong())
+                || sketch.frequency(candidateKey) > sketch.frequency(victim.getKey())) {
+            main.remove(victim.getKey());
+            main.put(candidateKey, candidate);
+        }
+    }
+
+    private static <K, V> Map.Entry<K, Entry<V>> removeEldest(LinkedHashMap<K, Entry<V>> region) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = region.entrySet().iterator();
+        Map.Entry<K, Entry<V>> eldest = iterator.next();
+        Map.Entry<K, Entry<V>> copy = Map.entry(eldest.getKey(), eldest.getValue());
+        iterator.remove();
+        return copy;
+    }
+
+    private static <V> V await(CompletableFuture<V> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * Point-in-time cache counters.
+     */
+    @Value
+    public static class Stats {
+        long hits;
+        long misses;
+        long loads;
+        long evictions;
+        int size;
+
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.webshop.shared.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action at most once per key within a time to live and remembers
+ * its result. A caller presenting a key whose action already completed gets
+ * the stored result; a caller presenting a key whose action is still running
+ * waits on the same future instead of running it again. An action that
+ * throws is forgotten, so the key can be retried, and its exception is
+ * rethrown to every caller that waited on it. Expired keys are dropped
+ * lazily, oldest first, whenever an action is executed.
+ *
+ * @param <V> result type
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class IdempotencyCache<V> {
+
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    /** Entries in creation order, which is also expiry order as all share one time to live */
+    private final Queue<Entry<V>> expiryQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates an empty cache
+     *
+     * @param ttl time a key is remembered after its action started
+     */
+    public IdempotencyCache(Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    IdempotencyCache(Duration ttl, LongSupplier ticker) {
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Time to live must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Runs the action unless it ran or is running for the key already
+     *
+     * @param key    the idempotency key
+     * @param action the action, run at most once per key
+     * @return the result of the first run for the key
+     */
+    public V execute(String key, Supplier<? extends V> action) {
+        long now = ticker.getAsLong();
+        expire(now);
+
+        Entry<V> created = new Entry<>(key, now + ttlNanos);
+        Entry<V> existing;
+        while ((existing = entries.putIfAbsent(key, created)) != null) {
+            if (!existing.isExpired(now)) {
+                return await(existing.result);
+            }
+            entries.remove(key, existing);
+        }
+        expiryQueue.add(created);
+
+        try {
+            V value = action.get();
+            created.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of remembered keys, including those still running
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void expire(long now) {
+        Entry<V> oldest;
+        while ((oldest = expiryQueue.peek()) != null && oldest.isExpired(now)) {
+            if (expiryQueue.remove(oldest)) {
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final String key;
+        private final long expiresAtNanos;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        private Entry(String key, long expiresAtNanos) {
+            this.key = key;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.webshop.shared.exception;
+
+/**
+ * Exception thrown when a call to a dependency is turned away because the
+ * maximum number of calls to it are already running.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class BulkheadFullException extends BusinessException {
+
+    public BulkheadFullException(String message) {
+        super(message, "BULKHEAD_FULL");
+    }
+}
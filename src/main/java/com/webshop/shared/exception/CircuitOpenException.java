@@ -0,0 +1,15 @@
+package com.webshop.shared.exception;
+
+/**
+ * Exception thrown when a call to a dependency is not tried because its
+ * circuit breaker is open after too many failures.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class CircuitOpenException extends BusinessException {
+
+    public CircuitOpenException(String message) {
+        super(message, "CIRCUIT_OPEN");
+    }
+}
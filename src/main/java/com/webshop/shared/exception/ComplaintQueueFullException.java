@@ -0,0 +1,20 @@
+package com.webshop.shared.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a complaint cannot be queued for triage because
+ * the triage queue stayed full for longer than callers may wait.
+ * Answered with 503 Service Unavailable, so channels retry later.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ComplaintQueueFullException extends BusinessException {
+
+    public ComplaintQueueFullException(String message) {
+        super(message, "COMPLAINT_QUEUE_FULL");
+    }
+}
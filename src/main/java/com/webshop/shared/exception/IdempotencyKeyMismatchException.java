@@ -0,0 +1,21 @@
+package com.webshop.shared.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a customer reuses an idempotency key for an order
+ * that differs from the one the key was first sent with. Answered with
+ * 422 Unprocessable Entity, as the retry cannot be told apart from a new
+ * order.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyMismatchException extends BusinessException {
+
+    public IdempotencyKeyMismatchException(String message) {
+        super(message, "IDEMPOTENCY_KEY_MISMATCH");
+    }
+}
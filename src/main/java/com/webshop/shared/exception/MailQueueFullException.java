@@ -0,0 +1,15 @@
+package com.webshop.shared.exception;
+
+/**
+ * Exception thrown when an email cannot be queued for sending because the
+ * mail queue is full, or is dropped from it to make room for newer mail.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class MailQueueFullException extends BusinessException {
+
+    public MailQueueFullException(String message) {
+        super(message, "MAIL_QUEUE_FULL");
+    }
+}
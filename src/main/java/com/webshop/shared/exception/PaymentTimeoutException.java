@@ -0,0 +1,15 @@
+package com.webshop.shared.exception;
+
+/**
+ * Exception thrown when the payment provider did not answer in time. The
+ * payment may still have been carried out.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public class PaymentTimeoutException extends BusinessException {
+
+    public PaymentTimeoutException(String message) {
+        super(message, "PAYMENT_TIMEOUT");
+    }
+}
@@ -0,0 +1,48 @@
+package com.webshop.shared.metrics;
+
+import java.util.function.Supplier;
+
+/**
+ * Named source of point-in-time counters, such as a cache or the payment
+ * gateway, published on the stats endpoint.
+ * 
+ * @author WebShop Team
+ * @version 1.0
+ */
+public interface StatsSource {
+
+    /**
+     * Gets the name the counters are published under
+     * 
+     * @return source name
+     */
+    String name();
+
+    /**
+     * Takes a snapshot of the counters
+     * 
+     * @return current counters, serializable as JSON
+     */
+    Object stats();
+
+    /**
+     * Creates a source reading its counters from a supplier
+     * 
+     * @param name  source name
+     * @param stats takes a snapshot of the counters
+     * @return the source
+     */
+    static StatsSource of(String name, Supplier<?> stats) {
+        return new StatsSource() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Object stats() {
+                return stats.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.webshop.shared.resilience;
+
+import com.webshop.shared.exception.BulkheadFullException;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how many calls to a dependency may run at the same time. A caller
+ * that finds every permit taken waits at most the maximum wait and is then
+ * turned away, so a slow dependency ties up a bounded number of calls
+ * instead of every thread that needs it.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAccumulator peakConcurrentCalls = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a bulkhead with all permits free
+     *
+     * @param maxConcurrentCalls number of calls that may run at the same time
+     * @param maxWait            time a caller may wait for a permit, zero to never wait
+     */
+    public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+        if (maxConcurrentCalls <= 0 || maxWait == null || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Bulkhead size must be positive and its wait not negative");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Takes a permit, waiting at most the maximum wait. Every permit taken
+     * must be given back with {@link #release()}.
+     *
+     * @return true if a permit was taken, false if none became free in time
+     *         or the caller was interrupted
+     */
+    public boolean tryAcquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitNanos == 0 ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (acquired) {
+            permitted.increment();
+            peakConcurrentCalls.accumulate(maxConcurrentCalls - permits.availablePermits());
+        } else {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    /**
+     * Like {@link #tryAcquire()}, but turns a caller away by throwing
+     *
+     * @throws BulkheadFullException if no permit became free in time
+     */
+    public void acquirePermission() {
+        if (!tryAcquire()) {
+            throw new BulkheadFullException("All " + maxConcurrentCalls + " calls allowed at once are running");
+        }
+    }
+
+    /**
+     * Gives back a permit taken with {@link #tryAcquire()} or {@link #acquirePermission()}
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public Stats stats() {
+        return new Stats(maxConcurrentCalls, maxConcurrentCalls - permits.availablePermits(),
+                peakConcurrentCalls.get(), permitted.sum(), rejected.sum());
+    }
+
+    /**
+     * Point-in-time bulkhead counters
+     */
+    @Value
+    public static class Stats {
+        int maxConcurrentCalls;
+        int concurrentCalls;
+        long peakConcurrentCalls;
+        long permitted;
+        long rejected;
+    }
+}
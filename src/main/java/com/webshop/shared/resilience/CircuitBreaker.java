@@ -0,0 +1,278 @@
+package com.webshop.shared.resilience;
+
+import com.webshop.shared.exception.CircuitOpenException;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calling a dependency that keeps failing. While closed, every call
+ * result is counted in a sliding time window of {@value #BUCKETS} buckets;
+ * once the window holds at least the minimum number of calls and the share
+ * of failures reaches the threshold, the breaker opens and turns calls away
+ * without trying them. After the open duration it lets a few trial calls
+ * through: if they all succeed it closes with an empty window, if one fails
+ * it opens again. State changes and counting use compare-and-set only, so
+ * recording a result never blocks a caller.
+ *
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class CircuitBreaker {
+
+    static final int BUCKETS = 10;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier ticker;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private final AtomicReference<Phase> phase;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder notPermitted = new LongAdder();
+    private final LongAdder timesOpened = new LongAdder();
+
+    /**
+     * Creates a closed circuit breaker
+     *
+     * @param failureRateThreshold percentage of failed calls in the window that opens the breaker
+     * @param minimumCalls         calls the window must hold before the failure rate counts
+     * @param window               time the failure rate is measured over
+     * @param openDuration         time the breaker stays open before it tries again
+     * @param halfOpenCalls        trial calls that must succeed to close the breaker
+     */
+    public CircuitBreaker(int failureRateThreshold, int minimumCalls, Duration window, Duration openDuration,
+            int halfOpenCalls) {
+        this(failureRateThreshold, minimumCalls, window, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    /**
+     * Creates a closed circuit breaker that reads the time from a ticker
+     *
+     * @param failureRateThreshold percentage of failed calls in the window that opens the breaker
+     * @param minimumCalls         calls the window must hold before the failure rate counts
+     * @param window               time the failure rate is measured over
+     * @param openDuration         time the breaker stays open before it tries again
+     * @param halfOpenCalls        trial calls that must succeed to close the breaker
+     * @param ticker               source of nanosecond timestamps, like {@link System#nanoTime()}
+     */
+    public CircuitBreaker(int failureRateThreshold, int minimumCalls, Duration window, Duration openDuration,
+            int halfOpenCalls, LongSupplier ticker) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("Failure rate threshold must be between 1 and 100");
+        }
+        if (minimumCalls <= 0 || halfOpenCalls <= 0 || window == null || window.toNanos() < BUCKETS
+                || openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("Circuit breaker calls and durations must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.bucketNanos = window.toNanos() / BUCKETS;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.ticker = ticker;
+        this.phase = new AtomicReference<>(Phase.closed(ticker.getAsLong()));
+    }
+
+    /**
+     * Asks whether a call may go ahead. A call that was permitted must
+     * report its result with {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the breaker is closed, or half open with trial calls left
+     */
+    public boolean tryAcquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            if (current.state == State.CLOSED) {
+                return true;
+            }
+            if (current.state == State.OPEN) {
+                long now = ticker.getAsLong();
+                if (now - current.since < openNanos) {
+                    notPermitted.increment();
+                    return false;
+                }
+                phase.compareAndSet(current, Phase.halfOpen(now, halfOpenCalls));
+                continue;
+            }
+            if (current.trialsLeft.getAndDecrement() > 0) {
+                return true;
+            }
+            notPermitted.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Like {@link #tryAcquirePermission()}, but turns a call away by throwing
+     *
+     * @throws CircuitOpenException if the call may not go ahead
+     */
+    public void acquirePermission() {
+        if (!tryAcquirePermission()) {
+            throw new CircuitOpenException("Circuit breaker is open, call not attempted");
+        }
+    }
+
+    /**
+     * Gives back a permission for a call that was not made after all, so a
+     * half-open breaker does not wait for a trial result that never comes
+     */
+    public void releasePermission() {
+        Phase current = phase.get();
+        if (current.state == State.HALF_OPEN) {
+            current.trialsLeft.incrementAndGet();
+        }
+    }
+
+    public void onSuccess() {
+        successes.increment();
+        record(false);
+    }
+
+    public void onFailure() {
+        failures.increment();
+        record(true);
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    public Stats stats() {
+        Bucket window = window(epoch(ticker.getAsLong()));
+        return new Stats(getState(), window.calls, window.failures,
+                window.calls == 0 ? 0 : window.failures * 100.0 / window.calls,
+                successes.sum(), failures.sum(), notPermitted.sum(), timesOpened.sum());
+    }
+
+    private void record(boolean failed) {
+        Phase current = phase.get();
+        long now = ticker.getAsLong();
+        if (current.state == State.HALF_OPEN) {
+            if (failed) {
+                open(current, now);
+            } else if (current.trialSuccesses.incrementAndGet() == halfOpenCalls
+                    && phase.compareAndSet(current, Phase.closed(now))) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets.set(i, null);
+                }
+            }
+            return;
+        }
+        if (current.state == State.OPEN) {
+            // A call that started before the breaker opened
+            return;
+        }
+
+        long epoch = epoch(now);
+        add(epoch, failed);
+        // Only a failure can push the failure rate over the threshold
+        if (failed) {
+            Bucket window = window(epoch);
+            if (window.calls >= minimumCalls
+                    && window.failures * 100 >= (long) failureRateThreshold * window.calls) {
+                open(current, now);
+            }
+        }
+    }
+
+    /**
+     * Sums the buckets that are still inside the window
+     */
+    private Bucket window(long epoch) {
+        long calls = 0;
+        long failed = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > epoch - BUCKETS) {
+                calls += bucket.calls;
+                failed += bucket.failures;
+            }
+        }
+        return new Bucket(epoch, calls, failed);
+    }
+
+    /**
+     * Counts a call in the bucket of its epoch, replacing the bucket if it
+     * still holds an epoch that has slid out of the window
+     */
+    private void add(long epoch, boolean failed) {
+        int index = (int) Math.floorMod(epoch, (long) BUCKETS);
+        int failure = failed ? 1 : 0;
+        while (true) {
+            Bucket current = buckets.get(index);
+            Bucket next = current == null || current.epoch < epoch ? new Bucket(epoch, 1, failure)
+                    : new Bucket(current.epoch, current.calls + 1, current.failures + failure);
+            if (buckets.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private void open(Phase current, long now) {
+        if (phase.compareAndSet(current, Phase.open(now))) {
+            timesOpened.increment();
+        }
+    }
+
+    private long epoch(long now) {
+        return Math.floorDiv(now, bucketNanos);
+    }
+
+    private record Bucket(long epoch, long calls, long failures) {
+    }
+
+    private static final class Phase {
+        private final State state;
+        private final long since;
+        private final AtomicInteger trialsLeft;
+        private final AtomicInteger trialSuccesses = new AtomicInteger();
+
+        private Phase(State state, long since, int trials) {
+            this.state = state;
+            this.since = since;
+            this.trialsLeft = new AtomicInteger(trials);
+        }
+
+        private static Phase closed(long now) {
+            return new Phase(State.CLOSED, now, 0);
+        }
+
+        private static Phase open(long now) {
+            return new Phase(State.OPEN, now, 0);
+        }
+
+        private static Phase halfOpen(long now, int trials) {
+            return new Phase(State.HALF_OPEN, now, trials);
+        }
+    }
+
+    /**
+     * Point-in-time circuit breaker counters. Window counts cover the
+     * calls recorded while closed within the sliding window; the totals
+     * cover every call since the breaker was created.
+     */
+    @Value
+    public static class Stats {
+        State state;
+        long windowCalls;
+        long windowFailures;
+        double failureRate;
+        long successfulCalls;
+        long failedCalls;
+        long notPermittedCalls;
+        long timesOpened;
+    }
+}
@@ -0,0 +1,224 @@
+package com.webshop.shared.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for large numbers of coarse-grained timers.
+ * Level 0 has one slot per tick and every higher level has one slot per
+ * revolution of the level below. Timers are kept in intrusive doubly-linked
+ * lists, so scheduling and cancelling are O(1); a timer moves down at most
+ * once per level as its deadline approaches. Deadlines beyond the range of
+ * the top level wait in its furthest slot and are placed again when that
+ * slot comes around.
+ *
+ * @param <T> type of the payload carried by each timer
+ * @author WebShop Team
+ * @version 1.0
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final Timeout<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel
+     *
+     * @param tickMillis  resolution of the wheel in milliseconds
+     * @param startMillis the current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        this.slots = new Timeout[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedules a timer. Deadlines in the past expire on the next advance.
+     *
+     * @param payload        value handed back when the timer expires
+     * @param deadlineMillis expiry time in milliseconds, rounded up to a whole tick
+     * @return handle for cancelling the timer
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineMillis, Math.ceilDiv(deadlineMillis, tickMillis));
+        place(timeout, currentTick + 1);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel forward to the given time
+     *
+     * @param nowMillis the current time in milliseconds
+     * @return payloads of the timers that expired, earliest tick first
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & SLOT_MASK);
+            Timeout<T> timeout = slots[0][index];
+            slots[0][index] = null;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.state = Timeout.EXPIRED;
+                size--;
+                expired.add(timeout.payload);
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Gets the number of pending timers
+     *
+     * @return pending timers
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Moves the timers of every higher-level slot whose span starts at the
+     * current tick one or more levels down.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int index = (int) ((currentTick >> shift) & SLOT_MASK);
+            Timeout<T> timeout = slots[level][index];
+            slots[level][index] = null;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                place(timeout, currentTick);
+                timeout = next;
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout, long earliestTick) {
+        long deadlineTick = Math.max(timeout.deadlineTick, earliestTick);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((deadlineTick >> shift) - (currentTick >> shift) < SLOTS) {
+                link(timeout, level, (int) ((deadlineTick >> shift) & SLOT_MASK));
+                return;
+            }
+        }
+        int shift = (LEVELS - 1) * SLOT_BITS;
+        link(timeout, LEVELS - 1, (int) (((currentTick >> shift) + SLOT_MASK) & SLOT_MASK));
+    }
+
+    private void link(Timeout<T> timeout, int level, int index) {
+        Timeout<T> head = slots[level][index];
+        timeout.level = level;
+        timeout.index = index;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.index] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Handle of a scheduled timer.
+     *
+     * @param <T> type of the payload
+     */
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int level;
+        private int index;
+        private volatile int state = PENDING;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T payload, long deadlineMillis, long deadlineTick) {
+            this.wheel = wheel;
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Removes the timer from the wheel
+         *
+         * @return true if the timer was still pending
+         */
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (state != PENDING) {
+                    return false;
+                }
+                wheel.unlink(this);
+                wheel.size--;
+                state = CANCELLED;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.webshop;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import com.webshop.application.port.out.PaymentGateway;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ContextLoadsTmpTest {
+    @MockBean
+    PaymentGateway paymentGateway;
+
+    @Test
+    void contextLoads() {
+    }
+}
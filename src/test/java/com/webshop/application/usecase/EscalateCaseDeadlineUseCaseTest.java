@@ -0,0 +1,97 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.service.CaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class EscalateCaseDeadlineUseCaseTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    private EscalateCaseDeadlineUseCase escalateCaseDeadlineUseCase;
+
+    @BeforeEach
+    void setUp() {
+        escalateCaseDeadlineUseCase = new EscalateCaseDeadlineUseCase(new CaseService(CLOCK), casePersistence,
+                notificationService, CLOCK);
+    }
+
+    @Test
+    void onDeadline_CaseAgedPastBoundary_RaisesPriorityAndAlerts() {
+        // Arrange
+        LocalDateTime createdAt = NOW.minusHours(25);
+        Case inquiry = openCase(Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, createdAt);
+        when(casePersistence.findById(7L)).thenReturn(Optional.of(inquiry));
+
+        // Act
+        LocalDateTime next = escalateCaseDeadlineUseCase.onDeadline(7L);
+
+        // Assert
+        assertThat(inquiry.getPriority()).isEqualTo(Case.CasePriority.MEDIUM);
+        verify(notificationService).sendEscalationAlert(inquiry);
+        assertThat(next).isEqualTo(createdAt.plusHours(49));
+    }
+
+    @Test
+    void onDeadline_ManuallyEscalatedCase_KeepsPriorityAndStopsTracking() {
+        // Arrange
+        Case inquiry = openCase(Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.CRITICAL, NOW.minusHours(49));
+        when(casePersistence.findById(7L)).thenReturn(Optional.of(inquiry));
+
+        // Act
+        LocalDateTime next = escalateCaseDeadlineUseCase.onDeadline(7L);
+
+        // Assert
+        assertThat(inquiry.getPriority()).isEqualTo(Case.CasePriority.CRITICAL);
+        verifyNoInteractions(notificationService);
+        assertThat(next).isNull();
+    }
+
+    @Test
+    void onDeadline_ResolvedOrMissingCase_DoesNothing() {
+        // Arrange
+        Case resolved = openCase(Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, NOW.minusHours(30));
+        resolved.setStatus(Case.CaseStatus.RESOLVED);
+        when(casePersistence.findById(7L)).thenReturn(Optional.of(resolved));
+        when(casePersistence.findById(8L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(escalateCaseDeadlineUseCase.onDeadline(7L)).isNull();
+        assertThat(escalateCaseDeadlineUseCase.onDeadline(8L)).isNull();
+        assertThat(resolved.getPriority()).isEqualTo(Case.CasePriority.LOW);
+        verifyNoInteractions(notificationService);
+    }
+
+    private static Case openCase(Case.CaseType type, Case.CasePriority priority, LocalDateTime createdAt) {
+        return Case.builder()
+                .id(7L)
+                .type(type)
+                .status(Case.CaseStatus.OPEN)
+                .priority(priority)
+                .createdAt(createdAt)
+                .build();
+    }
+}
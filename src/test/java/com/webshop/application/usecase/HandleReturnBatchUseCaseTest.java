@@ -0,0 +1,132 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.ReturnPersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.Return;
+import com.webshop.domain.service.CaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class HandleReturnBatchUseCaseTest {
+
+    @MockBean
+    private CaseService caseService;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private OrderPersistencePort orderPersistence;
+
+    @MockBean
+    private ReturnPersistencePort returnPersistence;
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
+    private HandleReturnBatchUseCase handleReturnBatchUseCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        handleReturnBatchUseCase = new HandleReturnBatchUseCase(caseService, notificationService, orderPersistence,
+                returnPersistence, casePersistence);
+        when(orderPersistence.findOrdersById(any())).thenCallRealMethod();
+        doCallRealMethod().when(caseService).approveReturn(any(), any());
+        when(returnPersistence.saveDecisions(any())).thenAnswer(invocation -> ((List<Return>) invocation
+                .getArgument(0)).stream().map(Return::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void handleReturns_MixedBatch_BulkUpdatesAndNotifiesOnce() {
+        // Arrange
+        Order delivered = Order.builder().id(10L).status(Order.OrderStatus.DELIVERED)
+                .currency(Currency.getInstance("EUR")).build();
+        Return valid = Return.builder().id(1L).orderId(10L).caseId(100L).items(List.of(
+                Return.ReturnItem.builder().refundAmount(new BigDecimal("19.99")).build(),
+                Return.ReturnItem.builder().refundAmount(new BigDecimal("5.01")).build())).build();
+        Return unknownOrder = Return.builder().id(2L).orderId(11L).caseId(101L).build();
+        Return withoutOrder = Return.builder().id(3L).build();
+        when(orderPersistence.findOrders(List.of(10L, 11L))).thenReturn(List.of(delivered));
+        when(caseService.validateReturnRequest(any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1) != null);
+
+        // Act
+        List<Return> result = handleReturnBatchUseCase.handleReturns(List.of(valid, unknownOrder, withoutOrder));
+
+        // Assert
+        assertThat(result).extracting(Return::getStatus).containsExactly(Return.ReturnStatus.APPROVED,
+                Return.ReturnStatus.REJECTED, Return.ReturnStatus.REJECTED);
+        verify(orderPersistence).findOrders(List.of(10L, 11L));
+        verify(orderPersistence, never()).findOrder(any());
+        assertThat(valid.getRefundAmount()).isEqualByComparingTo("25.00");
+        assertThat(unknownOrder.getNotes()).isEqualTo(HandleReturnUseCase.REJECTION_REASON);
+        verify(returnPersistence).saveDecisions(List.of(valid, unknownOrder, withoutOrder));
+        verify(casePersistence).updateStatus(List.of(100L), Case.CaseStatus.IN_PROGRESS);
+        verify(notificationService).sendReturnApprovals(List.of(valid));
+        verify(notificationService, never()).sendReturnApproval(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleReturns_LargeBatch_ChunksQueriesAndUpdates() {
+        // Arrange
+        int size = 2 * HandleReturnBatchUseCase.BATCH_SIZE + 1;
+        List<Return> returns = new ArrayList<>();
+        for (long i = 1; i <= size; i++) {
+            returns.add(Return.builder().id(i).orderId(i).build());
+        }
+        when(orderPersistence.findOrders(any())).thenAnswer(invocation -> ((Collection<Long>) invocation
+                .getArgument(0)).stream().map(id -> Order.builder().id(id).build()).toList());
+        when(caseService.validateReturnRequest(any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1) != null);
+
+        // Act
+        List<Return> result = handleReturnBatchUseCase.handleReturns(returns);
+
+        // Assert
+        assertThat(result).extracting(Return::getStatus).containsOnly(Return.ReturnStatus.APPROVED);
+        verify(orderPersistence, times(3)).findOrders(any());
+        verify(returnPersistence, times(3)).saveDecisions(any());
+        verify(notificationService).sendReturnApprovals(returns);
+        verifyNoInteractions(casePersistence);
+    }
+
+    @Test
+    void handleReturns_AlreadyDecidedReturn_NeitherUpdatesCaseNorNotifies() {
+        // Arrange
+        Order delivered = Order.builder().id(10L).status(Order.OrderStatus.DELIVERED).build();
+        Return decidedEarlier = Return.builder().id(1L).orderId(10L).caseId(100L).build();
+        Return stillRequested = Return.builder().id(2L).orderId(10L).caseId(101L).build();
+        when(orderPersistence.findOrders(List.of(10L))).thenReturn(List.of(delivered));
+        when(caseService.validateReturnRequest(any(), any())).thenReturn(true);
+        doReturn(Set.of(2L)).when(returnPersistence).saveDecisions(any());
+
+        // Act
+        handleReturnBatchUseCase.handleReturns(List.of(decidedEarlier, stillRequested));
+
+        // Assert
+        verify(casePersistence).updateStatus(List.of(101L), Case.CaseStatus.IN_PROGRESS);
+        verify(notificationService).sendReturnApprovals(List.of(stillRequested));
+    }
+}
@@ -1,7 +1,9 @@
 package com.webshop.application.usecase;
 
 import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
 import com.webshop.domain.model.Case;
+import com.webshop.domain.model.Order;
 import com.webshop.domain.model.Return;
 import com.webshop.domain.service.CaseService;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -18,28 +25,40 @@ import static org.mockito.Mockito.*;
 @ExtendWith(SpringExtension.class)
 class HandleReturnUseCaseTest {
 
+    private static final Currency EUR = Currency.getInstance("EUR");
+
     @MockBean
     private CaseService caseService;
 
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private OrderPersistencePort orderPersistence;
+
     private HandleReturnUseCase handleReturnUseCase;
 
     @BeforeEach
     void setUp() {
-        handleReturnUseCase = new HandleReturnUseCase(caseService, notificationService);
+        handleReturnUseCase = new HandleReturnUseCase(caseService, notificationService, orderPersistence);
     }
 
     @Test
     void handleReturn_ValidRequest_Success() {
         // Arrange
-        Return returnRequest = new Return();
+        Order order = Order.builder().id(5L).currency(EUR).build();
+        Return returnRequest = Return.builder()
+                .orderId(5L)
+                .items(List.of(
+                        Return.ReturnItem.builder().refundAmount(new BigDecimal("19.99")).build(),
+                        Return.ReturnItem.builder().refundAmount(new BigDecimal("5.01")).build()))
+                .build();
         Case associatedCase = Case.builder()
                 .type(Case.CaseType.RETURN_REQUEST)
                 .status(Case.CaseStatus.OPEN)
                 .build();
 
+        when(orderPersistence.findOrder(5L)).thenReturn(Optional.of(order));
         when(caseService.validateReturnRequest(eq(returnRequest), any())).thenReturn(true);
         doNothing().when(notificationService).sendReturnApproval(returnRequest);
 
@@ -49,6 +68,7 @@ class HandleReturnUseCaseTest {
         // Assert
         verify(notificationService).sendReturnApproval(returnRequest);
         assertThat(processedReturn).isEqualTo(returnRequest);
+        assertThat(processedReturn.getRefundAmount()).isEqualByComparingTo("25.00");
         assertThat(associatedCase.getStatus()).isEqualTo(Case.CaseStatus.IN_PROGRESS);
     }
 
@@ -71,4 +91,21 @@ class HandleReturnUseCaseTest {
         assertThat(processedReturn).isEqualTo(returnRequest);
         assertThat(associatedCase.getStatus()).isEqualTo(Case.CaseStatus.OPEN);
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleReturn_WithOrderId_ValidatesAgainstOrder() {
+        // Arrange
+        Order order = Order.builder().id(5L).status(Order.OrderStatus.DELIVERED).build();
+        Return returnRequest = Return.builder().orderId(5L).build();
+        Case associatedCase = Case.builder().status(Case.CaseStatus.OPEN).build();
+        when(orderPersistence.findOrder(5L)).thenReturn(Optional.of(order));
+        when(caseService.validateReturnRequest(returnRequest, order)).thenReturn(true);
+
+        // Act
+        Return processedReturn = handleReturnUseCase.handleReturn(returnRequest, associatedCase);
+
+        // Assert
+        assertThat(processedReturn.getStatus()).isEqualTo(Return.ReturnStatus.APPROVED);
+        verify(caseService).validateReturnRequest(returnRequest, order);
+    }
+}
@@ -0,0 +1,85 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.application.port.out.RestockPlanWriter;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class PlanRestockUseCaseTest {
+
+    @MockBean
+    private ProductCatalogPort productCatalog;
+
+    @MockBean
+    private RestockPlanWriter writer;
+
+    private PlanRestockUseCase planRestockUseCase;
+
+    @BeforeEach
+    void setUp() {
+        planRestockUseCase = new PlanRestockUseCase(new ProductService(), productCatalog);
+    }
+
+    @Test
+    void planRestock_MultiplePages_WritesLowStockProductsInIdOrder() {
+        // Arrange
+        List<Product> firstPage = products(1, PlanRestockUseCase.PAGE_SIZE);
+        List<Product> secondPage = products(PlanRestockUseCase.PAGE_SIZE + 1, 10);
+        when(productCatalog.findProductsAfter(isNull(), anyInt())).thenReturn(firstPage);
+        when(productCatalog.findProductsAfter(eq((long) PlanRestockUseCase.PAGE_SIZE), anyInt())).thenReturn(secondPage);
+        List<Long> written = new ArrayList<>();
+        doAnswer(invocation -> written.add(invocation.<Product>getArgument(0).getId()))
+                .when(writer).writeLine(any(), any());
+
+        // Act
+        RestockPlanSummary summary = planRestockUseCase.planRestock(writer);
+
+        // Assert
+        assertThat(summary.getProductsScanned()).isEqualTo(PlanRestockUseCase.PAGE_SIZE + 10);
+        assertThat(written).isSorted().hasSize((int) summary.getProductsToRestock());
+        assertThat(summary.getUnitsToOrder()).isEqualTo(written.stream()
+                .mapToLong(id -> id % 100 < 10 ? 100 : 50).sum());
+        verify(productCatalog, times(2)).findProductsAfter(any(), anyInt());
+        verify(writer).flush();
+    }
+
+    @Test
+    void planRestock_WellStockedProduct_IsNotWritten() {
+        // Arrange
+        Product stocked = Product.builder().id(1L).stockQuantity(Quantity.of(500)).build();
+        when(productCatalog.findProductsAfter(isNull(), anyInt())).thenReturn(List.of(stocked));
+
+        // Act
+        RestockPlanSummary summary = planRestockUseCase.planRestock(writer);
+
+        // Assert
+        assertThat(summary.getProductsToRestock()).isZero();
+        verify(writer, never()).writeLine(any(), any());
+    }
+
+    private List<Product> products(long firstId, int count) {
+        // Stock cycles through 0..99, so ids ending in 00-09 need 100 units and 10-49 need 50
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> Product.builder().id(id).stockQuantity(Quantity.of((int) (id % 100))).build())
+                .toList();
+    }
+}
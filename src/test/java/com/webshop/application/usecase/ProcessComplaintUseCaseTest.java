@@ -1,5 +1,7 @@
 package com.webshop.application.usecase;
 
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.port.out.CasePersistencePort;
 import com.webshop.application.port.out.NotificationService;
 import com.webshop.domain.model.Case;
 import com.webshop.domain.service.CaseService;
@@ -8,6 +10,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.Mockito.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,11 +27,18 @@ class ProcessComplaintUseCaseTest {
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private CaseDeadlineScheduler deadlineScheduler;
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
     private ProcessComplaintUseCase processComplaintUseCase;
 
     @BeforeEach
     void setUp() {
-        processComplaintUseCase = new ProcessComplaintUseCase(caseService, notificationService);
+        processComplaintUseCase = new ProcessComplaintUseCase(caseService, notificationService, deadlineScheduler,
+                casePersistence);
     }
 
     @Test
@@ -74,4 +87,70 @@ class ProcessComplaintUseCaseTest {
         assertThat(processedComplaint.getStatus()).isEqualTo(Case.CaseStatus.IN_PROGRESS);
         assertThat(processedComplaint.getPriority()).isEqualTo(Case.CasePriority.HIGH);
     }
-}
\ No newline at end of file
+
+    @Test
+    void processComplaint_PersistedCase_SchedulesNextPriorityDeadline() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+        Case complaint = Case.builder()
+                .id(42L)
+                .type(Case.CaseType.COMPLAINT)
+                .status(Case.CaseStatus.OPEN)
+                .createdAt(createdAt)
+                .build();
+
+        when(caseService.determinePriority(complaint)).thenReturn(Case.CasePriority.MEDIUM);
+        when(caseService.nextPriorityBoundary(Case.CaseType.COMPLAINT, createdAt, Case.CasePriority.MEDIUM))
+                .thenReturn(createdAt.plusHours(49));
+
+        // Act
+        processComplaintUseCase.processComplaint(complaint);
+
+        // Assert
+        verify(deadlineScheduler).schedule(42L, createdAt.plusHours(49));
+    }
+
+    @Test
+    void escalate_EscalatedComplaint_KeepsEscalatedStatus() {
+        // Arrange
+        Case escalated = Case.builder().status(Case.CaseStatus.OPEN).build();
+        Case regular = Case.builder().status(Case.CaseStatus.OPEN).build();
+        when(caseService.escalateIfNeeded(escalated)).thenAnswer(invocation -> {
+            escalated.setStatus(Case.CaseStatus.ESCALATED);
+            return true;
+        });
+
+        // Act
+        processComplaintUseCase.escalate(escalated);
+        processComplaintUseCase.escalate(regular);
+
+        // Assert
+        assertThat(escalated.getStatus()).isEqualTo(Case.CaseStatus.ESCALATED);
+        assertThat(regular.getStatus()).isEqualTo(Case.CaseStatus.IN_PROGRESS);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void saveTriagedComplaints_SavesBatchThenAlertsForEscalatedOnly() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+        Case escalated = Case.builder().id(1L).type(Case.CaseType.COMPLAINT)
+                .status(Case.CaseStatus.ESCALATED).priority(Case.CasePriority.CRITICAL).createdAt(createdAt).build();
+        Case regular = Case.builder().id(2L).type(Case.CaseType.COMPLAINT)
+                .status(Case.CaseStatus.IN_PROGRESS).priority(Case.CasePriority.MEDIUM).createdAt(createdAt).build();
+        List<Case> complaints = List.of(escalated, regular);
+        when(casePersistence.saveCases(complaints)).thenReturn(complaints);
+        when(caseService.nextPriorityBoundary(Case.CaseType.COMPLAINT, createdAt, Case.CasePriority.MEDIUM))
+                .thenReturn(createdAt.plusHours(49));
+
+        // Act
+        List<Case> saved = processComplaintUseCase.saveTriagedComplaints(complaints);
+
+        // Assert
+        assertThat(saved).containsExactly(escalated, regular);
+        verify(casePersistence).saveCases(complaints);
+        verify(notificationService).sendEscalationAlert(escalated);
+        verify(notificationService, never()).sendEscalationAlert(regular);
+        verify(deadlineScheduler).schedule(2L, createdAt.plusHours(49));
+    }
+}
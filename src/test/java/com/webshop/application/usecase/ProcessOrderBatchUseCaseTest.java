@@ -0,0 +1,193 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderOutcome;
+import com.webshop.domain.model.OrderValidationResult;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.model.vo.SnowflakeOrderNumberGenerator;
+import com.webshop.domain.service.ExchangeRateService;
+import com.webshop.domain.service.OrderPlacementService;
+import com.webshop.domain.service.OrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ProcessOrderBatchUseCaseTest {
+
+    private static final long IN_STOCK = 7L;
+    private static final long SOLD_OUT = 8L;
+
+    @MockBean
+    private AsyncPaymentGateway paymentGateway;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @MockBean
+    private ProductCatalogPort productCatalog;
+
+    @MockBean
+    private OrderPersistencePort orderPersistence;
+
+    private ProcessOrderBatchUseCase processOrderBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        OrderService orderService = new OrderService();
+        ConfirmOrderUseCase confirmOrderUseCase = new ConfirmOrderUseCase(orderService, paymentGateway,
+                notificationService, orderPersistence, TransactionOperations.withoutTransaction(),
+                new OrderPlacementService(new SnowflakeOrderNumberGenerator(1), new ExchangeRateService(),
+                        orderService));
+        processOrderBatchUseCase = new ProcessOrderBatchUseCase(orderService, paymentGateway, productCatalog,
+                confirmOrderUseCase);
+        when(productCatalog.availabilityIndex()).thenReturn(AvailabilityIndex.builder(2)
+                .put(IN_STOCK, 1000)
+                .put(SOLD_OUT, 0)
+                .build());
+    }
+
+    @Test
+    void processOrders_MixedBatch_ReturnsOutcomePerOrderInInputOrder() {
+        // Arrange
+        Order paid = orderFor(1L, IN_STOCK);
+        Order invalid = orderFor(2L, SOLD_OUT);
+        Order declined = orderFor(3L, IN_STOCK);
+        Order gatewayError = orderFor(4L, IN_STOCK);
+        Order shipped = orderFor(5L, IN_STOCK);
+        shipped.setStatus(Order.OrderStatus.SHIPPED);
+
+        when(paymentGateway.processPayment(eq(1L), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(paymentGateway.processPayment(eq(3L), any())).thenReturn(CompletableFuture.completedFuture(false));
+        when(paymentGateway.processPayment(eq(4L), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // Act
+        List<OrderOutcome> outcomes = processOrderBatchUseCase.processOrders(
+                List.of(paid, invalid, declined, gatewayError, shipped));
+
+        // Assert
+        assertThat(outcomes).extracting(OrderOutcome::getStatus).containsExactly(
+                OrderOutcome.Status.CONFIRMED, OrderOutcome.Status.REJECTED,
+                OrderOutcome.Status.PAYMENT_DECLINED, OrderOutcome.Status.FAILED, OrderOutcome.Status.FAILED);
+        assertThat(outcomes.get(1).getFailures()).containsExactly(
+                new OrderValidationResult.LineFailure(0, SOLD_OUT, OrderValidationResult.FailureReason.OUT_OF_STOCK));
+        assertThat(outcomes.get(3).getMessage()).contains("timeout");
+        assertThat(outcomes.get(4).getMessage()).contains("SHIPPED");
+        assertThat(paid.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(declined.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(shipped.getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+        verify(productCatalog, times(1)).availabilityIndex();
+        verify(paymentGateway, never()).processPayment(eq(2L), any());
+        verify(paymentGateway, never()).processPayment(eq(5L), any());
+        verify(orderPersistence).saveOrders(List.of(paid));
+        verify(notificationService).sendOrderConfirmation(paid);
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    @Test
+    void processOrders_LargeBatch_BoundsPaymentsInFlight() {
+        // Arrange
+        List<Order> orders = new ArrayList<>();
+        for (long customerId = 1; customerId <= 200; customerId++) {
+            orders.add(orderFor(customerId, IN_STOCK));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(paymentGateway.processPayment(any(), any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> inFlight.decrementAndGet() >= 0,
+                    CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS));
+        });
+
+        // Act
+        List<OrderOutcome> outcomes = processOrderBatchUseCase.processOrders(orders, 8);
+
+        // Assert
+        assertThat(outcomes).hasSize(200).allMatch(OrderOutcome::isConfirmed);
+        assertThat(maxInFlight.get()).isBetween(2, 8);
+        verify(orderPersistence, times(2)).saveOrders(orders);
+    }
+
+    @Test
+    void processOrders_PendingChunkNotSaved_FailsChunkWithoutCharging() {
+        // Arrange
+        Order order = orderFor(1L, IN_STOCK);
+        when(orderPersistence.saveOrders(any())).thenThrow(new IllegalStateException("connection lost"));
+
+        // Act
+        List<OrderOutcome> outcomes = processOrderBatchUseCase.processOrders(List.of(order));
+
+        // Assert
+        assertThat(outcomes).extracting(OrderOutcome::getStatus).containsExactly(OrderOutcome.Status.FAILED);
+        assertThat(outcomes.get(0).getMessage()).contains("connection lost");
+        verifyNoInteractions(paymentGateway, notificationService);
+    }
+
+    @Test
+    void processOrders_ConfirmedChunkNotSaved_FailsChunkAndRefundsPayments() {
+        // Arrange
+        int size = ProcessOrderBatchUseCase.PERSIST_BATCH_SIZE + 1;
+        List<Order> orders = new ArrayList<>();
+        for (long customerId = 1; customerId <= size; customerId++) {
+            orders.add(orderFor(customerId, IN_STOCK));
+        }
+        Order lastOrder = orders.get(size - 1);
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(paymentGateway.refundPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(orderPersistence.saveOrders(any())).thenAnswer(invocation -> {
+            List<Order> saved = invocation.getArgument(0);
+            if (saved.get(0).getStatus() == Order.OrderStatus.CONFIRMED && saved.size() > 1) {
+                throw new IllegalStateException("connection lost");
+            }
+            return saved;
+        });
+
+        // Act
+        List<OrderOutcome> outcomes = processOrderBatchUseCase.processOrders(orders);
+
+        // Assert
+        assertThat(outcomes.subList(0, size - 1)).extracting(OrderOutcome::getStatus)
+                .containsOnly(OrderOutcome.Status.FAILED);
+        assertThat(outcomes.get(0).getMessage()).contains("refunded").contains("connection lost");
+        assertThat(outcomes.get(size - 1).isConfirmed()).isTrue();
+        assertThat(orders.get(0).getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        verify(paymentGateway, times(size - 1)).refundPayment(any(), any());
+        verify(paymentGateway).refundPayment(String.valueOf(orders.get(0).getOrderNumber()),
+                orders.get(0).getTotalAmount());
+        verify(notificationService).sendOrderConfirmation(lastOrder);
+        verifyNoMoreInteractions(notificationService);
+    }
+
+    private static Order orderFor(Long customerId, long productId) {
+        Order.OrderItem item = new Order.OrderItem();
+        item.setProductId(productId);
+        item.setQuantity(Quantity.of(1));
+        item.setUnitPrice(Money.of(100.00, Currency.getInstance("USD")));
+        Order order = new Order();
+        order.setCustomerId(customerId);
+        order.setItems(new ArrayList<>(List.of(item)));
+        return order;
+    }
+}
@@ -1,21 +1,41 @@
 package com.webshop.application.usecase;
 
+import com.webshop.application.port.out.AsyncPaymentGateway;
 import com.webshop.application.port.out.NotificationService;
-import com.webshop.application.port.out.PaymentGateway;
+import com.webshop.application.port.out.OrderIdempotencyPort;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.domain.catalog.AvailabilityIndex;
 import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderValidationResult;
+import com.webshop.domain.model.vo.FxRateTable;
 import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.model.vo.SnowflakeOrderNumberGenerator;
+import com.webshop.domain.service.ExchangeRateService;
+import com.webshop.domain.service.OrderPlacementService;
 import com.webshop.domain.service.OrderService;
+import com.webshop.shared.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
 import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -25,16 +45,36 @@ class ProcessOrderUseCaseTest {
     private OrderService orderService;
 
     @MockBean
-    private PaymentGateway paymentGateway;
+    private AsyncPaymentGateway paymentGateway;
 
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private ProductCatalogPort productCatalog;
+
+    @MockBean
+    private OrderPersistencePort orderPersistence;
+
+    @MockBean
+    private OrderIdempotencyPort orderIdempotency;
+
     private ProcessOrderUseCase processOrderUseCase;
 
+    private ExchangeRateService exchangeRateService;
+
     @BeforeEach
     void setUp() {
-        processOrderUseCase = new ProcessOrderUseCase(orderService, paymentGateway, notificationService);
+        exchangeRateService = new ExchangeRateService();
+        ConfirmOrderUseCase confirmOrderUseCase = new ConfirmOrderUseCase(new OrderService(), paymentGateway,
+                notificationService, orderPersistence, TransactionOperations.withoutTransaction(),
+                new OrderPlacementService(new SnowflakeOrderNumberGenerator(1), exchangeRateService,
+                        new OrderService()));
+        ProcessOrderBatchUseCase processOrderBatchUseCase = new ProcessOrderBatchUseCase(orderService,
+                paymentGateway, productCatalog, confirmOrderUseCase);
+        processOrderUseCase = new ProcessOrderUseCase(orderIdempotency, confirmOrderUseCase,
+                processOrderBatchUseCase);
+        when(productCatalog.availabilityIndex()).thenReturn(AvailabilityIndex.empty());
     }
 
     @Test
@@ -45,8 +85,8 @@ class ProcessOrderUseCaseTest {
         order.setCustomerId(1L);
         order.setTotalAmount(Money.of(100.00, usd));
 
-        when(orderService.validateOrder(any(), any())).thenReturn(true);
-        when(paymentGateway.processPayment(any(), any())).thenReturn(true);
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
         doNothing().when(notificationService).sendOrderConfirmation(order);
 
         // Act
@@ -55,9 +95,32 @@ class ProcessOrderUseCaseTest {
         // Assert
         verify(orderService).validateOrder(any(), any());
         verify(paymentGateway).processPayment(any(), any());
+        verify(orderPersistence, times(2)).saveOrders(List.of(order));
         verify(notificationService).sendOrderConfirmation(order);
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(result.getOrderNumber()).isNotNull();
+    }
+
+    @Test
+    void createOrder_ItemInOtherCurrency_PaysTotalInOrderCurrency() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        Currency eur = Currency.getInstance("EUR");
+        exchangeRateService.publish(FxRateTable.of(1, usd, Map.of(eur, 0.5)));
+        Order order = Order.builder().customerId(1L).currency(eur).items(new ArrayList<>(List.of(
+                Order.OrderItem.builder().productId(7L).quantity(Quantity.of(2)).unitPrice(Money.of(10.00, usd))
+                        .build()))).build();
+
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+
+        // Act
+        processOrderUseCase.createOrder(order);
+
+        // Assert
+        verify(paymentGateway).processPayment(1L, Money.of(10.00, eur));
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(10.00, eur));
     }
 
     @Test
@@ -68,8 +131,8 @@ class ProcessOrderUseCaseTest {
         order.setCustomerId(1L);
         order.setTotalAmount(Money.of(100.00, usd));
 
-        when(orderService.validateOrder(any(), any())).thenReturn(true);
-        when(paymentGateway.processPayment(any(), any())).thenReturn(false);
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(false));
 
         // Act & Assert
         Exception exception = assertThrows(RuntimeException.class, () -> {
@@ -78,6 +141,7 @@ class ProcessOrderUseCaseTest {
 
         verify(orderService).validateOrder(any(), any());
         verify(paymentGateway).processPayment(any(), any());
+        verify(orderPersistence, times(2)).saveOrders(List.of(order));
         verifyNoInteractions(notificationService);
         assertThat(exception)
                 .hasMessage("Payment failed");
@@ -85,16 +149,140 @@ class ProcessOrderUseCaseTest {
     }
 
     @Test
-    void updateOrderStatus_ValidStatus_Success() {
+    void createOrder_ShippedOrder_ThrowsBeforePayment() {
+        // Arrange
+        Order order = new Order();
+        order.setCustomerId(1L);
+        order.setStatus(Order.OrderStatus.SHIPPED);
+
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> processOrderUseCase.createOrder(order));
+        assertThat(exception.getErrorCode()).isEqualTo("INVALID_STATUS_TRANSITION");
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+        verifyNoInteractions(paymentGateway, notificationService, orderPersistence);
+    }
+
+    @Test
+    void createOrder_GatewayError_RethrowsCause() {
+        // Arrange
+        Order order = new Order();
+        order.setCustomerId(1L);
+
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () -> {
+            processOrderUseCase.createOrder(order);
+        });
+
+        verify(orderPersistence).saveOrders(List.of(order));
+        verifyNoInteractions(notificationService);
+        assertThat(exception).hasMessage("timeout");
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+    }
+
+    @Test
+    void createOrder_SaveFailsAfterPayment_RefundsOrderSavedBeforePayment() {
         // Arrange
-        Long orderId = 1L;
-        Order.OrderStatus newStatus = Order.OrderStatus.SHIPPED;
+        Order order = orderFor(1L);
+        List<Order.OrderStatus> savedStatuses = new ArrayList<>();
+
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(paymentGateway.refundPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        when(orderPersistence.saveOrders(any())).thenAnswer(invocation -> {
+            savedStatuses.add(order.getStatus());
+            if (order.getStatus() == Order.OrderStatus.CONFIRMED) {
+                throw new IllegalStateException("connection lost");
+            }
+            return List.of(order);
+        });
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> processOrderUseCase.createOrder(order));
+
+        assertThat(exception).hasMessage("connection lost");
+        assertThat(savedStatuses).containsExactly(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+        InOrder inOrder = inOrder(orderPersistence, paymentGateway);
+        inOrder.verify(orderPersistence).saveOrders(List.of(order));
+        inOrder.verify(paymentGateway).processPayment(any(), any());
+        inOrder.verify(paymentGateway).refundPayment(order.getOrderNumber().getValue(), order.getTotalAmount());
+        verifyNoInteractions(notificationService);
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void createOrder_UnavailableProduct_ThrowsException() {
+        // Arrange
+        Order order = new Order();
+        order.setCustomerId(1L);
+        OrderValidationResult validation = OrderValidationResult.withFailures(List.of(
+                new OrderValidationResult.LineFailure(0, 7L, OrderValidationResult.FailureReason.OUT_OF_STOCK)));
+
+        when(orderService.validateOrder(any(), any())).thenReturn(validation);
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+            processOrderUseCase.createOrder(order);
+        });
+
+        verifyNoInteractions(paymentGateway, notificationService);
+        assertThat(exception.getMessage()).startsWith("Invalid order").contains("OUT_OF_STOCK");
+    }
+
+    @Test
+    void createOrder_WithIdempotencyKey_CreatesThroughIdempotencyPort() {
+        // Arrange
+        Order order = orderFor(1L);
+        Order stored = orderFor(1L);
+        when(orderIdempotency.createOnce(eq("key-1"), eq(order), any())).thenReturn(stored);
+
+        // Act
+        Order result = processOrderUseCase.createOrder("key-1", order);
+
+        // Assert
+        assertThat(result).isSameAs(stored);
+        verifyNoInteractions(paymentGateway, orderPersistence, notificationService);
+    }
+
+    @Test
+    void createOrder_WithIdempotencyKey_ProcessesOrderWhenKeyIsNew() {
+        // Arrange
+        Order order = orderFor(1L);
+        when(orderService.validateOrder(any(), any())).thenReturn(OrderValidationResult.valid());
+        when(paymentGateway.processPayment(any(), any())).thenReturn(CompletableFuture.completedFuture(true));
+        List<Order> recorded = new ArrayList<>();
+        when(orderIdempotency.createOnce(eq("key-1"), eq(order), any()))
+                .thenAnswer(invocation -> invocation.<Function<Consumer<Order>, Order>>getArgument(2)
+                        .apply(recorded::add));
 
         // Act
-        processOrderUseCase.updateOrderStatus(orderId, newStatus);
+        Order result = processOrderUseCase.createOrder("key-1", order);
 
-        // Assert - Currently no implementation to verify
-        // This test should be updated once updateOrderStatus is implemented
-        verifyNoInteractions(orderService, paymentGateway, notificationService);
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+        assertThat(recorded).containsExactly(order);
+        verify(paymentGateway).processPayment(eq(1L), any());
+    }
+
+    @Test
+    void createOrder_BlankIdempotencyKey_ThrowsIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> processOrderUseCase.createOrder(" ", orderFor(1L)));
+        assertThrows(IllegalArgumentException.class, () -> processOrderUseCase.createOrder("k".repeat(256), orderFor(1L)));
+        verifyNoInteractions(orderIdempotency, paymentGateway);
+    }
+
+    private static Order orderFor(Long customerId) {
+        Order order = new Order();
+        order.setCustomerId(customerId);
+        order.setTotalAmount(Money.of(100.00, Currency.getInstance("USD")));
+        return order;
     }
 }
\ No newline at end of file
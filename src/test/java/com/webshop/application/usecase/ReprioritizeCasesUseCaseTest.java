@@ -0,0 +1,91 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import com.webshop.domain.service.CaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ReprioritizeCasesUseCaseTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
+    private ReprioritizeCasesUseCase reprioritizeCasesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        CaseService caseService = new CaseService(CLOCK);
+        reprioritizeCasesUseCase = new ReprioritizeCasesUseCase(caseService, casePersistence, CLOCK);
+        when(casePersistence.raisePriority(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+    }
+
+    @Test
+    void reprioritizeOpenCases_AgedCases_UpdatesOnlyChangedPriorities() {
+        // Arrange
+        List<CasePrioritySnapshot> cases = List.of(
+                snapshot(1L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, 1),
+                snapshot(2L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, 30),
+                snapshot(3L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, 50),
+                snapshot(4L, Case.CaseType.COMPLAINT, Case.CasePriority.MEDIUM, 50),
+                snapshot(5L, Case.CaseType.TECHNICAL_ISSUE, Case.CasePriority.CRITICAL, 50),
+                snapshot(6L, Case.CaseType.DAMAGE_CLAIM, null, 1));
+        when(casePersistence.findOpenCasesAfter(isNull(), anyInt())).thenReturn(cases);
+
+        // Act
+        int updated = reprioritizeCasesUseCase.reprioritizeOpenCases();
+
+        // Assert
+        assertThat(updated).isEqualTo(4);
+        verify(casePersistence).raisePriority(List.of(2L), Case.CasePriority.MEDIUM);
+        verify(casePersistence).raisePriority(List.of(3L, 4L, 6L), Case.CasePriority.HIGH);
+        verify(casePersistence, times(2)).raisePriority(anyCollection(), any());
+    }
+
+    @Test
+    void reprioritizeOpenCases_FullPage_ReadsNextPage() {
+        // Arrange
+        int pageSize = ReprioritizeCasesUseCase.PAGE_SIZE;
+        List<CasePrioritySnapshot> firstPage = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> snapshot(id, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, 1))
+                .toList();
+        when(casePersistence.findOpenCasesAfter(isNull(), anyInt())).thenReturn(firstPage);
+        when(casePersistence.findOpenCasesAfter(eq((long) pageSize), anyInt())).thenReturn(List.of(
+                snapshot(pageSize + 1L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, 100)));
+
+        // Act
+        int updated = reprioritizeCasesUseCase.reprioritizeOpenCases();
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        verify(casePersistence).raisePriority(List.of(pageSize + 1L), Case.CasePriority.HIGH);
+    }
+
+    private CasePrioritySnapshot snapshot(Long id, Case.CaseType type, Case.CasePriority priority, int ageHours) {
+        return new CasePrioritySnapshot(id, type, priority, NOW.minusHours(ageHours));
+    }
+}
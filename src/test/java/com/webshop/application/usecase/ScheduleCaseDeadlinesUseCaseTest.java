@@ -0,0 +1,81 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import com.webshop.domain.service.CaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class ScheduleCaseDeadlinesUseCaseTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
+    @MockBean
+    private CaseDeadlineScheduler scheduler;
+
+    private ScheduleCaseDeadlinesUseCase scheduleCaseDeadlinesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        scheduleCaseDeadlinesUseCase = new ScheduleCaseDeadlinesUseCase(new CaseService(CLOCK), casePersistence);
+    }
+
+    @Test
+    void scheduleOpenCaseDeadlines_OpenCases_SchedulesNextPriorityBoundaries() {
+        // Arrange
+        when(casePersistence.findOpenCasesAfter(isNull(), anyInt())).thenReturn(List.of(
+                new CasePrioritySnapshot(1L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, NOW),
+                new CasePrioritySnapshot(2L, Case.CaseType.COMPLAINT, Case.CasePriority.MEDIUM, null),
+                new CasePrioritySnapshot(3L, Case.CaseType.DAMAGE_CLAIM, Case.CasePriority.HIGH, NOW)));
+
+        // Act
+        int scheduled = scheduleCaseDeadlinesUseCase.scheduleOpenCaseDeadlines(scheduler);
+
+        // Assert
+        assertThat(scheduled).isEqualTo(1);
+        verify(scheduler).schedule(eq(1L), any());
+        verifyNoMoreInteractions(scheduler);
+    }
+
+    @Test
+    void scheduleOpenCaseDeadlines_FullPage_ReadsNextPage() {
+        // Arrange
+        List<CasePrioritySnapshot> firstPage = LongStream.rangeClosed(1, ScheduleCaseDeadlinesUseCase.PAGE_SIZE)
+                .mapToObj(id -> new CasePrioritySnapshot(id, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, NOW))
+                .toList();
+        when(casePersistence.findOpenCasesAfter(isNull(), anyInt())).thenReturn(firstPage);
+        when(casePersistence.findOpenCasesAfter(eq((long) ScheduleCaseDeadlinesUseCase.PAGE_SIZE), anyInt()))
+                .thenReturn(List.of());
+
+        // Act
+        int scheduled = scheduleCaseDeadlinesUseCase.scheduleOpenCaseDeadlines(scheduler);
+
+        // Assert
+        assertThat(scheduled).isEqualTo(ScheduleCaseDeadlinesUseCase.PAGE_SIZE);
+        verify(casePersistence, times(2)).findOpenCasesAfter(any(), anyInt());
+    }
+}
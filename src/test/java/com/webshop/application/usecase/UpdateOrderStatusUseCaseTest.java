@@ -0,0 +1,94 @@
+package com.webshop.application.usecase;
+
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.OrderStatusPort;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStatusChange;
+import com.webshop.domain.model.OrderStatusChangeResult;
+import com.webshop.shared.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class UpdateOrderStatusUseCaseTest {
+
+    @MockBean
+    private OrderStatusPort orderStatus;
+
+    @MockBean
+    private OrderPersistencePort orderPersistence;
+
+    private UpdateOrderStatusUseCase updateOrderStatusUseCase;
+
+    @BeforeEach
+    void setUp() {
+        updateOrderStatusUseCase = new UpdateOrderStatusUseCase(orderStatus, orderPersistence);
+    }
+
+    @Test
+    void updateOrderStatus_ValidStatus_Success() {
+        // Arrange
+        Long orderId = 1L;
+        Order.OrderStatus newStatus = Order.OrderStatus.SHIPPED;
+        Order shipped = new Order();
+        shipped.setStatus(newStatus);
+        when(orderStatus.changeStatuses(List.of(new OrderStatusChange(orderId, newStatus, null))))
+                .thenReturn(List.of(OrderStatusChangeResult.applied(orderId, newStatus)));
+        when(orderPersistence.findOrder(orderId)).thenReturn(Optional.of(shipped));
+
+        // Act
+        Order result = updateOrderStatusUseCase.updateOrderStatus(orderId, newStatus);
+
+        // Assert
+        assertThat(result).isSameAs(shipped);
+    }
+
+    @Test
+    void updateOrderStatus_InvalidTransition_ThrowsBusinessException() {
+        // Arrange
+        when(orderStatus.changeStatuses(any())).thenReturn(List.of(new OrderStatusChangeResult(1L,
+                OrderStatusChangeResult.Outcome.INVALID_TRANSITION, Order.OrderStatus.CANCELLED)));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> updateOrderStatusUseCase.updateOrderStatus(1L, Order.OrderStatus.SHIPPED));
+        assertThat(exception.getErrorCode()).isEqualTo("INVALID_STATUS_TRANSITION");
+        assertThat(exception.getMessage()).contains("CANCELLED", "SHIPPED");
+        verify(orderPersistence, never()).findOrder(any());
+    }
+
+    @Test
+    void updateOrderStatus_UnknownOrder_ThrowsBusinessException() {
+        // Arrange
+        when(orderStatus.changeStatuses(any())).thenReturn(List.of(new OrderStatusChangeResult(1L,
+                OrderStatusChangeResult.Outcome.NOT_FOUND, null)));
+
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> updateOrderStatusUseCase.updateOrderStatus(1L, Order.OrderStatus.SHIPPED));
+        assertThat(exception.getErrorCode()).isEqualTo("ORDER_NOT_FOUND");
+    }
+
+    @Test
+    void updateOrderStatuses_ChangeWithoutOrderId_ThrowsIllegalArgument() {
+        // Arrange
+        List<OrderStatusChange> changes = List.of(
+                new OrderStatusChange(1L, Order.OrderStatus.SHIPPED, null),
+                new OrderStatusChange(null, Order.OrderStatus.SHIPPED, null));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> updateOrderStatusUseCase.updateOrderStatuses(changes));
+        verifyNoInteractions(orderStatus);
+    }
+}
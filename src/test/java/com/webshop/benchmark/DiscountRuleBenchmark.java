@@ -0,0 +1,112 @@
+package com.webshop.benchmark;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.pricing.DiscountRule;
+import com.webshop.domain.pricing.DiscountRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of finding the best discount for one order against a compiled set
+ * of randomly generated tier, category, basket size and date window rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscountRuleBenchmark {
+
+    private static final int ORDER_COUNT = 1024;
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Param({ "10", "1000" })
+    private int ruleCount;
+
+    private DiscountRuleSet rules;
+    private Order[] orders;
+    private Customer.CustomerType[] customerTypes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ProductCategory[] categories = ProductCategory.values();
+        Customer.CustomerType[] types = Customer.CustomerType.values();
+
+        List<DiscountRule> generated = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            DiscountRule.DiscountRuleBuilder rule = DiscountRule.builder()
+                    .name("Rule " + i)
+                    .percentage(BigDecimal.valueOf(1 + random.nextInt(3000), 2));
+            if (random.nextBoolean()) {
+                rule.customerType(types[random.nextInt(types.length)]);
+            }
+            if (random.nextBoolean()) {
+                rule.category(categories[random.nextInt(categories.length)]);
+            }
+            if (random.nextInt(4) == 0) {
+                rule.minimumItems(2 + random.nextInt(10));
+            }
+            if (random.nextInt(4) == 0) {
+                rule.spendThreshold(BigDecimal.valueOf(random.nextInt(500)));
+            }
+            if (random.nextInt(4) == 0) {
+                LocalDateTime from = NOW.plusDays(random.nextInt(60) - 30);
+                rule.validFrom(from).validUntil(from.plusDays(1 + random.nextInt(14)));
+            }
+            generated.add(rule.build());
+        }
+        rules = DiscountRuleSet.compile(1, generated);
+
+        orders = new Order[ORDER_COUNT];
+        customerTypes = new Customer.CustomerType[ORDER_COUNT];
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            List<Order.OrderItem> items = new ArrayList<>();
+            int lines = 1 + random.nextInt(5);
+            for (int line = 0; line < lines; line++) {
+                items.add(Order.OrderItem.builder()
+                        .category(categories[random.nextInt(categories.length)])
+                        .unitPrice(Money.ofMinorUnits(100 + random.nextInt(20_000), USD))
+                        .quantity(Quantity.of(1 + random.nextInt(4)))
+                        .build());
+            }
+            Order order = Order.builder().items(items).orderDate(NOW).build();
+            order.calculateTotal();
+            orders[i] = order;
+            customerTypes[i] = types[random.nextInt(types.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public void evaluate(Blackhole blackhole) {
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            blackhole.consume(rules.evaluate(orders[i], customerTypes[i], NOW));
+        }
+    }
+}
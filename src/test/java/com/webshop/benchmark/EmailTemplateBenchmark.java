@@ -0,0 +1,59 @@
+package com.webshop.benchmark;
+
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.OrderNumber;
+import com.webshop.infrastructure.messaging.EmailTemplateCatalog;
+import com.webshop.infrastructure.messaging.NotificationTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering the subject and body of an order confirmation with
+ * string concatenation and {@link String#format} against the precompiled
+ * email templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private EmailTemplateCatalog templates;
+    private OrderNumber orderNumber;
+    private Money totalAmount;
+
+    @Setup
+    public void setUp() {
+        templates = new EmailTemplateCatalog(Locale.ENGLISH, List.of(Locale.ENGLISH));
+        orderNumber = OrderNumber.of("ORD-20260301-000042");
+        totalAmount = Money.of(149.95, Currency.getInstance("USD"));
+    }
+
+    @Benchmark
+    public void stringFormat(Blackhole blackhole) {
+        blackhole.consume("Order Confirmation #" + orderNumber);
+        blackhole.consume(String.format("Thank you for your order #%s. Your total amount is %s.",
+                orderNumber, totalAmount));
+    }
+
+    @Benchmark
+    public EmailTemplateCatalog.RenderedEmail compiledTemplate() {
+        return templates.render(NotificationTemplate.ORDER_CONFIRMATION, Locale.ENGLISH, orderNumber, totalAmount);
+    }
+}
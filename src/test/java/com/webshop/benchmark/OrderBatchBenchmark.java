@@ -0,0 +1,212 @@
+package com.webshop.benchmark;
+
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.port.out.OrderPersistencePort;
+import com.webshop.application.port.out.PaymentGateway;
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.application.usecase.ConfirmOrderUseCase;
+import com.webshop.application.usecase.ProcessOrderBatchUseCase;
+import com.webshop.application.usecase.ProcessOrderUseCase;
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderOutcome;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.Return;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.model.vo.SnowflakeOrderNumberGenerator;
+import com.webshop.domain.service.ExchangeRateService;
+import com.webshop.domain.service.OrderPlacementService;
+import com.webshop.domain.service.OrderService;
+import com.webshop.infrastructure.payment.VirtualThreadPaymentGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Orders processed per second through the single-order path and the batch
+ * path, against an in-memory payment gateway that takes a fixed time to
+ * authorize each payment. Every invocation gets a fresh batch of unconfirmed
+ * orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class OrderBatchBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Param({ "0", "200", "2000" })
+    private long paymentLatencyMicros;
+
+    private VirtualThreadPaymentGateway paymentGateway;
+    private ProcessOrderUseCase processOrderUseCase;
+    private ProcessOrderBatchUseCase processOrderBatchUseCase;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            products.add(Product.builder().id(id).stockQuantity(Quantity.of(1_000_000)).build());
+        }
+        FixedCatalog catalog = new FixedCatalog(AvailabilityIndex.of(products));
+
+        OrderService orderService = new OrderService();
+        paymentGateway = new VirtualThreadPaymentGateway(new LatencyPaymentGateway(paymentLatencyMicros));
+        ConfirmOrderUseCase confirmOrderUseCase = new ConfirmOrderUseCase(orderService, paymentGateway,
+                new SilentNotificationService(), new InMemoryOrders(), TransactionOperations.withoutTransaction(),
+                new OrderPlacementService(new SnowflakeOrderNumberGenerator(1), new ExchangeRateService(),
+                        orderService));
+        processOrderBatchUseCase = new ProcessOrderBatchUseCase(orderService, paymentGateway, catalog,
+                confirmOrderUseCase);
+        processOrderUseCase = new ProcessOrderUseCase((key, order, createOrder) -> createOrder.apply(pending -> { }),
+                confirmOrderUseCase, processOrderBatchUseCase);
+    }
+
+    @TearDown
+    public void tearDown() {
+        paymentGateway.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void singleOrders(Orders batch, Blackhole blackhole) {
+        for (Order order : batch.orders) {
+            blackhole.consume(processOrderUseCase.processOrder(order));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<OrderOutcome> batch(Orders batch) {
+        return processOrderBatchUseCase.processOrders(batch.orders);
+    }
+
+    /**
+     * A batch of orders not confirmed yet, rebuilt before every invocation
+     * since processing confirms them
+     */
+    @State(Scope.Thread)
+    public static class Orders {
+        private List<Order> orders;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            orders = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Order.OrderItem item = Order.OrderItem.builder()
+                        .productId(1L + i % 100)
+                        .quantity(Quantity.of(1 + i % 3))
+                        .unitPrice(Money.ofMinorUnits(1_999, USD))
+                        .build();
+                Order order = Order.builder().customerId((long) i).items(List.of(item)).build();
+                order.calculateTotal();
+                orders.add(order);
+            }
+        }
+    }
+
+    private static final class LatencyPaymentGateway implements PaymentGateway {
+        private final long latencyNanos;
+
+        private LatencyPaymentGateway(long latencyMicros) {
+            this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        }
+
+        @Override
+        public boolean processPayment(Long customerId, Money amount) {
+            if (latencyNanos > 0) {
+                LockSupport.parkNanos(latencyNanos);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean refundPayment(String transactionId, Money amount) {
+            return true;
+        }
+    }
+
+    private static final class FixedCatalog implements ProductCatalogPort {
+        private final AvailabilityIndex availability;
+
+        private FixedCatalog(AvailabilityIndex availability) {
+            this.availability = availability;
+        }
+
+        @Override
+        public AvailabilityIndex availabilityIndex() {
+            return availability;
+        }
+
+        @Override
+        public void invalidateAvailability() {
+        }
+
+        @Override
+        public List<Product> findProductsAfter(Long afterId, int pageSize) {
+            return List.of();
+        }
+    }
+
+    private static final class InMemoryOrders implements OrderPersistencePort {
+        @Override
+        public List<Order> saveOrders(List<Order> orders) {
+            return orders;
+        }
+
+        @Override
+        public Optional<Order> findOrder(Long orderId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Order> findOrders(Collection<Long> orderIds) {
+            return List.of();
+        }
+    }
+
+    private static final class SilentNotificationService implements NotificationService {
+        @Override
+        public void sendOrderConfirmation(Order order) {
+        }
+
+        @Override
+        public void sendReturnApproval(Return returnRequest) {
+        }
+
+        @Override
+        public void sendEscalationAlert(Case caseEntity) {
+        }
+
+        @Override
+        public void sendStatusUpdate(Long customerId, String message) {
+        }
+    }
+}
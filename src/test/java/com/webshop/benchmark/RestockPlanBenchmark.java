@@ -0,0 +1,92 @@
+package com.webshop.benchmark;
+
+import com.webshop.application.port.out.ProductCatalogPort;
+import com.webshop.application.usecase.PlanRestockUseCase;
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.model.vo.SKU;
+import com.webshop.domain.service.ProductService;
+import com.webshop.infrastructure.reporting.RestockPlanFileWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a whole-catalog restock run over an in-memory catalog of
+ * {@value #CATALOG_SIZE} products, reported per product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestockPlanBenchmark {
+
+    private static final int CATALOG_SIZE = 200_000;
+
+    @Param({ "CSV", "NDJSON" })
+    private RestockPlanFileWriter.Format format;
+
+    private PlanRestockUseCase planRestockUseCase;
+
+    @Setup
+    public void setUp() {
+        Product[] catalog = new Product[CATALOG_SIZE];
+        for (int i = 0; i < catalog.length; i++) {
+            catalog[i] = Product.builder()
+                    .id(i + 1L)
+                    .sku(SKU.of(String.format("SKU%08d", i)))
+                    .name("Product " + i)
+                    .stockQuantity(Quantity.of(i % 200))
+                    .build();
+        }
+        planRestockUseCase = new PlanRestockUseCase(new ProductService(), new InMemoryCatalog(catalog));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CATALOG_SIZE)
+    public RestockPlanSummary planRestock() {
+        return planRestockUseCase.planRestock(new RestockPlanFileWriter(Writer.nullWriter(), format));
+    }
+
+    private static final class InMemoryCatalog implements ProductCatalogPort {
+        private final Product[] products;
+
+        InMemoryCatalog(Product[] products) {
+            this.products = products;
+        }
+
+        @Override
+        public AvailabilityIndex availabilityIndex() {
+            return AvailabilityIndex.of(Arrays.asList(products));
+        }
+
+        @Override
+        public void invalidateAvailability() {
+        }
+
+        @Override
+        public List<Product> findProductsAfter(Long afterId, int pageSize) {
+            int from = afterId == null ? 0 : afterId.intValue();
+            return Arrays.asList(products).subList(Math.min(from, products.length),
+                    Math.min(from + pageSize, products.length));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.webshop.benchmark;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the restock and stock reduction paths with common quantities.
+ * Run with {@code -prof gc}: gc.alloc.rate.norm should be ~0 B/op.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectCacheBenchmark {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Quantity INITIAL_STOCK = Quantity.of(500);
+
+    private final ProductService productService = new ProductService();
+    private Product lowStockProduct;
+    private Product stockedProduct;
+    private Quantity orderQuantity;
+
+    @Setup
+    public void setUp() {
+        lowStockProduct = Product.builder().stockQuantity(Quantity.of(8)).build();
+        stockedProduct = Product.builder().stockQuantity(INITIAL_STOCK).build();
+        orderQuantity = Quantity.of(3);
+    }
+
+    @Benchmark
+    public Quantity calculateRestockQuantity() {
+        return productService.calculateRestockQuantity(lowStockProduct);
+    }
+
+    @Benchmark
+    public Quantity reduceStock() {
+        stockedProduct.setStockQuantity(INITIAL_STOCK);
+        stockedProduct.reduceStock(orderQuantity);
+        return stockedProduct.getStockQuantity();
+    }
+
+    @Benchmark
+    public Money moneyZero() {
+        return Money.zero(USD);
+    }
+}
@@ -0,0 +1,77 @@
+package com.webshop.domain.catalog;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class AvailabilityIndexTest {
+
+    @Test
+    void of_Products_IndexesStockById() {
+        // Arrange
+        Product inStock = Product.builder().id(1L).stockQuantity(Quantity.of(5)).build();
+        Product soldOut = Product.builder().id(2L).stockQuantity(Quantity.zero()).build();
+        Product noStock = Product.builder().id(3L).build();
+
+        // Act
+        AvailabilityIndex index = AvailabilityIndex.of(List.of(inStock, soldOut, noStock));
+
+        // Assert
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.stockOf(1L)).isEqualTo(5);
+        assertThat(index.isAvailable(2L)).isFalse();
+        assertThat(index.contains(3L)).isTrue();
+        assertThat(index.stockOf(4L)).isEqualTo(AvailabilityIndex.UNKNOWN);
+    }
+
+    @Test
+    void builder_ManyEntries_GrowsAndKeepsAllKeys() {
+        // Arrange
+        AvailabilityIndex.Builder builder = AvailabilityIndex.builder(1);
+
+        // Act
+        for (long id = 0; id < 100_000; id++) {
+            builder.put(id * 1024, (int) (id % 7));
+        }
+        AvailabilityIndex index = builder.build();
+
+        // Assert
+        assertThat(index.size()).isEqualTo(100_000);
+        for (long id = 0; id < 100_000; id++) {
+            assertThat(index.stockOf(id * 1024)).isEqualTo((int) (id % 7));
+        }
+        assertThat(index.contains(1023L)).isFalse();
+    }
+
+    @Test
+    void builder_DuplicateProduct_KeepsLastStock() {
+        // Act
+        AvailabilityIndex index = AvailabilityIndex.builder(2).put(9L, 1).put(9L, 4).build();
+
+        // Assert
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.stockOf(9L)).isEqualTo(4);
+    }
+
+    @Test
+    void builder_NegativeStock_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> AvailabilityIndex.builder(1).put(1L, -1));
+    }
+
+    @Test
+    void empty_ContainsNothing() {
+        // Act & Assert
+        assertThat(AvailabilityIndex.empty().size()).isZero();
+        assertThat(AvailabilityIndex.empty().contains(0L)).isFalse();
+        assertThat(AvailabilityIndex.empty().contains(1L)).isFalse();
+    }
+}
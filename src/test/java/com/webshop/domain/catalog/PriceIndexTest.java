@@ -0,0 +1,100 @@
+package com.webshop.domain.catalog;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class PriceIndexTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    private PriceIndex priceIndex;
+    private Product lamp;
+    private Product radio;
+    private Product book;
+    private Product euroRadio;
+
+    @BeforeEach
+    void setUp() {
+        lamp = product(1L, 40.00, USD, ProductCategory.HOME_AND_GARDEN);
+        radio = product(2L, 120.00, USD, ProductCategory.ELECTRONICS);
+        book = product(3L, 15.50, USD, ProductCategory.BOOKS);
+        euroRadio = product(4L, 99.00, EUR, ProductCategory.ELECTRONICS);
+        priceIndex = new PriceIndex();
+        priceIndex.rebuild(List.of(lamp, radio, book, euroRadio));
+    }
+
+    @Test
+    void findInRange_Category_ReturnsInclusiveRange() {
+        // Act
+        List<Product> result = priceIndex.findInRange(ProductCategory.ELECTRONICS,
+                Money.of(50.00, USD), Money.of(120.00, USD));
+
+        // Assert
+        assertThat(result).containsExactly(radio);
+    }
+
+    @Test
+    void findInRange_AllCategories_OnlyMatchesCurrency() {
+        // Act
+        List<Product> result = priceIndex.findInRange(null, Money.zero(USD), Money.of(1000.00, USD));
+
+        // Assert
+        assertThat(result).containsExactlyInAnyOrder(lamp, radio, book);
+    }
+
+    @Test
+    void update_PriceChange_MovesProduct() {
+        // Arrange
+        radio.setPrice(Money.of(30.00, USD));
+
+        // Act
+        priceIndex.update(radio);
+
+        // Assert
+        assertThat(priceIndex.findInRange(ProductCategory.ELECTRONICS, Money.of(50.00, USD), Money.of(200.00, USD)))
+                .isEmpty();
+        assertThat(priceIndex.findInRange(null, Money.of(20.00, USD), Money.of(45.00, USD)))
+                .containsExactlyInAnyOrder(lamp, radio);
+        assertThat(priceIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    void update_SamePriceProducts_KeepsAll() {
+        // Arrange
+        Product second = product(5L, 40.00, USD, ProductCategory.HOME_AND_GARDEN);
+        Product first = product(0L, 40.00, USD, ProductCategory.HOME_AND_GARDEN);
+
+        // Act
+        priceIndex.update(second);
+        priceIndex.update(first);
+        priceIndex.remove(1L);
+
+        // Assert
+        assertThat(priceIndex.findInRange(ProductCategory.HOME_AND_GARDEN, Money.of(40.00, USD), Money.of(40.00, USD)))
+                .containsExactly(first, second);
+    }
+
+    @Test
+    void findInRange_MixedCurrencies_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> priceIndex.findInRange(null, Money.zero(USD), Money.of(10.00, EUR)));
+    }
+
+    private Product product(Long id, double price, Currency currency, ProductCategory category) {
+        return Product.builder().id(id).price(Money.of(price, currency)).category(category).build();
+    }
+}
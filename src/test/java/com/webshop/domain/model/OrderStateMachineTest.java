@@ -0,0 +1,96 @@
+package com.webshop.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Set;
+
+import static com.webshop.domain.model.Order.OrderStatus.CANCELLED;
+import static com.webshop.domain.model.Order.OrderStatus.CONFIRMED;
+import static com.webshop.domain.model.Order.OrderStatus.DELIVERED;
+import static com.webshop.domain.model.Order.OrderStatus.PENDING;
+import static com.webshop.domain.model.Order.OrderStatus.PROCESSING;
+import static com.webshop.domain.model.Order.OrderStatus.RETURNED;
+import static com.webshop.domain.model.Order.OrderStatus.SHIPPED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class OrderStateMachineTest {
+
+    @Test
+    void canTransition_EveryPair_MatchesOrderLifecycle() {
+        // Arrange
+        Set<String> allowed = Set.of("null>PENDING", "null>CONFIRMED", "null>CANCELLED",
+                "PENDING>CONFIRMED", "PENDING>CANCELLED",
+                "CONFIRMED>PROCESSING", "CONFIRMED>SHIPPED", "CONFIRMED>CANCELLED",
+                "PROCESSING>SHIPPED", "SHIPPED>DELIVERED", "DELIVERED>RETURNED");
+        Order.OrderStatus[] sources = new Order.OrderStatus[Order.OrderStatus.values().length + 1];
+        System.arraycopy(Order.OrderStatus.values(), 0, sources, 1, sources.length - 1);
+
+        // Act & Assert
+        for (Order.OrderStatus from : sources) {
+            for (Order.OrderStatus to : Order.OrderStatus.values()) {
+                assertThat(OrderStateMachine.canTransition(from, to))
+                        .as("%s to %s", from, to)
+                        .isEqualTo(allowed.contains(from + ">" + to));
+            }
+            assertThat(OrderStateMachine.canTransition(from, null)).isFalse();
+        }
+    }
+
+    @Test
+    void transition_AllowedTarget_ChangesStatus() {
+        // Arrange
+        Order order = new Order();
+        order.setStatus(CONFIRMED);
+
+        // Act
+        boolean result = OrderStateMachine.transition(order, SHIPPED);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(order.getStatus()).isEqualTo(SHIPPED);
+    }
+
+    @Test
+    void transition_RejectedTarget_LeavesOrderUnchanged() {
+        // Arrange
+        Order order = new Order();
+        order.setStatus(DELIVERED);
+
+        // Act
+        boolean cancelled = OrderStateMachine.transition(order, CANCELLED);
+        boolean unchanged = OrderStateMachine.transition(order, DELIVERED);
+
+        // Assert
+        assertThat(cancelled).isFalse();
+        assertThat(unchanged).isFalse();
+        assertThat(order.getStatus()).isEqualTo(DELIVERED);
+    }
+
+    @Test
+    void isCancellable_FollowsMachine() {
+        // Arrange
+        Order unplaced = new Order();
+        Order confirmed = new Order();
+        confirmed.setStatus(CONFIRMED);
+        Order shipped = new Order();
+        shipped.setStatus(SHIPPED);
+
+        // Act & Assert
+        assertThat(unplaced.isCancellable()).isTrue();
+        assertThat(confirmed.isCancellable()).isTrue();
+        assertThat(shipped.isCancellable()).isFalse();
+        assertThat(SHIPPED.canTransitionTo(DELIVERED)).isTrue();
+    }
+
+    @Test
+    void predecessors_EveryStatus_ListsAllowedSources() {
+        // Act & Assert
+        assertThat(OrderStateMachine.predecessors(PENDING)).isEmpty();
+        assertThat(OrderStateMachine.predecessors(SHIPPED)).containsExactly(CONFIRMED, PROCESSING);
+        assertThat(OrderStateMachine.predecessors(CANCELLED)).containsExactly(PENDING, CONFIRMED);
+        assertThat(OrderStateMachine.predecessors(RETURNED)).containsExactly(DELIVERED);
+    }
+}
@@ -0,0 +1,57 @@
+package com.webshop.domain.model;
+
+import com.webshop.domain.model.vo.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class ReturnTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    void calculateRefundAmount_ItemRefunds_SumsAndStoresTotal() {
+        // Arrange
+        Return returnRequest = Return.builder()
+                .items(new ArrayList<>(Arrays.asList(
+                        item("19.99"),
+                        item("0.005"),
+                        item(null),
+                        item("5.01"))))
+                .build();
+
+        // Act
+        Money refund = returnRequest.calculateRefundAmount(EUR);
+
+        // Assert
+        assertThat(refund).isEqualTo(Money.of(new BigDecimal("25.01"), EUR));
+        assertThat(returnRequest.getRefundAmount()).isEqualByComparingTo("25.01");
+    }
+
+    @Test
+    void calculateRefundAmount_NoItems_IsZero() {
+        // Arrange
+        Return returnRequest = new Return();
+
+        // Act
+        Money refund = returnRequest.calculateRefundAmount(EUR);
+
+        // Assert
+        assertThat(refund).isEqualTo(Money.zero(EUR));
+        assertThat(returnRequest.getRefundAmount()).isEqualByComparingTo("0.00");
+    }
+
+    private static Return.ReturnItem item(String refund) {
+        return Return.ReturnItem.builder()
+                .refundAmount(refund == null ? null : new BigDecimal(refund))
+                .build();
+    }
+}
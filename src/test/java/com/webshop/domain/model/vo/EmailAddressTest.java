@@ -0,0 +1,38 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class EmailAddressTest {
+
+    @Test
+    void of_MixedCase_ReturnsLowerCase() {
+        // Act
+        EmailAddress result = EmailAddress.of("John.Doe+shop@Example.COM");
+
+        // Assert
+        assertThat(result.getValue()).isEqualTo("john.doe+shop@example.com");
+    }
+
+    @Test
+    void tryParse_InvalidAddresses_ReturnsNull() {
+        // Act & Assert
+        assertThat(EmailAddress.tryParse("@example.com")).isNull();
+        assertThat(EmailAddress.tryParse("john@")).isNull();
+        assertThat(EmailAddress.tryParse("john doe@example.com")).isNull();
+        assertThat(EmailAddress.tryParse("john@exa\nmple.com")).isNull();
+        assertThat(EmailAddress.tryParse(null)).isNull();
+    }
+
+    @Test
+    void of_InvalidAddress_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmailAddress.of("invalid"));
+        assertThrows(IllegalArgumentException.class, () -> EmailAddress.of(" "));
+    }
+}
@@ -0,0 +1,84 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Currency;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class FxRateTableTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    void rate_CrossCurrencies_DerivedFromBase() {
+        // Arrange
+        FxRateTable table = FxRateTable.of(1, USD, Map.of(EUR, 0.8, JPY, 160.0));
+
+        // Act & Assert
+        assertThat(table.rate(EUR, JPY)).isEqualTo(200.0);
+        assertThat(table.rate(EUR, USD)).isEqualTo(1.25);
+        assertThat(table.rate(JPY, JPY)).isEqualTo(1.0);
+    }
+
+    @Test
+    void convert_RoundsHalfUp() {
+        // Arrange
+        FxRateTable table = FxRateTable.of(1, USD, Map.of(EUR, 0.5));
+
+        // Act
+        Money result = table.convert(Money.of(0.05, EUR), USD);
+
+        // Assert
+        assertThat(result).isEqualTo(Money.of(0.10, USD));
+        assertThat(table.convert(Money.of(-0.01, USD), EUR).getAmount()).isEqualByComparingTo("-0.01");
+    }
+
+    @Test
+    void convert_DecimalHalfway_RoundsLikeMoneyMultiply() {
+        // Arrange
+        // 100 minor units times 1.005 is 100.49999999999999 in double arithmetic
+        FxRateTable table = FxRateTable.of(1, USD, Map.of(EUR, 1.005));
+        Money price = Money.of(1.00, USD);
+
+        // Act
+        Money result = table.convert(price, EUR);
+
+        // Assert
+        assertThat(result.getAmount()).isEqualByComparingTo("1.01");
+        assertThat(result.getAmount()).isEqualByComparingTo(price.multiply(1.005).getAmount());
+    }
+
+    @Test
+    void rate_UnknownCurrency_ThrowsException() {
+        // Arrange
+        FxRateTable table = FxRateTable.of(1, USD, Map.of(EUR, 0.8));
+
+        // Act & Assert
+        assertThat(table.supports(JPY)).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> table.rate(USD, JPY));
+    }
+
+    @Test
+    void of_NonPositiveRate_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> FxRateTable.of(1, USD, Map.of(EUR, 0.0)));
+        assertThrows(IllegalArgumentException.class, () -> FxRateTable.of(1, USD, Map.of(EUR, Double.NaN)));
+    }
+
+    @Test
+    void identity_SameCurrency_ReturnsSameAmount() {
+        // Act
+        Money result = FxRateTable.identity().convert(Money.of(12.34, EUR), EUR);
+
+        // Assert
+        assertThat(result).isEqualTo(Money.of(12.34, EUR));
+    }
+}
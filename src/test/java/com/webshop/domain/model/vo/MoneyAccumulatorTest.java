@@ -0,0 +1,98 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class MoneyAccumulatorTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Test
+    void toMoney_NoValues_ReturnsZero() {
+        // Act
+        Money result = MoneyAccumulator.of(USD).toMoney();
+
+        // Assert
+        assertThat(result).isEqualTo(Money.zero(USD));
+    }
+
+    @Test
+    void add_ManyValues_ReturnsExactSum() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+        Money line = Money.of(0.10, USD);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            accumulator.add(line);
+        }
+
+        // Assert
+        assertThat(accumulator.toMoney().getAmount()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    void add_DifferentCurrency_ThrowsException() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> accumulator.add(Money.of(1.00, Currency.getInstance("EUR"))));
+    }
+
+    @Test
+    void add_BeyondLongRange_KeepsExactTotal() {
+        // Arrange
+        Money large = Money.of(new BigDecimal("90000000000000000.00"), USD);
+        MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            accumulator.add(Money.ofMinorUnits(Long.MAX_VALUE / 100, USD));
+        }
+        accumulator.add(large);
+
+        // Assert
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE / 100, 2)
+                .multiply(BigDecimal.valueOf(200))
+                .add(large.getAmount());
+        assertThat(accumulator.toMoney().getAmount()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void summing_ParallelStream_MatchesSequentialSum() {
+        // Arrange
+        List<Money> values = IntStream.rangeClosed(1, 5_000)
+                .mapToObj(i -> Money.ofMinorUnits(i, USD))
+                .toList();
+
+        // Act
+        Money result = values.parallelStream().collect(MoneyAccumulator.summing(USD));
+
+        // Assert
+        assertThat(result.toMinorUnits()).isEqualTo(5_000L * 5_001 / 2);
+    }
+
+    @Test
+    void add_RawAmounts_RoundsLikeMoney() {
+        // Arrange
+        MoneyAccumulator accumulator = MoneyAccumulator.of(USD);
+
+        // Act
+        accumulator.add(new BigDecimal("10.005")).add(Money.of(1.00, USD));
+
+        // Assert
+        assertThat(accumulator.toMoney().getAmount()).isEqualByComparingTo("11.01");
+    }
+}
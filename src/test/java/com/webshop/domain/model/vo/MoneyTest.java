@@ -0,0 +1,103 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Test
+    void add_SameCurrency_SumsAmounts() {
+        // Act
+        Money result = Money.of(19.99, USD).add(Money.of(0.01, USD));
+
+        // Assert
+        assertThat(result.getAmount()).isEqualByComparingTo("20.00");
+        assertThat(result.getAmount().scale()).isEqualTo(2);
+        assertThat(result.toMinorUnits()).isEqualTo(2000);
+    }
+
+    @Test
+    void add_DifferentCurrency_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Money.of(1.00, USD).add(Money.of(1.00, EUR)));
+    }
+
+    @Test
+    void subtract_BelowZero_ReturnsNegativeAmount() {
+        // Act
+        Money result = Money.of(5.00, USD).subtract(Money.of(7.50, USD));
+
+        // Assert
+        assertThat(result.getAmount()).isEqualByComparingTo("-2.50");
+    }
+
+    @Test
+    void multiply_IntegralFactor_MatchesQuantityMultiply() {
+        // Arrange
+        Money unitPrice = Money.of(12.34, USD);
+
+        // Act & Assert
+        assertThat(unitPrice.multiply(3.0)).isEqualTo(unitPrice.multiply(3));
+        assertThat(unitPrice.multiply(3).getAmount()).isEqualByComparingTo("37.02");
+    }
+
+    @Test
+    void multiply_FractionalFactor_RoundsHalfUp() {
+        // Act
+        Money result = Money.of(0.10, USD).multiply(0.15);
+
+        // Assert
+        assertThat(result.getAmount()).isEqualByComparingTo("0.02");
+    }
+
+    @Test
+    void multiply_BeyondLongRange_FallsBackToBigDecimal() {
+        // Arrange
+        Money large = Money.of(new BigDecimal("9000000000000000.00"), USD);
+
+        // Act
+        Money result = large.multiply(1_000);
+
+        // Assert
+        assertThat(result.getAmount()).isEqualByComparingTo("9000000000000000000.00");
+        assertThrows(ArithmeticException.class, result::toMinorUnits);
+        assertThat(result.isGreaterThan(large)).isTrue();
+        assertThat(result.subtract(result)).isEqualTo(Money.zero(USD));
+    }
+
+    @Test
+    void equals_SameValueDifferentScale_AreEqual() {
+        // Act & Assert
+        assertThat(Money.of(new BigDecimal("10"), USD)).isEqualTo(Money.of(new BigDecimal("10.000"), USD));
+        assertThat(Money.of(new BigDecimal("10"), USD)).isEqualTo(Money.ofMinorUnits(1000, USD));
+        assertThat(Money.of(10.00, USD)).isNotEqualTo(Money.of(10.00, EUR));
+    }
+
+    @Test
+    void isLessThan_ComparesAmounts() {
+        // Act & Assert
+        assertThat(Money.of(99.99, USD).isLessThan(Money.of(100.00, USD))).isTrue();
+        assertThat(Money.of(100.00, USD).isLessThan(Money.of(100.00, USD))).isFalse();
+        assertThat(Money.of(100.01, USD).isGreaterThan(Money.of(100.00, USD))).isTrue();
+    }
+
+    @Test
+    void zero_SameCurrency_ReturnsCachedInstance() {
+        // Act & Assert
+        assertThat(Money.zero(USD)).isSameAs(Money.zero(USD));
+        assertThat(Money.zero(EUR).getCurrency()).isEqualTo(EUR);
+        assertThat(Money.zero(Currency.getInstance("XFU")).getCurrency())
+                .isNotEqualTo(Money.zero(Currency.getInstance("XFO")).getCurrency());
+    }
+}
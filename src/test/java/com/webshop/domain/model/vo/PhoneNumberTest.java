@@ -0,0 +1,39 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class PhoneNumberTest {
+
+    @Test
+    void of_FormattedNumber_StripsSeparators() {
+        // Act
+        PhoneNumber result = PhoneNumber.of("+1 (555) 123-4567");
+
+        // Assert
+        assertThat(result.getValue()).isEqualTo("+15551234567");
+    }
+
+    @Test
+    void tryParse_InvalidNumbers_ReturnsNull() {
+        // Act & Assert
+        assertThat(PhoneNumber.tryParse("0123456")).isNull();
+        assertThat(PhoneNumber.tryParse("1")).isNull();
+        assertThat(PhoneNumber.tryParse("1234567890123456")).isNull();
+        assertThat(PhoneNumber.tryParse("12+34")).isNull();
+        assertThat(PhoneNumber.tryParse("555.1234")).isNull();
+        assertThat(PhoneNumber.tryParse(null)).isNull();
+    }
+
+    @Test
+    void of_InvalidNumber_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PhoneNumber.of("abc"));
+        assertThrows(IllegalArgumentException.class, () -> PhoneNumber.of("  "));
+    }
+}
@@ -0,0 +1,32 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class QuantityTest {
+
+    @Test
+    void of_SmallValue_ReturnsCachedInstance() {
+        // Act & Assert
+        assertThat(Quantity.of(50)).isSameAs(Quantity.of(50));
+        assertThat(Quantity.of(10).add(Quantity.of(40))).isSameAs(Quantity.of(50));
+        assertThat(Quantity.zero()).isSameAs(Quantity.of(0));
+    }
+
+    @Test
+    void of_LargeValue_EqualsByValue() {
+        // Act & Assert
+        assertThat(Quantity.of(5_000)).isEqualTo(Quantity.of(1_000).add(Quantity.of(4_000)));
+    }
+
+    @Test
+    void subtract_BelowZero_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Quantity.of(1).subtract(Quantity.of(2)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class SKUTest {
+
+    @Test
+    void of_LowerCaseWithWhitespace_Normalizes() {
+        // Act
+        SKU result = SKU.of("  abc12345 ");
+
+        // Assert
+        assertThat(result.getValue()).isEqualTo("ABC12345");
+    }
+
+    @Test
+    void of_InvalidFormat_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> SKU.of("ABC1234"));
+        assertThrows(IllegalArgumentException.class, () -> SKU.of("ABC1234567890123"));
+        assertThrows(IllegalArgumentException.class, () -> SKU.of("ABC-12345"));
+        assertThrows(IllegalArgumentException.class, () -> SKU.of("   "));
+        assertThrows(IllegalArgumentException.class, () -> SKU.of(null));
+    }
+
+    @Test
+    void packed_RoundTrips() {
+        // Arrange
+        String[] values = { "00000000", "TESTSKU001", "ZZZZZZZZZZZZ", "A1B2C3D4E5" };
+
+        // Act & Assert
+        for (String value : values) {
+            SKU sku = SKU.of(value);
+            assertThat(sku.packed()).isPositive();
+            assertThat(SKU.fromPacked(sku.packed())).isEqualTo(sku);
+        }
+    }
+
+    @Test
+    void packed_PreservesLengthThenAlphanumericOrder() {
+        // Act & Assert
+        assertThat(SKU.of("ZZZZZZZZ").packed()).isLessThan(SKU.of("000000000").packed());
+        assertThat(SKU.of("ABCDEFG9").packed()).isLessThan(SKU.of("ABCDEFGA").packed());
+        assertThat(SKU.of("00000001").packed()).isEqualTo(SKU.of("00000000").packed() + 1);
+    }
+
+    @Test
+    void packed_TooLong_ThrowsException() {
+        // Arrange
+        SKU sku = SKU.of("ABCDEFGHIJKLM");
+
+        // Act & Assert
+        assertThat(sku.isPackable()).isFalse();
+        assertThrows(ArithmeticException.class, sku::packed);
+        assertThrows(IllegalArgumentException.class, () -> SKU.fromPacked(1L));
+    }
+}
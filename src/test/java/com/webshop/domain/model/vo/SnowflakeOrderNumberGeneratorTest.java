@@ -0,0 +1,84 @@
+package com.webshop.domain.model.vo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final long NOW = 1_767_225_600_000L; // 2026-01-01T00:00:00Z
+
+    @Test
+    void next_ReturnsFixedWidthOrderNumber() {
+        // Arrange
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7, () -> NOW);
+
+        // Act
+        OrderNumber result = generator.next();
+
+        // Assert
+        assertThat(result.getValue()).matches("ORD-[0-9A-HJKMNP-TV-Z]{13}");
+    }
+
+    @Test
+    void next_SameMillisecond_IncreasesMonotonically() {
+        // Arrange
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1, () -> NOW);
+
+        // Act
+        List<String> values = IntStream.range(0, 10_000)
+                .mapToObj(i -> generator.next().getValue())
+                .toList();
+
+        // Assert
+        assertThat(values).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void next_ClockStepsBack_StaysMonotonic() {
+        // Arrange
+        long[] now = { NOW };
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1, () -> now[0]);
+        long first = generator.nextId();
+
+        // Act
+        now[0] -= 5_000;
+        long second = generator.nextId();
+
+        // Assert
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void next_DifferentNodes_NeverCollide() {
+        // Arrange
+        SnowflakeOrderNumberGenerator nodeA = new SnowflakeOrderNumberGenerator(1, () -> NOW);
+        SnowflakeOrderNumberGenerator nodeB = new SnowflakeOrderNumberGenerator(2, () -> NOW);
+        Set<String> values = ConcurrentHashMap.newKeySet();
+
+        // Act
+        IntStream.range(0, 20_000).parallel().forEach(i -> {
+            values.add(nodeA.next().getValue());
+            values.add(nodeB.next().getValue());
+        });
+
+        // Assert
+        assertThat(values).hasSize(40_000);
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderNumberGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeOrderNumberGenerator(-1));
+    }
+}
@@ -0,0 +1,125 @@
+package com.webshop.domain.pricing;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+import com.webshop.domain.model.vo.Quantity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class DiscountRuleSetTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    void evaluate_DefaultRules_MatchLegacyDiscounts() {
+        // Arrange
+        DiscountRuleSet rules = DiscountRuleSet.defaults();
+        Order large = orderOf(Money.of(200.00, USD));
+        Order threshold = orderOf(Money.of(100.00, USD));
+
+        // Act & Assert
+        assertThat(rules.evaluate(large, Customer.CustomerType.VIP, NOW).getAmount()).isEqualByComparingTo("30.00");
+        assertThat(rules.evaluate(large, Customer.CustomerType.PREMIUM, NOW).getAmount()).isEqualByComparingTo("10.00");
+        assertThat(rules.evaluate(large, Customer.CustomerType.REGULAR, NOW).getAmount()).isEqualByComparingTo("10.00");
+        assertThat(rules.evaluate(threshold, Customer.CustomerType.VIP, NOW)).isEqualTo(Money.zero(USD));
+        assertThat(rules.evaluate(large, null, NOW)).isEqualTo(Money.zero(USD));
+    }
+
+    @Test
+    void evaluate_CategoryRule_DiscountsOnlyThatCategory() {
+        // Arrange
+        DiscountRuleSet rules = DiscountRuleSet.compile(1, List.of(DiscountRule.builder()
+                .name("Books week")
+                .category(ProductCategory.BOOKS)
+                .percentage(BigDecimal.valueOf(50))
+                .build()));
+        Order order = orderOf(Money.of(130.00, USD),
+                item(ProductCategory.BOOKS, Money.of(10.00, USD), 3),
+                item(ProductCategory.ELECTRONICS, Money.of(100.00, USD), 1));
+
+        // Act
+        Money discount = rules.evaluate(order, Customer.CustomerType.REGULAR, NOW);
+
+        // Assert
+        assertThat(discount.getAmount()).isEqualByComparingTo("15.00");
+    }
+
+    @Test
+    void evaluate_SeveralMatchingRules_AppliesBestDiscount() {
+        // Arrange
+        DiscountRuleSet rules = DiscountRuleSet.compile(1, List.of(
+                DiscountRule.builder().name("Electronics").category(ProductCategory.ELECTRONICS)
+                        .percentage(BigDecimal.valueOf(30)).build(),
+                DiscountRule.builder().name("Basket").minimumItems(4)
+                        .percentage(BigDecimal.valueOf(10)).build(),
+                DiscountRule.builder().name("Euro only").currency(EUR)
+                        .percentage(BigDecimal.valueOf(40)).build()));
+        Order order = orderOf(Money.of(400.00, USD),
+                item(ProductCategory.ELECTRONICS, Money.of(100.00, USD), 1),
+                item(ProductCategory.CLOTHING, Money.of(100.00, USD), 3));
+
+        // Act
+        Money discount = rules.evaluate(order, Customer.CustomerType.VIP, NOW);
+
+        // Assert
+        assertThat(discount.getAmount()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void evaluate_DateWindow_AppliesOnlyInsideWindow() {
+        // Arrange
+        DiscountRuleSet rules = DiscountRuleSet.compile(1, List.of(DiscountRule.builder()
+                .name("Spring sale")
+                .validFrom(NOW)
+                .validUntil(NOW.plusDays(7))
+                .percentage(new BigDecimal("12.5"))
+                .build()));
+        Order order = orderOf(Money.of(80.00, USD));
+
+        // Act & Assert
+        assertThat(rules.evaluate(order, Customer.CustomerType.REGULAR, NOW).getAmount()).isEqualByComparingTo("10.00");
+        assertThat(rules.evaluate(order, Customer.CustomerType.REGULAR, NOW.minusSeconds(1)))
+                .isEqualTo(Money.zero(USD));
+        assertThat(rules.evaluate(order, Customer.CustomerType.REGULAR, NOW.plusDays(7)))
+                .isEqualTo(Money.zero(USD));
+    }
+
+    @Test
+    void compile_InvalidPercentage_ThrowsException() {
+        // Arrange
+        DiscountRule tooPrecise = DiscountRule.builder().name("x").percentage(new BigDecimal("1.005")).build();
+        DiscountRule tooLarge = DiscountRule.builder().name("y").percentage(BigDecimal.valueOf(101)).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> DiscountRuleSet.compile(1, List.of(tooPrecise)));
+        assertThrows(IllegalArgumentException.class, () -> DiscountRuleSet.compile(1, List.of(tooLarge)));
+    }
+
+    private static Order orderOf(Money total, Order.OrderItem... items) {
+        Order order = Order.builder().items(List.of(items)).build();
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    private static Order.OrderItem item(ProductCategory category, Money unitPrice, int quantity) {
+        return Order.OrderItem.builder()
+                .category(category)
+                .unitPrice(unitPrice)
+                .quantity(Quantity.of(quantity))
+                .build();
+    }
+}
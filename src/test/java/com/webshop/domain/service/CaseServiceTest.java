@@ -8,7 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -67,6 +70,55 @@ class CaseServiceTest {
         assertThat(priority).isEqualTo(Case.CasePriority.MEDIUM);
     }
 
+    @Test
+    void determinePriority_FixedClock_UsesClockForAge() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+        CaseService fixedClockService = new CaseService(clock);
+        Case caseEntity = Case.builder()
+                .type(Case.CaseType.GENERAL_INQUIRY)
+                .createdAt(LocalDateTime.parse("2026-02-28T11:00:00"))
+                .build();
+
+        // Act
+        Case.CasePriority priority = fixedClockService.determinePriority(caseEntity);
+
+        // Assert
+        assertThat(priority).isEqualTo(Case.CasePriority.MEDIUM);
+    }
+
+    @Test
+    void reassessPriority_ManuallyEscalatedCase_IsNotLowered() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        Case.CasePriority kept = caseService.reassessPriority(Case.CaseType.COMPLAINT, now.minusHours(60),
+                Case.CasePriority.CRITICAL, now);
+        Case.CasePriority raised = caseService.reassessPriority(Case.CaseType.COMPLAINT, now.minusHours(60),
+                Case.CasePriority.MEDIUM, now);
+
+        // Assert
+        assertThat(kept).isNull();
+        assertThat(raised).isEqualTo(Case.CasePriority.HIGH);
+    }
+
+    @Test
+    void nextPriorityBoundary_AgingInquiry_ReturnsFirstHourPastEachThreshold() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+
+        // Act & Assert
+        assertThat(caseService.nextPriorityBoundary(Case.CaseType.GENERAL_INQUIRY, createdAt, Case.CasePriority.LOW))
+                .isEqualTo(createdAt.plusHours(25));
+        assertThat(caseService.nextPriorityBoundary(Case.CaseType.GENERAL_INQUIRY, createdAt, Case.CasePriority.MEDIUM))
+                .isEqualTo(createdAt.plusHours(49));
+        assertThat(caseService.nextPriorityBoundary(Case.CaseType.GENERAL_INQUIRY, createdAt, Case.CasePriority.HIGH))
+                .isNull();
+        assertThat(caseService.nextPriorityBoundary(Case.CaseType.DAMAGE_CLAIM, createdAt, null))
+                .isEqualTo(createdAt);
+    }
+
     @Test
     void validateReturnRequest_ValidReturn_ReturnsTrue() {
         // Arrange
@@ -0,0 +1,108 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.CustomerImportRecord;
+import com.webshop.domain.model.CustomerImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class CustomerImportServiceTest {
+
+    private CustomerImportService customerImportService;
+
+    @BeforeEach
+    void setUp() {
+        customerImportService = new CustomerImportService();
+    }
+
+    @Test
+    void validate_ValidRow_ReturnsNormalizedValues() {
+        // Arrange
+        List<CustomerImportRecord> records = List.of(validRecord(0));
+
+        // Act
+        CustomerImportResult result = customerImportService.validate(records);
+
+        // Assert
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.getEmail(0).getValue()).isEqualTo("customer0@example.com");
+        assertThat(result.getPhoneNumber(0).getValue()).isEqualTo("+4512345678");
+        assertThat(result.getAddress(0).getCity()).isEqualTo("Copenhagen");
+    }
+
+    @Test
+    void validate_InvalidFields_SetsErrorFlags() {
+        // Arrange
+        CustomerImportRecord record = CustomerImportRecord.builder()
+                .email("not-an-email")
+                .firstName("Jane")
+                .lastName(" ")
+                .phoneNumber("12ab")
+                .street("Main Street 1")
+                .city("Copenhagen")
+                .build();
+
+        // Act
+        CustomerImportResult result = customerImportService.validate(List.of(record));
+
+        // Assert
+        assertThat(result.isValid(0)).isFalse();
+        assertThat(result.getErrors(0)).isEqualTo(CustomerImportResult.INVALID_EMAIL
+                | CustomerImportResult.INVALID_PHONE
+                | CustomerImportResult.INVALID_ADDRESS
+                | CustomerImportResult.MISSING_NAME);
+        assertThat(customerImportService.toCustomers(List.of(record), result)).isEmpty();
+    }
+
+    @Test
+    void validate_BlankPhoneNumber_IsAllowed() {
+        // Arrange
+        CustomerImportRecord record = validRecord(0).toBuilder().phoneNumber("").build();
+
+        // Act
+        CustomerImportResult result = customerImportService.validate(List.of(record));
+
+        // Assert
+        assertThat(result.isValid(0)).isTrue();
+        assertThat(result.getPhoneNumber(0)).isNull();
+    }
+
+    @Test
+    void validate_LargeBatch_FlagsEachInvalidRow() {
+        // Arrange
+        List<CustomerImportRecord> records = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 10 == 0 ? validRecord(i).toBuilder().email("bad@").build() : validRecord(i))
+                .toList();
+
+        // Act
+        CustomerImportResult result = customerImportService.validate(records);
+        List<Customer> customers = customerImportService.toCustomers(records, result);
+
+        // Assert
+        assertThat(result.getInvalidCount()).isEqualTo(1_000);
+        assertThat(result.getErrors(20)).isEqualTo(CustomerImportResult.INVALID_EMAIL);
+        assertThat(customers).hasSize(9_000);
+        assertThat(customers.get(0).getEmail().getValue()).isEqualTo("customer1@example.com");
+    }
+
+    private CustomerImportRecord validRecord(int row) {
+        return CustomerImportRecord.builder()
+                .email("Customer" + row + "@Example.com")
+                .firstName("Jane")
+                .lastName("Doe")
+                .phoneNumber("+45 (12) 34-56-78")
+                .street("Main Street 1")
+                .city("Copenhagen")
+                .zipCode("1000")
+                .country("Denmark")
+                .build();
+    }
+}
@@ -1,11 +1,13 @@
 package com.webshop.domain.service;
 
 import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.vo.EmailAddress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -17,7 +19,13 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
-        customerService = new CustomerService();
+        Customer customer = Customer.builder()
+                .id(2L)
+                .firstName("Ada")
+                .email(EmailAddress.of("ada@example.com"))
+                .build();
+        Map<Long, Customer> customers = Map.of(2L, customer);
+        customerService = new CustomerService(id -> Optional.ofNullable(customers.get(id)));
     }
 
     @Test
@@ -37,4 +45,22 @@ class CustomerServiceTest {
         // Assert
         assertThat(result).isEmpty();
     }
+
+    @Test
+    void getCustomerEmail_ExistingCustomer_ReturnsEmail() {
+        // Act
+        Optional<String> result = customerService.getCustomerEmail(2L);
+
+        // Assert
+        assertThat(result).contains("ada@example.com");
+    }
+
+    @Test
+    void getCustomer_NullId_ReturnsEmpty() {
+        // Act
+        Optional<Customer> result = customerService.getCustomer(null);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.pricing.DiscountRule;
+import com.webshop.domain.pricing.DiscountRuleSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class DiscountServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+    private DiscountService discountService;
+
+    @BeforeEach
+    void setUp() {
+        discountService = new DiscountService(CLOCK);
+    }
+
+    @Test
+    void calculateDiscount_ForVipCustomerAndLargeOrder_AppliesVipDiscount() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        Order order = new Order();
+        order.setTotalAmount(Money.of(200.00, usd));
+
+        // Act
+        Money discount = discountService.calculateDiscount(order, true);
+
+        // Assert
+        assertThat(discount.getAmount().doubleValue()).isEqualTo(30.00); // 15% of 200
+    }
+
+    @Test
+    void calculateDiscount_ForRegularCustomerAndSmallOrder_AppliesNoDiscount() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        Order order = new Order();
+        order.setTotalAmount(Money.of(50.00, usd));
+
+        // Act
+        Money discount = discountService.calculateDiscount(order, false);
+
+        // Assert
+        assertThat(discount.getAmount().doubleValue()).isEqualTo(0.0);
+    }
+
+    @Test
+    void publishDiscountRules_NewerVersion_ReplacesRulesAtomically() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        Order order = new Order();
+        order.setTotalAmount(Money.of(200.00, usd));
+        DiscountRuleSet premiumRules = DiscountRuleSet.compile(1, List.of(DiscountRule.builder()
+                .name("Premium")
+                .customerType(Customer.CustomerType.PREMIUM)
+                .percentage(BigDecimal.valueOf(10))
+                .build()));
+
+        // Act
+        boolean published = discountService.publishDiscountRules(premiumRules);
+        boolean stalePublished = discountService.publishDiscountRules(DiscountRuleSet.defaults());
+
+        // Assert
+        assertThat(published).isTrue();
+        assertThat(stalePublished).isFalse();
+        assertThat(discountService.currentDiscountRules()).isSameAs(premiumRules);
+        assertThat(discountService.calculateDiscount(order, Customer.CustomerType.PREMIUM).getAmount())
+                .isEqualByComparingTo("20.00");
+        assertThat(discountService.calculateDiscount(order, true)).isEqualTo(Money.zero(usd));
+    }
+
+    @Test
+    void calculateDiscount_UnplacedOrder_ChecksWindowAgainstClock() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        Order unplaced = new Order();
+        unplaced.setTotalAmount(Money.of(200.00, usd));
+        Order placedLastYear = new Order();
+        placedLastYear.setTotalAmount(Money.of(200.00, usd));
+        placedLastYear.setOrderDate(now.minusYears(1));
+        discountService.publishDiscountRules(DiscountRuleSet.compile(1, List.of(DiscountRule.builder()
+                .name("Spring sale")
+                .validFrom(now.minusDays(1))
+                .validUntil(now.plusDays(1))
+                .percentage(BigDecimal.valueOf(10))
+                .build())));
+
+        // Act
+        Money current = discountService.calculateDiscount(unplaced, Customer.CustomerType.REGULAR);
+        Money expired = discountService.calculateDiscount(placedLastYear, Customer.CustomerType.REGULAR);
+
+        // Assert
+        assertThat(current.getAmount()).isEqualByComparingTo("20.00");
+        assertThat(expired).isEqualTo(Money.zero(usd));
+    }
+}
@@ -0,0 +1,93 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.FxRateTable;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class ExchangeRateServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency SEK = Currency.getInstance("SEK");
+
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        exchangeRateService = new ExchangeRateService();
+    }
+
+    @Test
+    void publish_NewerVersion_ReplacesSnapshot() {
+        // Arrange
+        FxRateTable table = FxRateTable.of(1, USD, Map.of(EUR, 0.5));
+
+        // Act
+        boolean result = exchangeRateService.publish(table);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(exchangeRateService.currentRates()).isSameAs(table);
+    }
+
+    @Test
+    void publish_StaleVersion_KeepsCurrentSnapshot() {
+        // Arrange
+        FxRateTable current = FxRateTable.of(2, USD, Map.of(EUR, 0.5));
+        exchangeRateService.publish(current);
+
+        // Act
+        boolean result = exchangeRateService.publish(FxRateTable.of(1, USD, Map.of(EUR, 0.9)));
+
+        // Assert
+        assertThat(result).isFalse();
+        assertThat(exchangeRateService.currentRates()).isSameAs(current);
+    }
+
+    @Test
+    void convert_NoRatesPublished_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> exchangeRateService.convert(Money.of(10.00, USD), EUR));
+    }
+
+    @Test
+    void calculateOrderTotal_MixedCurrencies_SumsInOrderCurrency() {
+        // Arrange
+        exchangeRateService.publish(FxRateTable.of(1, USD, Map.of(EUR, 0.5, SEK, 10.0)));
+        List<Order.OrderItem> items = new ArrayList<>();
+        items.add(item(Money.of(10.00, EUR), 2));
+        items.add(item(Money.of(100.00, SEK), 1));
+        items.add(item(Money.of(5.00, USD), 1));
+        Order order = Order.builder().currency(EUR).items(items).build();
+
+        // Act
+        Money total = exchangeRateService.calculateOrderTotal(order);
+
+        // Assert
+        assertThat(total.getCurrency()).isEqualTo(EUR);
+        assertThat(total.getAmount()).isEqualByComparingTo("27.50");
+    }
+
+    private Order.OrderItem item(Money unitPrice, int quantity) {
+        return Order.OrderItem.builder()
+                .productId(1L)
+                .quantity(Quantity.of(quantity))
+                .unitPrice(unitPrice)
+                .build();
+    }
+}
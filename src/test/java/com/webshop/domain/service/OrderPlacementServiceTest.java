@@ -0,0 +1,60 @@
+package com.webshop.domain.service;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.OrderNumber;
+import com.webshop.domain.model.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class OrderPlacementServiceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    private OrderPlacementService orderPlacementService;
+
+    @BeforeEach
+    void setUp() {
+        orderPlacementService = new OrderPlacementService(() -> OrderNumber.of("ORD-NEXT"),
+                new ExchangeRateService(), new OrderService());
+    }
+
+    @Test
+    void placeOrder_NewOrder_NumbersPricesAndMarksPending() {
+        // Arrange
+        Order order = Order.builder().items(new ArrayList<>(List.of(Order.OrderItem.builder()
+                .productId(1L)
+                .quantity(Quantity.of(3))
+                .unitPrice(Money.of(2.50, USD))
+                .build()))).build();
+
+        // Act
+        orderPlacementService.placeOrder(order);
+
+        // Assert
+        assertThat(order.getOrderNumber()).isEqualTo(OrderNumber.of("ORD-NEXT"));
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(7.50, USD));
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+    }
+
+    @Test
+    void placeOrder_NumberedOrder_KeepsOrderNumber() {
+        // Arrange
+        Order order = Order.builder().orderNumber(OrderNumber.of("ORD-GIVEN")).build();
+
+        // Act
+        orderPlacementService.placeOrder(order);
+
+        // Assert
+        assertThat(order.getOrderNumber()).isEqualTo(OrderNumber.of("ORD-GIVEN"));
+    }
+}
@@ -1,8 +1,9 @@
 package com.webshop.domain.service;
 
+import com.webshop.domain.catalog.AvailabilityIndex;
 import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderValidationResult;
 import com.webshop.domain.model.Product;
-import com.webshop.domain.model.vo.Money;
 import com.webshop.domain.model.vo.Quantity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Collections;
-import java.util.Currency;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,10 +39,11 @@ class OrderServiceTest {
         List<Product> availableProducts = Collections.singletonList(availableProduct);
 
         // Act
-        boolean result = orderService.validateOrder(order, availableProducts);
+        OrderValidationResult result = orderService.validateOrder(order, AvailabilityIndex.of(availableProducts));
 
         // Assert
-        assertThat(result).isTrue();
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getFailures()).isEmpty();
     }
 
     @Test
@@ -53,65 +54,107 @@ class OrderServiceTest {
         List<Product> availableProducts = Collections.emptyList();
 
         // Act
-        boolean result = orderService.validateOrder(order, availableProducts);
+        OrderValidationResult result = orderService.validateOrder(order, AvailabilityIndex.of(availableProducts));
 
         // Assert
-        assertThat(result).isFalse();
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.isEmptyOrder()).isTrue();
     }
 
     @Test
-    void calculateDiscount_ForVipCustomerAndLargeOrder_AppliesVipDiscount() {
+    void validateOrder_WithUnavailableLines_ReportsFailedLines() {
         // Arrange
-        Currency usd = Currency.getInstance("USD");
         Order order = new Order();
-        order.setTotalAmount(Money.of(200.00, usd));
+        order.setItems(List.of(item(1L, 1), item(2L, 1), item(3L, 1), item(4L, 5)));
+        AvailabilityIndex availability = AvailabilityIndex.builder(3)
+                .put(1L, 10)
+                .put(2L, 0)
+                .put(4L, 3)
+                .build();
 
         // Act
-        Money discount = orderService.calculateDiscount(order, true);
+        OrderValidationResult result = orderService.validateOrder(order, availability);
 
         // Assert
-        assertThat(discount.getAmount().doubleValue()).isEqualTo(30.00); // 15% of 200
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getFailures()).containsExactly(
+                new OrderValidationResult.LineFailure(1, 2L, OrderValidationResult.FailureReason.OUT_OF_STOCK),
+                new OrderValidationResult.LineFailure(2, 3L, OrderValidationResult.FailureReason.UNKNOWN_PRODUCT),
+                new OrderValidationResult.LineFailure(3, 4L, OrderValidationResult.FailureReason.INSUFFICIENT_STOCK));
+    }
+
+    private Order.OrderItem item(Long productId, int quantity) {
+        Order.OrderItem item = new Order.OrderItem();
+        item.setProductId(productId);
+        item.setQuantity(Quantity.of(quantity));
+        return item;
     }
 
     @Test
-    void calculateDiscount_ForRegularCustomerAndSmallOrder_AppliesNoDiscount() {
+    void cancelOrder_ForCancellableOrder_ReturnsTrue() {
         // Arrange
-        Currency usd = Currency.getInstance("USD");
         Order order = new Order();
-        order.setTotalAmount(Money.of(50.00, usd));
+        order.setStatus(Order.OrderStatus.PENDING);
 
         // Act
-        Money discount = orderService.calculateDiscount(order, false);
+        boolean result = orderService.cancelOrder(order);
 
         // Assert
-        assertThat(discount.getAmount().doubleValue()).isEqualTo(0.0);
+        assertThat(result).isTrue();
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
     }
 
     @Test
-    void cancelOrder_ForCancellableOrder_ReturnsTrue() {
+    void cancelOrder_ForNonCancellableOrder_ReturnsFalse() {
         // Arrange
         Order order = new Order();
-        order.setStatus(Order.OrderStatus.PENDING);
+        order.setStatus(Order.OrderStatus.SHIPPED);
 
         // Act
         boolean result = orderService.cancelOrder(order);
 
+        // Assert
+        assertThat(result).isFalse();
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+    }
+
+    @Test
+    void placeOrder_ForNewOrder_MarksOrderPending() {
+        // Arrange
+        Order order = new Order();
+
+        // Act
+        boolean result = orderService.placeOrder(order);
+
         // Assert
         assertThat(result).isTrue();
-        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.PENDING);
     }
 
     @Test
-    void cancelOrder_ForNonCancellableOrder_ReturnsFalse() {
+    void confirmOrder_ForPendingOrder_ReturnsTrue() {
+        // Arrange
+        Order order = new Order();
+        order.setStatus(Order.OrderStatus.PENDING);
+
+        // Act
+        boolean result = orderService.confirmOrder(order);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void canConfirm_ForShippedOrder_ReturnsFalse() {
         // Arrange
         Order order = new Order();
         order.setStatus(Order.OrderStatus.SHIPPED);
 
         // Act
-        boolean result = orderService.cancelOrder(order);
+        boolean result = orderService.canConfirm(order);
 
         // Assert
         assertThat(result).isFalse();
-        assertThat(order.getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
     }
 }
\ No newline at end of file
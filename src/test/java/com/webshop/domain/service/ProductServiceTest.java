@@ -1,6 +1,7 @@
 package com.webshop.domain.service;
 
 import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
 import com.webshop.domain.model.vo.Money;
 import com.webshop.domain.model.vo.ProductCategory;
 import com.webshop.domain.model.vo.Quantity;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.List;
@@ -50,6 +52,23 @@ class ProductServiceTest {
                 .containsExactly(product1, product2);
     }
 
+    @Test
+    void filterByPriceRange_IndexedProducts_ReturnsProductsInRange() {
+        // Arrange
+        Currency usd = Currency.getInstance("USD");
+        Product cheap = Product.builder().id(1L).price(Money.of(9.99, usd)).category(ProductCategory.BOOKS).build();
+        Product mid = Product.builder().id(2L).price(Money.of(49.99, usd)).category(ProductCategory.BOOKS).build();
+        Product toy = Product.builder().id(3L).price(Money.of(19.99, usd)).category(ProductCategory.TOYS).build();
+        productService.indexProducts(List.of(cheap, mid, toy));
+
+        // Act
+        List<Product> result = productService.filterByPriceRange(ProductCategory.BOOKS,
+                Money.of(5.00, usd), Money.of(20.00, usd));
+
+        // Assert
+        assertThat(result).containsExactly(cheap);
+    }
+
     @Test
     void requiresSpecialHandling_FragileProduct_ReturnsTrue() {
         // Arrange
@@ -133,4 +152,22 @@ class ProductServiceTest {
         // Assert
         assertThat(result.getValue()).isEqualTo(0);
     }
+
+    @Test
+    void planRestock_MixedStock_PassesLowStockProductsInPageOrder() {
+        // Arrange
+        Product empty = Product.builder().id(1L).stockQuantity(Quantity.of(0)).build();
+        Product unknown = Product.builder().id(2L).build();
+        Product stocked = Product.builder().id(3L).stockQuantity(Quantity.of(75)).build();
+        Product low = Product.builder().id(4L).stockQuantity(Quantity.of(25)).build();
+        List<Long> lines = new ArrayList<>();
+
+        // Act
+        RestockPlanSummary summary = productService.planRestock(List.of(empty, unknown, stocked, low),
+                (product, quantity) -> lines.add(product.getId()));
+
+        // Assert
+        assertThat(lines).containsExactly(1L, 4L);
+        assertThat(summary).isEqualTo(new RestockPlanSummary(4, 2, 150));
+    }
 }
\ No newline at end of file
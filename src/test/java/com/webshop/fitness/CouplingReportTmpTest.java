@@ -0,0 +1,42 @@
+package com.webshop.fitness;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+class CouplingReportTmpTest {
+    @Test
+    void report() throws Exception {
+        JavaClasses classes = new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .importPackages("com.webshop");
+        StringBuilder viol = new StringBuilder();
+        StringBuilder all = new StringBuilder();
+        for (JavaClass c : classes) {
+            Set<String> deps = c.getDirectDependenciesFromSelf().stream().map(d -> d.getTargetClass())
+                    .filter(t -> t.getPackageName().startsWith("com.webshop")).map(JavaClass::getName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            all.append(deps.size()).append(' ').append(c.getName()).append(' ').append(deps).append('\n');
+            if (deps.size() > 7) viol.append("CLS ").append(c.getName()).append(' ').append(deps.size()).append(' ').append(deps).append('\n');
+        }
+        Map<String, Set<String>> pk = new TreeMap<>();
+        for (JavaClass c : classes) {
+            Set<String> s = pk.computeIfAbsent(c.getPackageName(), k -> new TreeSet<>());
+            c.getDirectDependenciesFromSelf().stream().map(d -> d.getTargetClass().getPackageName())
+                    .filter(p -> p.startsWith("com.webshop") && !p.equals(c.getPackageName())).forEach(s::add);
+        }
+        pk.forEach((p, s) -> {
+            all.append("PKG ").append(s.size()).append(' ').append(p).append(' ').append(s).append('\n');
+            if (s.size() > 5) viol.append("PKG ").append(p).append(' ').append(s.size()).append(' ').append(s).append('\n');
+        });
+        Files.writeString(Path.of("/tmp/rep/coupling.txt"), viol.toString());
+        Files.writeString(Path.of("/tmp/rep/all.txt"), all.toString());
+    }
+}
@@ -0,0 +1,127 @@
+package com.webshop.infrastructure.catalog;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.ProductCategory;
+import com.webshop.domain.service.ProductService;
+import com.webshop.infrastructure.persistence.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Currency;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({ProductService.class, ProductPriceIndexSynchronizer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductPriceIndexSynchronizerTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductPriceIndexSynchronizer synchronizer;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        productService.indexProducts(List.of());
+    }
+
+    @Test
+    void loadIndex_StoredProducts_IndexesThemAll() {
+        // Arrange
+        Product lamp = productRepository.save(product("Lamp", 25.00, ProductCategory.HOME_AND_GARDEN));
+        Product radio = productRepository.save(product("Radio", 80.00, ProductCategory.ELECTRONICS));
+        productService.indexProducts(List.of());
+
+        // Act
+        synchronizer.loadIndex();
+
+        // Assert
+        assertThat(productService.filterByPriceRange((ProductCategory) null, Money.zero(USD), Money.of(100.00, USD)))
+                .extracting(Product::getId)
+                .containsExactlyInAnyOrder(lamp.getId(), radio.getId());
+    }
+
+    @Test
+    void save_CommittedProduct_IsIndexedAndMovedOnPriceChange() {
+        // Arrange
+        Product radio = productRepository.save(product("Radio", 80.00, ProductCategory.ELECTRONICS));
+
+        // Act
+        radio.setPrice(Money.of(150.00, USD));
+        productRepository.save(radio);
+
+        // Assert
+        assertThat(productService.filterByPriceRange(ProductCategory.ELECTRONICS, Money.zero(USD),
+                Money.of(100.00, USD))).isEmpty();
+        assertThat(productService.filterByPriceRange(ProductCategory.ELECTRONICS, Money.of(100.00, USD),
+                Money.of(200.00, USD))).extracting(Product::getId).containsExactly(radio.getId());
+    }
+
+    @Test
+    void delete_CommittedProduct_IsRemovedFromIndex() {
+        // Arrange
+        Product radio = productRepository.save(product("Radio", 80.00, ProductCategory.ELECTRONICS));
+
+        // Act
+        productRepository.deleteById(radio.getId());
+
+        // Assert
+        assertThat(productService.filterByPriceRange(ProductCategory.ELECTRONICS, Money.zero(USD),
+                Money.of(100.00, USD))).isEmpty();
+    }
+
+    @Test
+    void loadIndex_ProductChangedWhileLoading_KeepsCommittedChange() {
+        // Arrange
+        ProductRepository pagedRepository = mock(ProductRepository.class);
+        ProductService loadingService = new ProductService();
+        ProductPriceIndexSynchronizer loader = new ProductPriceIndexSynchronizer(pagedRepository, loadingService,
+                mock(EntityManagerFactory.class));
+        Product stale = product("Radio", 80.00, ProductCategory.ELECTRONICS);
+        stale.setId(1L);
+        Product changed = product("Radio", 150.00, ProductCategory.ELECTRONICS);
+        changed.setId(1L);
+        when(pagedRepository.findByIdGreaterThanOrderByIdAsc(eq(Long.MIN_VALUE), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    // The change commits after this page was read
+                    loader.onPostUpdate(new PostUpdateEvent(changed, 1L, null, null, null, null, null));
+                    return List.of(stale);
+                });
+        when(pagedRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        loader.loadIndex();
+
+        // Assert
+        assertThat(loadingService.filterByPriceRange(ProductCategory.ELECTRONICS, Money.zero(USD),
+                Money.of(100.00, USD))).isEmpty();
+        assertThat(loadingService.filterByPriceRange(ProductCategory.ELECTRONICS, Money.of(100.00, USD),
+                Money.of(200.00, USD))).containsExactly(changed);
+    }
+
+    private static Product product(String name, double price, ProductCategory category) {
+        return Product.builder().name(name).price(Money.of(price, USD)).category(category).build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.webshop.infrastructure.deadline;
+
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.usecase.EscalateCaseDeadlineUseCase;
+import com.webshop.application.usecase.ScheduleCaseDeadlinesUseCase;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import com.webshop.domain.service.CaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class TimingWheelCaseDeadlineSchedulerTest {
+
+    @MockBean
+    private EscalateCaseDeadlineUseCase escalateCaseDeadline;
+
+    @MockBean
+    private CasePersistencePort casePersistence;
+
+    private MutableClock clock;
+    private LocalDateTime start;
+    private TimingWheelCaseDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-01T12:00:00Z"));
+        start = LocalDateTime.now(clock);
+        scheduler = new TimingWheelCaseDeadlineScheduler(escalateCaseDeadline,
+                new ScheduleCaseDeadlinesUseCase(new CaseService(clock), casePersistence), clock, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void rebuild_OpenCases_SchedulesNextPriorityBoundaries() {
+        // Arrange
+        when(casePersistence.findOpenCasesAfter(isNull(), anyInt())).thenReturn(List.of(
+                new CasePrioritySnapshot(1L, Case.CaseType.GENERAL_INQUIRY, Case.CasePriority.LOW, start),
+                new CasePrioritySnapshot(2L, Case.CaseType.COMPLAINT, Case.CasePriority.MEDIUM, start),
+                new CasePrioritySnapshot(3L, Case.CaseType.DAMAGE_CLAIM, Case.CasePriority.HIGH, start)));
+
+        // Act
+        int scheduled = scheduler.rebuild();
+
+        // Assert
+        assertThat(scheduled).isEqualTo(2);
+        assertThat(scheduler.pendingDeadlines()).isEqualTo(2);
+    }
+
+    @Test
+    void tick_DeadlineReached_EscalatesAndSchedulesNextDeadline() {
+        // Arrange
+        scheduler.schedule(1L, start.plusHours(25));
+        when(escalateCaseDeadline.onDeadline(1L)).thenReturn(start.plusHours(49));
+
+        // Act
+        clock.advance(Duration.ofHours(25).minusSeconds(1));
+        scheduler.tick();
+        verify(escalateCaseDeadline, never()).onDeadline(anyLong());
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.tick();
+
+        // Assert
+        verify(escalateCaseDeadline).onDeadline(1L);
+        assertThat(scheduler.pendingDeadlines()).isEqualTo(1);
+    }
+
+    @Test
+    void cancel_PendingDeadline_IsNotEscalated() {
+        // Arrange
+        scheduler.schedule(1L, start.plusHours(25));
+        scheduler.schedule(1L, start.plusHours(26));
+
+        // Act
+        scheduler.cancel(1L);
+        clock.advance(Duration.ofHours(30));
+        scheduler.tick();
+
+        // Assert
+        verifyNoInteractions(escalateCaseDeadline);
+        assertThat(scheduler.pendingDeadlines()).isZero();
+    }
+
+    @Test
+    void schedule_InTransaction_AddsDeadlineAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            scheduler.schedule(1L, start.plusHours(25));
+
+            // Assert
+            assertThat(scheduler.pendingDeadlines()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(scheduler.pendingDeadlines()).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void schedule_TransactionRolledBack_AddsNoDeadline() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            scheduler.schedule(1L, start.plusHours(25));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            assertThat(scheduler.pendingDeadlines()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.webshop.infrastructure.fx;
+
+import com.webshop.domain.model.vo.FxRateTable;
+import com.webshop.domain.service.ExchangeRateService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class ConfiguredExchangeRateSourceTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency GBP = Currency.getInstance("GBP");
+
+    @Test
+    void publish_ConfiguredRates_ReplacesIdentitySnapshot() {
+        // Arrange
+        ExchangeRateService exchangeRateService = new ExchangeRateService();
+        ConfiguredExchangeRateSource source = new ConfiguredExchangeRateSource(exchangeRateService, "USD",
+                "EUR=0.5, GBP=0.25");
+
+        // Act
+        source.publish();
+
+        // Assert
+        FxRateTable rates = exchangeRateService.currentRates();
+        assertThat(rates.getBaseCurrency()).isEqualTo(USD);
+        assertThat(rates.rate(USD, EUR)).isEqualTo(0.5);
+        assertThat(rates.rate(EUR, GBP)).isEqualTo(0.5);
+    }
+
+    @Test
+    void parseRates_NoRates_ReturnsEmptyMap() {
+        // Act & Assert
+        assertThat(ConfiguredExchangeRateSource.parseRates("")).isEmpty();
+    }
+
+    @Test
+    void parseRates_MissingRate_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ConfiguredExchangeRateSource.parseRates("EUR"));
+    }
+}
@@ -0,0 +1,181 @@
+package com.webshop.infrastructure.idempotency;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderIdempotencyKey;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.infrastructure.persistence.OrderIdempotencyKeyRepository;
+import com.webshop.infrastructure.persistence.OrderRepository;
+import com.webshop.shared.exception.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+class IdempotentOrderCreatorTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Autowired
+    private OrderIdempotencyKeyRepository keyRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void createOnce_RetryOnAnotherNode_ReturnsRecordedOrder() {
+        // Arrange
+        IdempotentOrderCreator firstNode = node(true);
+        IdempotentOrderCreator secondNode = node(true);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        Order first = firstNode.createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+        Order retried = secondNode.createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+
+        // Assert
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(retried.getId()).isEqualTo(first.getId());
+        assertThat(keyRepository.findByCustomerIdAndKey(1L, "key-1"))
+                .map(OrderIdempotencyKey::getOrderId).contains(first.getId());
+    }
+
+    @Test
+    void createOnce_FailsAfterOrderWasSaved_RetryReturnsSavedOrder() {
+        // Arrange
+        AtomicInteger created = new AtomicInteger();
+        List<Order> saved = new ArrayList<>();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> node(true).createOnce("key-1", order(1L, 2), recordKey -> {
+            saved.add(createOrder(order(1L, 2), recordKey, created));
+            throw new IllegalStateException("Node stopped before the payment was taken");
+        }));
+        Order retried = node(true).createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+
+        // Assert
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(retried.getId()).isEqualTo(saved.get(0).getId());
+    }
+
+    @Test
+    void createOnce_SameKeyOfAnotherCustomer_CreatesSeparateOrder() {
+        // Arrange
+        IdempotentOrderCreator idempotency = node(true);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        Order first = idempotency.createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+        Order other = idempotency.createOnce("key-1", order(2L, 2),
+                recordKey -> createOrder(order(2L, 2), recordKey, created));
+
+        // Assert
+        assertThat(created.get()).isEqualTo(2);
+        assertThat(other.getId()).isNotEqualTo(first.getId());
+        assertThat(other.getCustomerId()).isEqualTo(2L);
+    }
+
+    @Test
+    void createOnce_SameKeyWithDifferentOrder_ThrowsMismatch() {
+        // Arrange
+        IdempotentOrderCreator firstNode = node(true);
+        AtomicInteger created = new AtomicInteger();
+        firstNode.createOnce("key-1", order(1L, 2), recordKey -> createOrder(order(1L, 2), recordKey, created));
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyMismatchException.class, () -> firstNode.createOnce("key-1", order(1L, 3),
+                recordKey -> createOrder(order(1L, 3), recordKey, created)));
+        assertThrows(IdempotencyKeyMismatchException.class, () -> node(true).createOnce("key-1", order(1L, 3),
+                recordKey -> createOrder(order(1L, 3), recordKey, created)));
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @Test
+    void createOnce_ExpiredRecord_CreatesNewOrder() {
+        // Arrange
+        Order old = orderRepository.save(order(1L, 2));
+        keyRepository.save(OrderIdempotencyKey.builder()
+                .customerId(1L)
+                .key("key-1")
+                .payloadHash("old")
+                .orderId(old.getId())
+                .createdAt(LocalDateTime.now(CLOCK).minus(Duration.ofHours(25)))
+                .build());
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        Order result = node(true).createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+
+        // Assert
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(result.getId()).isNotEqualTo(old.getId());
+        assertThat(keyRepository.count()).isEqualTo(1);
+        assertThat(keyRepository.findByCustomerIdAndKey(1L, "key-1"))
+                .map(OrderIdempotencyKey::getOrderId).contains(result.getId());
+    }
+
+    @Test
+    void createOnce_InMemoryOnly_DoesNotRecordKeys() {
+        // Arrange
+        IdempotentOrderCreator idempotency = node(false);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        Order first = idempotency.createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+        Order retried = idempotency.createOnce("key-1", order(1L, 2),
+                recordKey -> createOrder(order(1L, 2), recordKey, created));
+
+        // Assert
+        assertThat(retried).isSameAs(first);
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(keyRepository.count()).isZero();
+        assertThrows(IdempotencyKeyMismatchException.class, () -> idempotency.createOnce("key-1", order(1L, 3),
+                recordKey -> createOrder(order(1L, 3), recordKey, created)));
+    }
+
+    private IdempotentOrderCreator node(boolean persistent) {
+        return new IdempotentOrderCreator(keyRepository, orderRepository, CLOCK, Duration.ofHours(24), persistent);
+    }
+
+    private Order createOrder(Order order, Consumer<Order> recordKey, AtomicInteger created) {
+        created.incrementAndGet();
+        order.setStatus(Order.OrderStatus.PENDING);
+        Order saved = orderRepository.save(order);
+        recordKey.accept(saved);
+        return saved;
+    }
+
+    private static Order order(Long customerId, int units) {
+        Currency usd = Currency.getInstance("USD");
+        return Order.builder()
+                .customerId(customerId)
+                .items(new ArrayList<>(List.of(Order.OrderItem.builder()
+                        .productName("Widget")
+                        .quantity(Quantity.of(units))
+                        .unitPrice(Money.of(50.00, usd))
+                        .build())))
+                .totalAmount(Money.of(50.00 * units, usd))
+                .status(Order.OrderStatus.CONFIRMED)
+                .build();
+    }
+}
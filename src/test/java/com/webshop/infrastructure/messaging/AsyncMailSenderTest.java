@@ -0,0 +1,167 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.shared.exception.MailQueueFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class AsyncMailSenderTest {
+
+    private AsyncMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        mailSender.stop();
+    }
+
+    @Test
+    void submit_QueuedEmails_SendsThemInBatches() throws Exception {
+        // Arrange
+        GatedTransport transport = new GatedTransport();
+        mailSender = new AsyncMailSender(transport, 100, 1, 10, AsyncMailSender.BackpressurePolicy.BLOCK);
+        CompletableFuture<Void> first = mailSender.submit(email(0));
+        transport.awaitFirstSend();
+
+        // Act
+        List<CompletableFuture<Void>> queued = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            queued.add(mailSender.submit(email(i)));
+        }
+        int queueDepth = mailSender.stats().getQueueDepth();
+        transport.open();
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(first).isCompleted();
+        assertThat(queueDepth).isEqualTo(25);
+        assertThat(transport.delegate.sentBatches()).extracting(List::size).containsExactly(1, 10, 10, 5);
+        assertThat(transport.delegate.sentMessages()).extracting(EmailMessage::getSubject)
+                .startsWith("Email 0", "Email 1", "Email 2");
+        AsyncMailSender.Stats stats = mailSender.stats();
+        assertThat(stats.getSent()).isEqualTo(26);
+        assertThat(stats.getBatches()).isEqualTo(4);
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(stats.getMaxSendLatency()).isPositive();
+    }
+
+    @Test
+    void submit_FullQueueWithRejectPolicy_ThrowsMailQueueFullException() throws Exception {
+        // Arrange
+        GatedTransport transport = new GatedTransport();
+        mailSender = new AsyncMailSender(transport, 2, 1, 10, AsyncMailSender.BackpressurePolicy.REJECT);
+        mailSender.submit(email(0));
+        transport.awaitFirstSend();
+        mailSender.submit(email(1));
+        mailSender.submit(email(2));
+
+        // Act & Assert
+        assertThrows(MailQueueFullException.class, () -> mailSender.submit(email(3)));
+        assertThat(mailSender.stats().getRejected()).isEqualTo(1);
+        transport.open();
+    }
+
+    @Test
+    void submit_FullQueueWithDropOldestPolicy_FailsOldestQueuedEmail() throws Exception {
+        // Arrange
+        GatedTransport transport = new GatedTransport();
+        mailSender = new AsyncMailSender(transport, 2, 1, 10, AsyncMailSender.BackpressurePolicy.DROP_OLDEST);
+        mailSender.submit(email(0));
+        transport.awaitFirstSend();
+        CompletableFuture<Void> oldest = mailSender.submit(email(1));
+        CompletableFuture<Void> second = mailSender.submit(email(2));
+
+        // Act
+        CompletableFuture<Void> newest = mailSender.submit(email(3));
+        transport.open();
+
+        // Assert
+        assertThatThrownBy(() -> oldest.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(MailQueueFullException.class);
+        CompletableFuture.allOf(second, newest).get(5, TimeUnit.SECONDS);
+        assertThat(transport.delegate.sentMessages()).extracting(EmailMessage::getSubject)
+                .containsExactly("Email 0", "Email 2", "Email 3");
+        assertThat(mailSender.stats().getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_TransportFails_FailsEveryEmailOfTheBatch() {
+        // Arrange
+        mailSender = new AsyncMailSender(messages -> {
+            throw new IllegalStateException("SMTP unavailable");
+        }, 10, 1, 10, AsyncMailSender.BackpressurePolicy.BLOCK);
+
+        // Act
+        CompletableFuture<Void> result = mailSender.submit(email(0));
+
+        // Assert
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("SMTP unavailable");
+        assertThat(mailSender.stats().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void stop_QueuedEmails_SendsThemBeforeStopping() throws Exception {
+        // Arrange
+        InMemoryMailTransport transport = new InMemoryMailTransport();
+        mailSender = new AsyncMailSender(transport, 100, 2, 10, AsyncMailSender.BackpressurePolicy.BLOCK);
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            results.add(mailSender.submit(email(i)));
+        }
+
+        // Act
+        mailSender.stop();
+
+        // Assert
+        assertThat(results).allMatch(CompletableFuture::isDone);
+        assertThat(transport.sentMessages()).hasSize(30);
+        assertThrows(IllegalStateException.class, () -> mailSender.submit(email(30)));
+    }
+
+    private static EmailMessage email(int number) {
+        return new EmailMessage("customer" + number + "@example.com", "Email " + number, "content");
+    }
+
+    /**
+     * Holds the first send until opened, so the test can fill the queue.
+     */
+    private static final class GatedTransport implements MailTransport {
+        private final InMemoryMailTransport delegate = new InMemoryMailTransport();
+        private final CountDownLatch firstSend = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        public void send(List<EmailMessage> messages) {
+            firstSend.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.send(messages);
+        }
+
+        void awaitFirstSend() throws InterruptedException {
+            firstSend.await(5, TimeUnit.SECONDS);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+    }
+}
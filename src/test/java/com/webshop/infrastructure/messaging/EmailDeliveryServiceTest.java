@@ -0,0 +1,89 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.domain.model.OutboxMessage;
+import com.webshop.domain.service.CustomerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class EmailDeliveryServiceTest {
+
+    @MockBean
+    private CustomerService customerService;
+
+    private InMemoryMailTransport mailTransport;
+    private AsyncMailSender mailSender;
+    private EmailDeliveryService deliveryService;
+
+    @BeforeEach
+    void setUp() {
+        mailTransport = new InMemoryMailTransport();
+        mailSender = new AsyncMailSender(mailTransport, 100, 1, 10, AsyncMailSender.BackpressurePolicy.BLOCK);
+        deliveryService = new EmailDeliveryService(customerService, mailSender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailSender.stop();
+    }
+
+    @Test
+    void deliver_CustomerWithoutEmail_CompletesWithoutSending() {
+        // Arrange
+        when(customerService.getCustomerEmail(7L)).thenReturn(Optional.empty());
+        OutboxMessage message = OutboxMessage.builder()
+                .customerId(7L)
+                .subject("Status Update")
+                .build();
+
+        // Act & Assert
+        assertThat(deliveryService.deliver(message)).isCompleted();
+        assertThat(mailTransport.sentMessages()).isEmpty();
+    }
+
+    @Test
+    void deliver_CustomerMessage_SendsToCurrentAddress() throws Exception {
+        // Arrange
+        when(customerService.getCustomerEmail(7L)).thenReturn(Optional.of("ada@example.com"));
+        OutboxMessage message = OutboxMessage.builder()
+                .customerId(7L)
+                .subject("Status Update")
+                .content("Shipped")
+                .build();
+
+        // Act
+        deliveryService.deliver(message).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(mailTransport.sentMessages())
+                .containsExactly(new EmailMessage("ada@example.com", "Status Update", "Shipped"));
+    }
+
+    @Test
+    void deliver_FixedRecipient_SendsWithoutLookingUpCustomer() throws Exception {
+        // Arrange
+        OutboxMessage message = OutboxMessage.builder()
+                .recipient("support@webshop.com")
+                .subject("Case Escalated #CASE-1")
+                .content("Escalated")
+                .build();
+
+        // Act
+        deliveryService.deliver(message).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(mailTransport.sentMessages())
+                .containsExactly(new EmailMessage("support@webshop.com", "Case Escalated #CASE-1", "Escalated"));
+        verifyNoInteractions(customerService);
+    }
+}
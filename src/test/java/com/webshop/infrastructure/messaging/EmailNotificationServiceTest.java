@@ -2,30 +2,41 @@ package com.webshop.infrastructure.messaging;
 
 import com.webshop.domain.model.Case;
 import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OutboxMessage;
 import com.webshop.domain.model.Return;
 import com.webshop.domain.model.vo.Money;
 import com.webshop.domain.model.vo.OrderNumber;
 import com.webshop.domain.model.vo.Quantity;
-import com.webshop.domain.service.CustomerService;
+import com.webshop.infrastructure.persistence.NotificationOutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Clock;
 import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
 class EmailNotificationServiceTest {
 
     private EmailNotificationService notificationService;
-    private CustomerService customerService;
+
+    @MockBean
+    private NotificationOutboxRepository outboxRepository;
 
     @BeforeEach
     void setUp() {
-        customerService = new CustomerService();
-        notificationService = new EmailNotificationService(customerService);
+        EmailTemplateCatalog templates = new EmailTemplateCatalog(Locale.ENGLISH, List.of(Locale.ENGLISH));
+        notificationService = new EmailNotificationService(
+                new NotificationOutboxWriter(outboxRepository, templates, Clock.systemDefaultZone()));
     }
 
     @Test
@@ -76,4 +87,44 @@ class EmailNotificationServiceTest {
         // Act & Assert
         assertDoesNotThrow(() -> notificationService.sendStatusUpdate(customerId, message));
     }
+
+    @Test
+    void sendOrderConfirmation_ValidOrder_WritesPendingMessageToOutbox() {
+        // Arrange
+        Order order = new Order();
+        order.setOrderNumber(OrderNumber.of("ORD-123"));
+        order.setCustomerId(7L);
+
+        // Act
+        notificationService.sendOrderConfirmation(order);
+
+        // Assert
+        ArgumentCaptor<OutboxMessage> message = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxRepository).save(message.capture());
+        assertThat(message.getValue().getCustomerId()).isEqualTo(7L);
+        assertThat(message.getValue().getSubject()).isEqualTo("Order Confirmation #ORD-123");
+        assertThat(message.getValue().getContent()).isEqualTo("Thank you for your order #ORD-123. Your total amount is null.");
+        assertThat(message.getValue().getStatus()).isEqualTo(OutboxMessage.Status.PENDING);
+        assertThat(message.getValue().getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendReturnApprovals_SeveralReturns_WritesOneOutboxBatch() {
+        // Arrange
+        List<Return> returns = List.of(Return.builder().returnNumber("RET-1").build(),
+                Return.builder().returnNumber("RET-2").build());
+
+        // Act
+        notificationService.sendReturnApprovals(returns);
+
+        // Assert
+        ArgumentCaptor<List<OutboxMessage>> messages = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).saveAll(messages.capture());
+        verify(outboxRepository, never()).save(any());
+        assertThat(messages.getValue()).extracting(OutboxMessage::getSubject)
+                .containsExactly("Return Request Approved #RET-1", "Return Request Approved #RET-2");
+        assertThat(messages.getValue()).extracting(OutboxMessage::getStatus)
+                .containsOnly(OutboxMessage.Status.PENDING);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.webshop.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class EmailTemplateCatalogTest {
+
+    private final EmailTemplateCatalog catalog = new EmailTemplateCatalog(Locale.ENGLISH,
+            List.of(Locale.ENGLISH, Locale.GERMAN));
+
+    @Test
+    void render_ConfiguredLocale_UsesLocalizedTexts() {
+        // Act
+        EmailTemplateCatalog.RenderedEmail email = catalog.render(NotificationTemplate.ORDER_CONFIRMATION,
+                Locale.GERMANY, "ORD-1", "100.00 EUR");
+
+        // Assert
+        assertThat(email.getSubject()).isEqualTo("Bestellbestätigung #ORD-1");
+        assertThat(email.getContent()).contains("Bestellung #ORD-1", "100.00 EUR");
+    }
+
+    @Test
+    void render_TemplateMissingInLocale_FallsBackToBaseBundle() {
+        // Act
+        EmailTemplateCatalog.RenderedEmail email = catalog.render(NotificationTemplate.ESCALATION_ALERT,
+                Locale.GERMAN, "CASE-1", "HIGH");
+
+        // Assert
+        assertThat(email.getSubject()).isEqualTo("Case Escalated #CASE-1");
+    }
+
+    @Test
+    void render_UnconfiguredOrMissingLocale_UsesDefaultLocale() {
+        // Act
+        EmailTemplateCatalog.RenderedEmail french = catalog.render(NotificationTemplate.STATUS_UPDATE,
+                Locale.FRENCH, "Shipped");
+        EmailTemplateCatalog.RenderedEmail none = catalog.render(NotificationTemplate.STATUS_UPDATE, null, "Shipped");
+
+        // Assert
+        assertThat(french).isEqualTo(new EmailTemplateCatalog.RenderedEmail("Status Update", "Shipped"));
+        assertThat(none).isEqualTo(french);
+    }
+}
@@ -0,0 +1,51 @@
+package com.webshop.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class EmailTemplateTest {
+
+    @Test
+    void render_NamedPlaceholders_MatchesStringFormat() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile(
+                "Thank you for your order #{orderNumber}. Your total amount is {totalAmount}.",
+                "orderNumber", "totalAmount");
+
+        // Act
+        String rendered = template.render("ORD-1", "100.00 USD");
+
+        // Assert
+        assertThat(rendered).isEqualTo(String.format("Thank you for your order #%s. Your total amount is %s.",
+                "ORD-1", "100.00 USD"));
+    }
+
+    @Test
+    void render_RepeatedAndReorderedPlaceholders_UsesValuesByName() {
+        // Arrange
+        EmailTemplate template = EmailTemplate.compile("{b}-{a}-{b}", "a", "b");
+
+        // Act & Assert
+        assertThat(template.render(1, 2)).isEqualTo("2-1-2");
+        assertThat(template.render("x", null)).isEqualTo("null-x-null");
+    }
+
+    @Test
+    void render_EscapedBraceAndNoPlaceholders_RendersLiterally() {
+        // Act & Assert
+        assertThat(EmailTemplate.compile("Use {{}code} as {code}", "code").render("X")).isEqualTo("Use {code} as X");
+        assertThat(EmailTemplate.compile("Status Update").render()).isEqualTo("Status Update");
+    }
+
+    @Test
+    void compile_UnknownOrUnclosedPlaceholder_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Order {id}", "orderNumber"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Order {orderNumber", "orderNumber"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.webshop.infrastructure.messaging;
+
+import com.webshop.domain.model.OutboxMessage;
+import com.webshop.infrastructure.persistence.NotificationOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(SpringExtension.class)
+class NotificationOutboxDispatcherTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @MockBean
+    private NotificationOutboxRepository outboxRepository;
+
+    @MockBean
+    private EmailDeliveryService emailDelivery;
+
+    private NotificationOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void drain_Backlog_DeliversEveryBatchWithBoundedParallelism() {
+        // Arrange
+        dispatcher = new NotificationOutboxDispatcher(outboxRepository, emailDelivery, CLOCK, 10, 3, 5);
+        List<OutboxMessage> first = pending(1, 10);
+        List<OutboxMessage> second = pending(11, 4);
+        when(outboxRepository.findByStatusOrderByIdAsc(eq(OutboxMessage.Status.PENDING), any(Pageable.class)))
+                .thenReturn(first, second);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }).when(emailDelivery).deliver(any());
+
+        // Act
+        int processed = dispatcher.drain();
+
+        // Assert
+        assertThat(processed).isEqualTo(14);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+        assertThat(first).allMatch(message -> message.getStatus() == OutboxMessage.Status.SENT);
+        assertThat(second).allMatch(message -> message.getStatus() == OutboxMessage.Status.SENT);
+        verify(outboxRepository).saveAll(first);
+        verify(outboxRepository).saveAll(second);
+    }
+
+    @Test
+    void drain_FailedDelivery_KeepsMessagePendingUntilAttemptsAreUsedUp() {
+        // Arrange
+        dispatcher = new NotificationOutboxDispatcher(outboxRepository, emailDelivery, CLOCK, 10, 2, 2);
+        List<OutboxMessage> batch = pending(1, 2);
+        when(outboxRepository.findByStatusOrderByIdAsc(eq(OutboxMessage.Status.PENDING), any(Pageable.class)))
+                .thenReturn(batch);
+        when(emailDelivery.deliver(batch.get(0))).thenReturn(CompletableFuture.completedFuture(null));
+        when(emailDelivery.deliver(batch.get(1)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SMTP unavailable")));
+
+        // Act
+        dispatcher.drain();
+        OutboxMessage.Status afterFirstRun = batch.get(1).getStatus();
+        dispatcher.drain();
+
+        // Assert
+        assertThat(batch.get(0).getStatus()).isEqualTo(OutboxMessage.Status.SENT);
+        assertThat(afterFirstRun).isEqualTo(OutboxMessage.Status.PENDING);
+        assertThat(batch.get(1).getStatus()).isEqualTo(OutboxMessage.Status.FAILED);
+        assertThat(batch.get(1).getAttempts()).isEqualTo(2);
+        assertThat(batch.get(1).getLastError()).isEqualTo("SMTP unavailable");
+    }
+
+    private static List<OutboxMessage> pending(long firstId, int count) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            messages.add(OutboxMessage.builder()
+                    .id(id)
+                    .customerId(id)
+                    .subject("Status Update")
+                    .status(OutboxMessage.Status.PENDING)
+                    .build());
+        }
+        return messages;
+    }
+}
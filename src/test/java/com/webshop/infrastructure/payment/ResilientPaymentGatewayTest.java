@@ -0,0 +1,260 @@
+package com.webshop.infrastructure.payment;
+
+import com.webshop.application.port.out.AsyncPaymentGateway;
+import com.webshop.application.port.out.PaymentGateway;
+import com.webshop.domain.model.vo.Money;
+import com.webshop.shared.exception.BulkheadFullException;
+import com.webshop.shared.exception.CircuitOpenException;
+import com.webshop.shared.exception.PaymentTimeoutException;
+import com.webshop.shared.resilience.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class ResilientPaymentGatewayTest {
+
+    private static final Money AMOUNT = Money.of(100.00, Currency.getInstance("USD"));
+
+    private final StubPaymentGateway provider = new StubPaymentGateway();
+    private final VirtualThreadPaymentGateway asyncProvider = new VirtualThreadPaymentGateway(provider);
+    private final PendingPaymentGateway pendingProvider = new PendingPaymentGateway();
+    private final AtomicLong now = new AtomicLong();
+
+    @AfterEach
+    void tearDown() {
+        provider.release.countDown();
+        asyncProvider.close();
+    }
+
+    @Test
+    void processPayment_HealthyProvider_ReturnsItsAnswer() throws Exception {
+        // Arrange
+        ResilientPaymentGateway gateway = gateway(10, Duration.ofSeconds(1), 50, 10);
+        provider.declineCustomer = 2L;
+
+        // Act
+        boolean paid = gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS);
+        boolean declined = gateway.processPayment(2L, AMOUNT).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(paid).isTrue();
+        assertThat(declined).isFalse();
+        ResilientPaymentGateway.Stats stats = gateway.stats();
+        assertThat(stats.getCircuitBreaker().getSuccessfulCalls()).isEqualTo(2);
+        assertThat(stats.getCircuitBreaker().getFailedCalls()).isZero();
+        assertThat(stats.getBulkhead().getConcurrentCalls()).isZero();
+    }
+
+    @Test
+    void processPayment_ProviderDoesNotAnswer_TimesOutAndKeepsPermitUntilItAnswers() {
+        // Arrange
+        ResilientPaymentGateway gateway = new ResilientPaymentGateway(pendingProvider, 10, Duration.ZERO,
+                Duration.ofMillis(50), 50, 10, Duration.ofSeconds(10), Duration.ofSeconds(30), 2, now::get);
+
+        // Act
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS));
+        ResilientPaymentGateway.Stats whileWaiting = gateway.stats();
+        pendingProvider.answer.complete(false);
+
+        // Assert
+        assertThat(exception.getCause()).isInstanceOf(PaymentTimeoutException.class);
+        assertThat(((PaymentTimeoutException) exception.getCause()).getErrorCode()).isEqualTo("PAYMENT_TIMEOUT");
+        assertThat(whileWaiting.getTimeouts()).isEqualTo(1);
+        assertThat(whileWaiting.getCircuitBreaker().getFailedCalls()).isEqualTo(1);
+        assertThat(whileWaiting.getBulkhead().getConcurrentCalls()).isEqualTo(1);
+        assertThat(gateway.stats().getBulkhead().getConcurrentCalls()).isZero();
+        assertThat(gateway.stats().getLateSuccesses()).isZero();
+    }
+
+    @Test
+    void processPayment_ProviderConfirmsAfterTimeout_RecordsLateSuccess() {
+        // Arrange
+        ResilientPaymentGateway gateway = new ResilientPaymentGateway(pendingProvider, 10, Duration.ZERO,
+                Duration.ofMillis(50), 50, 10, Duration.ofSeconds(10), Duration.ofSeconds(30), 2, now::get);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS));
+
+        // Act
+        pendingProvider.answer.complete(true);
+
+        // Assert
+        assertThat(exception.getCause()).isInstanceOf(PaymentTimeoutException.class);
+        assertThat(gateway.stats().getLateSuccesses()).isEqualTo(1);
+        assertThat(gateway.stats().getCircuitBreaker().getSuccessfulCalls()).isZero();
+        assertThat(gateway.stats().getBulkhead().getConcurrentCalls()).isZero();
+    }
+
+    @Test
+    void processPayment_ProviderHangs_RejectsCallsBeyondBulkhead() throws Exception {
+        // Arrange
+        ResilientPaymentGateway gateway = gateway(3, Duration.ofSeconds(5), 50, 100);
+        provider.hang = true;
+
+        // Act
+        List<CompletableFuture<Boolean>> payments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            payments.add(gateway.processPayment((long) i, AMOUNT));
+        }
+        ResilientPaymentGateway.Stats whileHanging = gateway.stats();
+        provider.release.countDown();
+
+        // Assert
+        assertThat(provider.calls.get()).isLessThanOrEqualTo(3);
+        assertThat(whileHanging.getBulkhead().getConcurrentCalls()).isEqualTo(3);
+        assertThat(whileHanging.getBulkhead().getRejected()).isEqualTo(7);
+        for (CompletableFuture<Boolean> payment : payments.subList(3, 10)) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> payment.get(1, TimeUnit.SECONDS));
+            assertThat(exception.getCause()).isInstanceOf(BulkheadFullException.class);
+        }
+        for (CompletableFuture<Boolean> payment : payments.subList(0, 3)) {
+            assertThat(payment.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void processPayment_ProviderKeepsFailing_OpensCircuitAndStopsCallingIt() throws Exception {
+        // Arrange
+        ResilientPaymentGateway gateway = gateway(10, Duration.ofSeconds(1), 50, 10);
+        provider.failEvery = 2;
+
+        // Act
+        int failures = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures++;
+            }
+        }
+        int providerCalls = provider.calls.get();
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertThat(failures).isEqualTo(100 - providerCalls / 2);
+        assertThat(providerCalls).isBetween(10, 11);
+        assertThat(rejected.getCause()).isInstanceOf(CircuitOpenException.class);
+        assertThat(provider.calls.get()).isEqualTo(providerCalls);
+        ResilientPaymentGateway.Stats stats = gateway.stats();
+        assertThat(stats.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(stats.getCircuitBreaker().getNotPermittedCalls()).isEqualTo(100 - providerCalls + 1);
+    }
+
+    @Test
+    void processPayment_ProviderRecovers_ClosesCircuitAfterTrialCalls() throws Exception {
+        // Arrange
+        ResilientPaymentGateway gateway = new ResilientPaymentGateway(asyncProvider, 10, Duration.ZERO,
+                Duration.ofSeconds(1), 50, 4, Duration.ofSeconds(10), Duration.ofSeconds(30), 2, now::get);
+        provider.failEvery = 1;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExecutionException.class, () -> gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS));
+        }
+        provider.failEvery = 0;
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        boolean first = gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS);
+        boolean second = gateway.processPayment(1L, AMOUNT).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(gateway.stats().getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(gateway.stats().getCircuitBreaker().getTimesOpened()).isEqualTo(1);
+    }
+
+    @Test
+    void refundPayment_ProviderThrows_FailsWithProviderError() {
+        // Arrange
+        ResilientPaymentGateway gateway = gateway(10, Duration.ofSeconds(1), 50, 10);
+        provider.failEvery = 1;
+
+        // Act
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> gateway.refundPayment("tx-1", AMOUNT).get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class)
+                .hasMessage("Payment provider unavailable");
+        assertThat(gateway.stats().getBulkhead().getConcurrentCalls()).isZero();
+    }
+
+    private ResilientPaymentGateway gateway(int maxConcurrentCalls, Duration timeout, int failureRateThreshold,
+            int minimumCalls) {
+        return new ResilientPaymentGateway(asyncProvider, maxConcurrentCalls, Duration.ZERO, timeout,
+                failureRateThreshold, minimumCalls, Duration.ofSeconds(10), Duration.ofSeconds(30), 2, now::get);
+    }
+
+    /**
+     * Payment provider whose answer the test completes
+     */
+    private static final class PendingPaymentGateway implements AsyncPaymentGateway {
+        private final CompletableFuture<Boolean> answer = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<Boolean> processPayment(Long customerId, Money amount) {
+            return answer;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> refundPayment(String transactionId, Money amount) {
+            return answer;
+        }
+    }
+
+    /**
+     * Local payment provider that can hang until released or fail every
+     * n-th call
+     */
+    private static final class StubPaymentGateway implements PaymentGateway {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean hang;
+        private volatile int failEvery;
+        private volatile Long declineCustomer;
+
+        @Override
+        public boolean processPayment(Long customerId, Money amount) {
+            answer();
+            return !customerId.equals(declineCustomer);
+        }
+
+        @Override
+        public boolean refundPayment(String transactionId, Money amount) {
+            answer();
+            return true;
+        }
+
+        private void answer() {
+            int call = calls.incrementAndGet();
+            try {
+                if (hang) {
+                    release.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failEvery > 0 && call % failEvery == 0) {
+                throw new IllegalStateException("Payment provider unavailable");
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.webshop.infrastructure.payment;
+
+import com.webshop.application.port.out.PaymentGateway;
+import com.webshop.domain.model.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Currency;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+class VirtualThreadPaymentGatewayTest {
+
+    private static final Money AMOUNT = Money.of(100.00, Currency.getInstance("USD"));
+
+    @MockBean
+    private PaymentGateway paymentGateway;
+
+    private VirtualThreadPaymentGateway asyncPaymentGateway;
+
+    @BeforeEach
+    void setUp() {
+        asyncPaymentGateway = new VirtualThreadPaymentGateway(paymentGateway);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPaymentGateway.close();
+    }
+
+    @Test
+    void processPayment_BlockingGateway_ReturnsBeforeGatewayAnswers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(paymentGateway.processPayment(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return Thread.currentThread().isVirtual();
+        });
+
+        // Act
+        CompletableFuture<Boolean> payment = asyncPaymentGateway.processPayment(1L, AMOUNT);
+
+        // Assert
+        assertThat(payment).isNotDone();
+        release.countDown();
+        assertThat(payment.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void refundPayment_GatewayThrows_CompletesExceptionally() {
+        // Arrange
+        when(paymentGateway.refundPayment(any(), any())).thenThrow(new IllegalStateException("timeout"));
+
+        // Act
+        CompletableFuture<Boolean> refund = asyncPaymentGateway.refundPayment("tx-1", AMOUNT);
+
+        // Assert
+        assertThatThrownBy(() -> refund.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
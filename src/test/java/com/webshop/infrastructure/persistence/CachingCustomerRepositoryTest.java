@@ -0,0 +1,70 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.Customer;
+import com.webshop.domain.model.vo.EmailAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CachingCustomerRepositoryTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    private CachingCustomerRepository customerDirectory;
+
+    @BeforeEach
+    void setUp() {
+        customerDirectory = new CachingCustomerRepository(customerRepository, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findCustomer_RepeatedLookups_QueriesOnce() {
+        // Arrange
+        Customer saved = customerRepository.save(Customer.builder()
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email(EmailAddress.of("ada@example.com"))
+                .build());
+
+        // Act
+        Optional<Customer> first = customerDirectory.findCustomer(saved.getId());
+        Optional<Customer> second = customerDirectory.findCustomer(saved.getId());
+
+        // Assert
+        assertThat(first).map(Customer::getFirstName).contains("Ada");
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(customerDirectory.cacheStats().getLoads()).isEqualTo(1);
+        assertThat(customerDirectory.cacheStats().getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void findCustomer_UnknownCustomer_ReturnsEmpty() {
+        // Act
+        Optional<Customer> result = customerDirectory.findCustomer(Long.MAX_VALUE);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void evict_ChangedCustomer_ReloadsOnNextLookup() {
+        // Arrange
+        Customer saved = customerRepository.save(Customer.builder().firstName("Grace").lastName("Hopper").build());
+        customerDirectory.findCustomer(saved.getId());
+
+        // Act
+        customerDirectory.evict(saved.getId());
+        customerDirectory.findCustomer(saved.getId());
+
+        // Assert
+        assertThat(customerDirectory.cacheStats().getLoads()).isEqualTo(2);
+    }
+}
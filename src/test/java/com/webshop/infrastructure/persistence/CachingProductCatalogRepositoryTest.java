@@ -0,0 +1,72 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.catalog.AvailabilityIndex;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CachingProductCatalogRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private CachingProductCatalogRepository catalogRepository;
+
+    @BeforeEach
+    void setUp() {
+        catalogRepository = new CachingProductCatalogRepository(productRepository, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void availabilityIndex_LoadsStockLevels() {
+        // Arrange
+        Product product = productRepository.save(Product.builder().name("Lamp").stockQuantity(Quantity.of(12)).build());
+
+        // Act
+        AvailabilityIndex index = catalogRepository.availabilityIndex();
+
+        // Assert
+        assertThat(index.stockOf(product.getId())).isEqualTo(12);
+    }
+
+    @Test
+    void availabilityIndex_WithinTtl_ReusesSnapshot() {
+        // Arrange
+        AvailabilityIndex first = catalogRepository.availabilityIndex();
+        Product product = productRepository.save(Product.builder().name("Desk").stockQuantity(Quantity.of(3)).build());
+
+        // Act
+        AvailabilityIndex cached = catalogRepository.availabilityIndex();
+        catalogRepository.invalidateAvailability();
+        AvailabilityIndex reloaded = catalogRepository.availabilityIndex();
+
+        // Assert
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded.stockOf(product.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void findProductsAfter_ReturnsNextPageInIdOrder() {
+        // Arrange
+        Product first = productRepository.save(Product.builder().name("A").stockQuantity(Quantity.of(1)).build());
+        Product second = productRepository.save(Product.builder().name("B").stockQuantity(Quantity.of(2)).build());
+        Product third = productRepository.save(Product.builder().name("C").stockQuantity(Quantity.of(3)).build());
+
+        // Act
+        List<Product> firstPage = catalogRepository.findProductsAfter(null, 2);
+        List<Product> secondPage = catalogRepository.findProductsAfter(second.getId(), 2);
+
+        // Assert
+        assertThat(firstPage).extracting(Product::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(Product::getId).containsExactly(third.getId());
+    }
+}
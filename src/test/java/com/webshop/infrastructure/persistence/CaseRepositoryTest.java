@@ -0,0 +1,102 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.Case;
+import com.webshop.domain.model.CasePrioritySnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CaseRepositoryTest {
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Test
+    void findOpenCasesAfter_SkipsResolvedCases() {
+        // Arrange
+        Case open = caseRepository.save(newCase(Case.CaseStatus.OPEN));
+        caseRepository.save(newCase(Case.CaseStatus.RESOLVED));
+        Case waiting = caseRepository.save(newCase(Case.CaseStatus.WAITING_FOR_CUSTOMER));
+
+        // Act
+        List<CasePrioritySnapshot> result = caseRepository.findOpenCasesAfter(null, 10);
+        List<CasePrioritySnapshot> afterFirst = caseRepository.findOpenCasesAfter(open.getId(), 10);
+
+        // Assert
+        assertThat(result).extracting(CasePrioritySnapshot::getId).containsExactly(open.getId(), waiting.getId());
+        assertThat(result.get(0).getType()).isEqualTo(Case.CaseType.COMPLAINT);
+        assertThat(afterFirst).extracting(CasePrioritySnapshot::getId).containsExactly(waiting.getId());
+    }
+
+    @Test
+    void raisePriority_BulkUpdatesGivenCases() {
+        // Arrange
+        Case first = caseRepository.save(newCase(Case.CaseStatus.OPEN));
+        Case second = caseRepository.save(newCase(Case.CaseStatus.OPEN));
+
+        // Act
+        int updated = caseRepository.raisePriority(List.of(first.getId()), Case.CasePriority.HIGH);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(caseRepository.findById(first.getId()).orElseThrow().getPriority())
+                .isEqualTo(Case.CasePriority.HIGH);
+        assertThat(caseRepository.findById(second.getId()).orElseThrow().getPriority())
+                .isEqualTo(Case.CasePriority.LOW);
+        assertThat(caseRepository.raisePriority(List.of(), Case.CasePriority.HIGH)).isZero();
+    }
+
+    @Test
+    void raisePriority_CaseEscalatedSinceRead_KeepsHigherPriority() {
+        // Arrange
+        Case escalated = newCase(Case.CaseStatus.OPEN);
+        escalated.setPriority(Case.CasePriority.CRITICAL);
+        escalated = caseRepository.save(escalated);
+        Case high = newCase(Case.CaseStatus.OPEN);
+        high.setPriority(Case.CasePriority.HIGH);
+        high = caseRepository.save(high);
+
+        // Act
+        int updated = caseRepository.raisePriority(List.of(escalated.getId(), high.getId()),
+                Case.CasePriority.HIGH);
+
+        // Assert
+        assertThat(updated).isZero();
+        assertThat(caseRepository.findById(escalated.getId()).orElseThrow().getPriority())
+                .isEqualTo(Case.CasePriority.CRITICAL);
+        assertThat(caseRepository.raisePriority(List.of(escalated.getId()), Case.CasePriority.LOW)).isZero();
+    }
+
+    @Test
+    void updateStatus_BulkUpdatesGivenCases() {
+        // Arrange
+        Case first = caseRepository.save(newCase(Case.CaseStatus.OPEN));
+        Case second = caseRepository.save(newCase(Case.CaseStatus.OPEN));
+
+        // Act
+        int updated = caseRepository.updateStatus(List.of(first.getId()), Case.CaseStatus.IN_PROGRESS);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(caseRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(Case.CaseStatus.IN_PROGRESS);
+        assertThat(caseRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(Case.CaseStatus.OPEN);
+        assertThat(caseRepository.updateStatus(List.of(), Case.CaseStatus.IN_PROGRESS)).isZero();
+    }
+
+    private Case newCase(Case.CaseStatus status) {
+        return Case.builder()
+                .type(Case.CaseType.COMPLAINT)
+                .status(status)
+                .priority(Case.CasePriority.LOW)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.OutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NotificationOutboxRepositoryTest {
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Test
+    void findByStatusOrderByIdAsc_MixedStatuses_ReturnsOldestPendingFirst() {
+        // Arrange
+        OutboxMessage first = outboxRepository.save(message("first", OutboxMessage.Status.PENDING));
+        outboxRepository.save(message("sent", OutboxMessage.Status.SENT));
+        OutboxMessage second = outboxRepository.save(message("second", OutboxMessage.Status.PENDING));
+        outboxRepository.save(message("third", OutboxMessage.Status.PENDING));
+
+        // Act
+        List<OutboxMessage> batch = outboxRepository.findByStatusOrderByIdAsc(OutboxMessage.Status.PENDING,
+                PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(batch).extracting(OutboxMessage::getId).containsExactly(first.getId(), second.getId());
+    }
+
+    private static OutboxMessage message(String subject, OutboxMessage.Status status) {
+        return OutboxMessage.builder()
+                .recipient("support@webshop.com")
+                .subject(subject)
+                .content("content")
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
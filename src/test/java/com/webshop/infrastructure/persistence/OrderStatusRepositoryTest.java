@@ -0,0 +1,94 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.Order;
+import com.webshop.domain.model.OrderStatusChange;
+import com.webshop.domain.model.OrderStatusChangeResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OrderStatusRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderStatusRepository orderStatusRepository;
+
+    @BeforeEach
+    void setUp() {
+        orderStatusRepository = new OrderStatusRepository(jdbcTemplate);
+    }
+
+    @Test
+    void changeStatuses_MixedChanges_ReportsOutcomePerOrder() {
+        // Arrange
+        Order confirmed = save(Order.OrderStatus.CONFIRMED);
+        Order cancelled = save(Order.OrderStatus.CANCELLED);
+        Order shipped = save(Order.OrderStatus.SHIPPED);
+        Order processing = save(Order.OrderStatus.PROCESSING);
+
+        // Act
+        List<OrderStatusChangeResult> results = orderStatusRepository.changeStatuses(List.of(
+                new OrderStatusChange(confirmed.getId(), Order.OrderStatus.SHIPPED, null),
+                new OrderStatusChange(cancelled.getId(), Order.OrderStatus.SHIPPED, null),
+                new OrderStatusChange(shipped.getId(), Order.OrderStatus.DELIVERED, shipped.getVersion()),
+                new OrderStatusChange(processing.getId(), Order.OrderStatus.SHIPPED, processing.getVersion() + 1),
+                new OrderStatusChange(-1L, Order.OrderStatus.SHIPPED, null),
+                new OrderStatusChange(confirmed.getId(), Order.OrderStatus.PENDING, null)));
+
+        // Assert
+        assertThat(results).extracting(OrderStatusChangeResult::getOutcome).containsExactly(
+                OrderStatusChangeResult.Outcome.APPLIED,
+                OrderStatusChangeResult.Outcome.INVALID_TRANSITION,
+                OrderStatusChangeResult.Outcome.APPLIED,
+                OrderStatusChangeResult.Outcome.VERSION_CONFLICT,
+                OrderStatusChangeResult.Outcome.NOT_FOUND,
+                OrderStatusChangeResult.Outcome.INVALID_TRANSITION);
+        assertThat(results.get(1).getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(results.get(3).getStatus()).isEqualTo(Order.OrderStatus.PROCESSING);
+
+        entityManager.clear();
+        Order reloaded = orderRepository.findById(confirmed.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(Order.OrderStatus.SHIPPED);
+        assertThat(reloaded.getVersion()).isEqualTo(confirmed.getVersion() + 1);
+        assertThat(orderRepository.findById(processing.getId()).orElseThrow().getStatus())
+                .isEqualTo(Order.OrderStatus.PROCESSING);
+    }
+
+    @Test
+    void changeStatuses_MoreThanOneBatch_AppliesEveryChange() {
+        // Arrange
+        List<OrderStatusChange> changes = new ArrayList<>();
+        for (int i = 0; i < OrderStatusRepository.BATCH_SIZE + 10; i++) {
+            changes.add(new OrderStatusChange(save(Order.OrderStatus.SHIPPED).getId(), Order.OrderStatus.DELIVERED,
+                    null));
+        }
+
+        // Act
+        List<OrderStatusChangeResult> results = orderStatusRepository.changeStatuses(changes);
+
+        // Assert
+        assertThat(results).hasSize(changes.size()).allMatch(OrderStatusChangeResult::isApplied);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders where status = 'DELIVERED'",
+                Integer.class)).isEqualTo(changes.size());
+    }
+
+    private Order save(Order.OrderStatus status) {
+        return orderRepository.saveAndFlush(Order.builder().customerId(1L).status(status).build());
+    }
+}
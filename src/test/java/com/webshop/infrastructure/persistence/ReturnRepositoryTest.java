@@ -0,0 +1,88 @@
+package com.webshop.infrastructure.persistence;
+
+import com.webshop.domain.model.Return;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ReturnRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReturnRepository returnRepository;
+
+    @BeforeEach
+    void setUp() {
+        returnRepository = new ReturnRepository(jdbcTemplate);
+    }
+
+    @Test
+    void saveDecisions_RequestedReturns_StoresStatusRefundAndReason() {
+        // Arrange
+        Return approved = save("RET-1", Return.ReturnStatus.REQUESTED, "customer note");
+        Return rejected = save("RET-2", Return.ReturnStatus.REQUESTED, null);
+        approved.approve();
+        approved.setRefundAmount(new BigDecimal("25.00"));
+        rejected.reject("Return window expired");
+
+        // Act
+        Set<Long> changed = returnRepository.saveDecisions(List.of(approved, rejected));
+
+        // Assert
+        assertThat(changed).containsExactlyInAnyOrder(approved.getId(), rejected.getId());
+        Return storedApproval = reload(approved);
+        assertThat(storedApproval.getStatus()).isEqualTo(Return.ReturnStatus.APPROVED);
+        assertThat(storedApproval.getRefundAmount()).isEqualByComparingTo("25.00");
+        assertThat(storedApproval.getNotes()).isEqualTo("customer note");
+        Return storedRejection = reload(rejected);
+        assertThat(storedRejection.getStatus()).isEqualTo(Return.ReturnStatus.REJECTED);
+        assertThat(storedRejection.getNotes()).isEqualTo("Return window expired");
+    }
+
+    @Test
+    void saveDecisions_AlreadyDecidedReturn_KeepsEarlierDecision() {
+        // Arrange
+        Return decided = save("RET-1", Return.ReturnStatus.REJECTED, "Return window expired");
+        decided.approve();
+        decided.setRefundAmount(new BigDecimal("25.00"));
+
+        // Act
+        Set<Long> changed = returnRepository.saveDecisions(List.of(decided));
+
+        // Assert
+        assertThat(changed).isEmpty();
+        Return stored = reload(decided);
+        assertThat(stored.getStatus()).isEqualTo(Return.ReturnStatus.REJECTED);
+        assertThat(stored.getRefundAmount()).isNull();
+        assertThat(returnRepository.saveDecisions(List.of())).isEmpty();
+    }
+
+    private Return save(String returnNumber, Return.ReturnStatus status, String notes) {
+        Return saved = entityManager.persistFlushFind(Return.builder()
+                .returnNumber(returnNumber)
+                .status(status)
+                .notes(notes)
+                .build());
+        entityManager.detach(saved);
+        return saved;
+    }
+
+    private Return reload(Return returnRequest) {
+        entityManager.clear();
+        return entityManager.find(Return.class, returnRequest.getId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.webshop.infrastructure.reporting;
+
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.domain.model.vo.SKU;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class RestockPlanFileWriterTest {
+
+    private final Product product = Product.builder()
+            .id(7L)
+            .sku(SKU.of("LAMP0001"))
+            .name("Desk lamp, \"large\"")
+            .stockQuantity(Quantity.of(3))
+            .build();
+
+    @Test
+    void writeLine_Csv_QuotesNameWithSeparators() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        RestockPlanFileWriter writer = new RestockPlanFileWriter(out, RestockPlanFileWriter.Format.CSV);
+
+        // Act
+        writer.writeLine(product, Quantity.of(100));
+        writer.flush();
+
+        // Assert
+        assertThat(out.toString()).isEqualTo("product_id,sku,name,stock,restock_quantity\n"
+                + "7,LAMP0001,\"Desk lamp, \"\"large\"\"\",3,100\n");
+    }
+
+    @Test
+    void writeLine_Ndjson_EscapesName() {
+        // Arrange
+        StringWriter out = new StringWriter();
+        RestockPlanFileWriter writer = new RestockPlanFileWriter(out, RestockPlanFileWriter.Format.NDJSON);
+
+        // Act
+        writer.writeLine(product, Quantity.of(100));
+        writer.flush();
+
+        // Assert
+        assertThat(out.toString()).isEqualTo(
+                "{\"productId\":7,\"sku\":\"LAMP0001\",\"name\":\"Desk lamp, \\\"large\\\"\",\"stock\":3,\"restockQuantity\":100}\n");
+    }
+}
@@ -0,0 +1,50 @@
+package com.webshop.infrastructure.scheduling;
+
+import com.webshop.application.port.in.RestockPlanningPort;
+import com.webshop.domain.model.Product;
+import com.webshop.domain.model.RestockPlanSummary;
+import com.webshop.domain.model.vo.Quantity;
+import com.webshop.infrastructure.reporting.RestockPlanFileWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+class RestockPlanJobTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void run_WritesCompletedReportFile() throws IOException {
+        // Arrange
+        RestockPlanningPort planning = writer -> {
+            writer.writeLine(Product.builder().id(1L).name("Lamp").stockQuantity(Quantity.of(2)).build(),
+                    Quantity.of(100));
+            writer.flush();
+            return new RestockPlanSummary(1, 1, 100);
+        };
+        RestockPlanJob job = new RestockPlanJob(planning, outputDirectory, RestockPlanFileWriter.Format.NDJSON);
+
+        // Act
+        job.run();
+
+        // Assert
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(outputDirectory)) {
+            files = listing.toList();
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.get(0).getFileName().toString()).startsWith("restock-plan-").endsWith(".ndjson");
+        assertThat(Files.readAllLines(files.get(0))).hasSize(1);
+    }
+}
@@ -0,0 +1,209 @@
+package com.webshop.infrastructure.triage;
+
+import com.webshop.application.port.out.CaseDeadlineScheduler;
+import com.webshop.application.port.out.CasePersistencePort;
+import com.webshop.application.port.out.NotificationService;
+import com.webshop.application.usecase.ProcessComplaintUseCase;
+import com.webshop.domain.model.Case;
+import com.webshop.domain.service.CaseService;
+import com.webshop.shared.exception.ComplaintQueueFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(SpringExtension.class)
+class ComplaintTriagePipelineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    private CasePersistencePort casePersistence;
+    private ProcessComplaintUseCase processComplaint;
+    private ComplaintTriagePipeline pipeline;
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger saveCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        // Stub-only mocks, so a large burst does not record every call
+        casePersistence = mock(CasePersistencePort.class, withSettings().stubOnly());
+        when(casePersistence.saveCases(anyList())).thenAnswer(invocation -> {
+            saveCalls.incrementAndGet();
+            List<Case> cases = invocation.getArgument(0);
+            cases.forEach(complaint -> complaint.setId(ids.incrementAndGet()));
+            return cases;
+        });
+        processComplaint = new ProcessComplaintUseCase(new CaseService(Clock.fixed(NOW.toInstant(ZoneOffset.UTC),
+                ZoneOffset.UTC)), mock(NotificationService.class, withSettings().stubOnly()),
+                mock(CaseDeadlineScheduler.class, withSettings().stubOnly()), casePersistence);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.stop();
+    }
+
+    @Test
+    void submitComplaint_Burst_TriagesAndStoresEveryComplaintInBatches() throws Exception {
+        // Arrange
+        pipeline = new ComplaintTriagePipeline(processComplaint, 10_000, 4, 2, 2, 500, Duration.ofSeconds(5));
+        int burst = 50_000;
+
+        // Act
+        List<CompletableFuture<Case>> results = new ArrayList<>(burst);
+        for (int i = 0; i < burst; i++) {
+            results.add(pipeline.submitComplaint(complaint(i % 2 == 0 ? Case.CaseType.COMPLAINT : Case.CaseType.DAMAGE_CLAIM)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(results.get(0).get().getPriority()).isEqualTo(Case.CasePriority.MEDIUM);
+        assertThat(results.get(1).get().getPriority()).isEqualTo(Case.CasePriority.HIGH);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.get().getId()).isNotNull();
+            assertThat(result.get().getStatus()).isEqualTo(Case.CaseStatus.IN_PROGRESS);
+        });
+        assertThat(saveCalls.get()).isBetween(burst / 500, burst);
+        ComplaintTriagePipeline.Stats stats = pipeline.stats();
+        assertThat(stats.getCompleted()).isEqualTo(burst);
+        assertThat(stats.getFailed()).isZero();
+        assertThat(stats.getMaxLatency()).isPositive();
+        assertThat(stats.getStages()).extracting(ComplaintTriagePipeline.StageStats::getName)
+                .containsExactly("prioritize", "escalate", "persist");
+        assertThat(stats.getStages()).allSatisfy(stage -> {
+            assertThat(stage.getProcessed()).isEqualTo(burst);
+            assertThat(stage.getQueueDepth()).isZero();
+        });
+    }
+
+    @Test
+    void submitComplaint_PersistStageStuck_RefusesComplaintsOnceQueuesAreFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(casePersistence.saveCases(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return invocation.getArgument(0);
+        });
+        pipeline = new ComplaintTriagePipeline(processComplaint, 1, 1, 1, 1, 1, Duration.ofMillis(50));
+
+        // Act
+        List<CompletableFuture<Case>> accepted = new ArrayList<>();
+        ComplaintQueueFullException refused = null;
+        for (int i = 0; i < 20 && refused == null; i++) {
+            try {
+                accepted.add(pipeline.submitComplaint(complaint(Case.CaseType.COMPLAINT)));
+            } catch (ComplaintQueueFullException e) {
+                refused = e;
+            }
+        }
+        release.countDown();
+        CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(refused).isNotNull();
+        assertThat(refused.getErrorCode()).isEqualTo("COMPLAINT_QUEUE_FULL");
+        assertThat(accepted).hasSizeLessThanOrEqualTo(7);
+        assertThat(pipeline.stats().getRejected()).isEqualTo(1);
+        assertThat(pipeline.stats().getCompleted()).isEqualTo(accepted.size());
+    }
+
+    @Test
+    void submitComplaint_PersistFailure_FailsTheComplaintsOfThatBatch() {
+        // Arrange
+        when(casePersistence.saveCases(anyList())).thenThrow(new IllegalStateException("database down"));
+        pipeline = new ComplaintTriagePipeline(processComplaint, 100, 1, 1, 1, 10, Duration.ofSeconds(1));
+
+        // Act
+        CompletableFuture<Case> result = pipeline.submitComplaint(complaint(Case.CaseType.COMPLAINT));
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause()).hasMessage("database down");
+        assertThat(pipeline.stats().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void submitComplaint_FirstComplaint_StartsWorkers() throws Exception {
+        // Arrange
+        pipeline = new ComplaintTriagePipeline(processComplaint, 10, 4, 2, 2, 10, Duration.ofSeconds(1));
+        assertThat(pipeline.stats().getStages()).allSatisfy(stage -> assertThat(stage.getWorkers()).isZero());
+
+        // Act
+        pipeline.submitComplaint(complaint(Case.CaseType.COMPLAINT)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(pipeline.stats().getStages()).extracting(ComplaintTriagePipeline.StageStats::getWorkers)
+                .containsExactly(4, 2, 2);
+    }
+
+    @Test
+    void submitComplaint_AfterStop_ThrowsIllegalState() {
+        // Arrange
+        pipeline = new ComplaintTriagePipeline(processComplaint, 10, 1, 1, 1, 10, Duration.ofSeconds(1));
+        pipeline.stop();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> pipeline.submitComplaint(complaint(Case.CaseType.COMPLAINT)));
+    }
+
+    @Test
+    void submitComplaint_RacingStop_FinishesEveryAcceptedComplaint() throws Exception {
+        // Arrange
+        pipeline = new ComplaintTriagePipeline(processComplaint, 10_000, 2, 1, 1, 100, Duration.ofSeconds(5));
+        List<CompletableFuture<Case>> accepted = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch submitting = new CountDownLatch(4);
+        List<Thread> submitters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            submitters.add(Thread.ofVirtual().start(() -> {
+                submitting.countDown();
+                try {
+                    while (true) {
+                        accepted.add(pipeline.submitComplaint(complaint(Case.CaseType.COMPLAINT)));
+                    }
+                } catch (IllegalStateException e) {
+                    // Stopped
+                }
+            }));
+        }
+        submitting.await();
+
+        // Act
+        pipeline.stop();
+        for (Thread submitter : submitters) {
+            submitter.join(Duration.ofSeconds(5));
+        }
+
+        // Assert
+        assertThat(accepted).isNotEmpty().allSatisfy(result -> assertThat(result).isDone());
+    }
+
+    private static Case complaint(Case.CaseType type) {
+        return Case.builder()
+                .type(type)
+                .status(Case.CaseStatus.OPEN)
+                .createdAt(NOW.minusHours(1))
+                .build();
+    }
+}
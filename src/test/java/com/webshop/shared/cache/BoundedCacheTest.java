@@ -0,0 +1,176 @@
+package com.webshop.shared.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class BoundedCacheTest {
+
+    @Test
+    void get_RepeatedKey_LoadsOnceAndCountsHits() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            cache.get(1L, id -> "customer-" + id + "-" + loads.incrementAndGet());
+        }
+
+        // Assert
+        assertThat(cache.getIfPresent(1L)).isEqualTo("customer-1-1");
+        BoundedCache.Stats stats = cache.stats();
+        assertThat(stats.getLoads()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHits()).isEqualTo(5);
+    }
+
+    @Test
+    void get_ExpiredEntry_LoadsAgain() {
+        // Arrange
+        AtomicLong now = new AtomicLong();
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofSeconds(10), now::get);
+        cache.get(1L, id -> "old");
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        String value = cache.get(1L, id -> "new");
+
+        // Assert
+        assertThat(value).isEqualTo("new");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void get_NullFromLoader_IsNotCached() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // Assert
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_ConcurrentMissesForSameKey_LoadOnce() throws Exception {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> cache.get(1L, id -> {
+                loaderEntered.countDown();
+                awaitQuietly(release);
+                return "loaded-" + loads.incrementAndGet();
+            })));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get(1L, id -> "loaded-" + loads.incrementAndGet())));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_LoaderFails_PropagatesAndDoesNotCache() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertThat(cache.get(1L, id -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void put_ScanOfOneOffKeys_KeepsFrequentlyUsedEntries() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+        for (long key = 0; key < 50; key++) {
+            for (int access = 0; access < 5; access++) {
+                cache.get(key, id -> "hot-" + id);
+            }
+        }
+
+        // Act: 149 other keys are used between two uses of a hot key, so plain LRU would drop them all
+        for (long key = 1_000; key < 11_000; key++) {
+            cache.get(key, id -> "cold-" + id);
+            if (key % 2 == 0) {
+                cache.get(key / 2 % 50, id -> "hot-" + id);
+            }
+        }
+
+        // Assert
+        int hotEntriesKept = 0;
+        for (long key = 0; key < 50; key++) {
+            if (cache.getIfPresent(key) != null) {
+                hotEntriesKept++;
+            }
+        }
+        assertThat(hotEntriesKept).isEqualTo(50);
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.stats().getEvictions()).isGreaterThan(0);
+    }
+
+    @Test
+    void invalidate_CachedKey_ForcesReload() {
+        // Arrange
+        BoundedCache<Long, String> cache = new BoundedCache<>(100, Duration.ofMinutes(1));
+        cache.put(1L, "stale");
+
+        // Act
+        cache.invalidate(1L);
+
+        // Assert
+        assertThat(cache.get(1L, id -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.webshop.shared.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class IdempotencyCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final IdempotencyCache<String> cache = new IdempotencyCache<>(Duration.ofMinutes(10), nanos::get);
+
+    @Test
+    void execute_RepeatedKey_ReturnsStoredResult() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        String first = cache.execute("key", () -> "order-" + runs.incrementAndGet());
+        String second = cache.execute("key", () -> "order-" + runs.incrementAndGet());
+
+        // Assert
+        assertThat(first).isEqualTo("order-1");
+        assertThat(second).isEqualTo("order-1");
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_ConcurrentDuplicates_RunActionOnce() throws Exception {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            Future<String> first = executor.submit(() -> cache.execute("key", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "order";
+            }));
+            started.await();
+            Future<String> duplicate = executor.submit(() -> cache.execute("key", () -> "duplicate"));
+            Thread.sleep(20);
+            assertThat(duplicate).isNotDone();
+            release.countDown();
+
+            // Assert
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("order");
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("order");
+        }
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_FailedAction_RethrowsToWaitersAndAllowsRetry() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> cache.execute("key", () -> {
+            throw new IllegalStateException("declined");
+        }));
+        assertThat(cache.size()).isZero();
+        assertThat(cache.execute("key", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void execute_ExpiredKey_RunsActionAgain() {
+        // Arrange
+        cache.execute("old", () -> "first");
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        cache.execute("recent", () -> "first");
+
+        // Act
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        String recent = cache.execute("recent", () -> "second");
+        String old = cache.execute("old", () -> "second");
+
+        // Assert
+        assertThat(recent).isEqualTo("first");
+        assertThat(old).isEqualTo("second");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
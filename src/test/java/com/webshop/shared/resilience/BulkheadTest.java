@@ -0,0 +1,84 @@
+package com.webshop.shared.resilience;
+
+import com.webshop.shared.exception.BulkheadFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class BulkheadTest {
+
+    @Test
+    void tryAcquire_AllPermitsTaken_RejectsWithoutWaiting() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(2, Duration.ZERO);
+        bulkhead.tryAcquire();
+        bulkhead.tryAcquire();
+
+        // Act
+        boolean acquired = bulkhead.tryAcquire();
+
+        // Assert
+        assertThat(acquired).isFalse();
+        Bulkhead.Stats stats = bulkhead.stats();
+        assertThat(stats.getConcurrentCalls()).isEqualTo(2);
+        assertThat(stats.getPeakConcurrentCalls()).isEqualTo(2);
+        assertThat(stats.getPermitted()).isEqualTo(2);
+        assertThat(stats.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_PermitReleasedWhileWaiting_Acquires() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofSeconds(5));
+        bulkhead.tryAcquire();
+
+        // Act
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        Thread.sleep(50);
+        bulkhead.release();
+
+        // Assert
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.stats().getRejected()).isZero();
+    }
+
+    @Test
+    void acquirePermission_AllPermitsTaken_ThrowsBulkheadFull() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ZERO);
+        bulkhead.acquirePermission();
+
+        // Act & Assert
+        BulkheadFullException exception = assertThrows(BulkheadFullException.class, bulkhead::acquirePermission);
+        assertThat(exception.getErrorCode()).isEqualTo("BULKHEAD_FULL");
+        assertThat(bulkhead.stats().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void release_AfterCalls_FreesPermits() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ZERO);
+        bulkhead.tryAcquire();
+
+        // Act
+        bulkhead.release();
+
+        // Assert
+        assertThat(bulkhead.stats().getConcurrentCalls()).isZero();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void constructor_NoPermits_ThrowsIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead(0, Duration.ZERO));
+    }
+}
@@ -0,0 +1,214 @@
+package com.webshop.shared.resilience;
+
+import com.webshop.shared.exception.CircuitOpenException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void onFailure_FailureRateReachesThreshold_Opens() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 4);
+
+        // Act
+        record(breaker, 2, 1);
+        CircuitBreaker.State beforeMinimum = breaker.getState();
+        record(breaker, 0, 1);
+
+        // Assert
+        assertThat(beforeMinimum).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        CircuitBreaker.Stats stats = breaker.stats();
+        assertThat(stats.getWindowCalls()).isEqualTo(4);
+        assertThat(stats.getFailureRate()).isEqualTo(50.0);
+        assertThat(stats.getNotPermittedCalls()).isEqualTo(1);
+        assertThat(stats.getTimesOpened()).isEqualTo(1);
+    }
+
+    @Test
+    void onFailure_FailuresBelowThreshold_StaysClosed() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 4);
+
+        // Act
+        record(breaker, 7, 3);
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void onFailure_OldFailuresSlidOutOfWindow_StaysClosed() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 4);
+        record(breaker, 0, 3);
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        record(breaker, 3, 1);
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.stats().getWindowCalls()).isEqualTo(4);
+    }
+
+    @Test
+    void tryAcquirePermission_OpenDurationElapsed_AllowsTrialCallsOnly() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 2);
+        record(breaker, 0, 2);
+
+        // Act
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        boolean first = breaker.tryAcquirePermission();
+        boolean second = breaker.tryAcquirePermission();
+        boolean third = breaker.tryAcquirePermission();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void onSuccess_AllTrialCallsSucceed_ClosesWithEmptyWindow() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 2);
+        record(breaker, 0, 2);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+        breaker.tryAcquirePermission();
+
+        // Act
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.stats().getWindowCalls()).isZero();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void onFailure_TrialCallFails_OpensAgain() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 2);
+        record(breaker, 0, 2);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+
+        // Act
+        breaker.onFailure();
+
+        // Assert
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.stats().getTimesOpened()).isEqualTo(2);
+    }
+
+    @Test
+    void acquirePermission_Open_ThrowsCircuitOpen() {
+        // Arrange
+        CircuitBreaker breaker = breaker(50, 2);
+        record(breaker, 0, 2);
+
+        // Act & Assert
+        CircuitOpenException exception = assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+        assertThat(exception.getErrorCode()).isEqualTo("CIRCUIT_OPEN");
+        assertThat(breaker.stats().getNotPermittedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void releasePermission_HalfOpen_ReturnsTrialCall() {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker(50, 2, Duration.ofSeconds(10), Duration.ofSeconds(30), 1,
+                now::get);
+        record(breaker, 0, 2);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquirePermission();
+
+        // Act
+        breaker.releasePermission();
+
+        // Assert
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void onFailure_ConcurrentCalls_CountsEveryResult() throws Exception {
+        // Arrange
+        CircuitBreaker breaker = new CircuitBreaker(100, 1_000_000, Duration.ofSeconds(10),
+                Duration.ofSeconds(30), 2, now::get);
+        int threads = 8;
+        int callsPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < callsPerThread; i++) {
+                    if (i % 2 == 0) {
+                        breaker.onSuccess();
+                    } else {
+                        breaker.onFailure();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Assert
+        CircuitBreaker.Stats stats = breaker.stats();
+        assertThat(stats.getWindowCalls()).isEqualTo(threads * callsPerThread);
+        assertThat(stats.getWindowFailures()).isEqualTo(threads * callsPerThread / 2);
+        assertThat(stats.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void constructor_InvalidThreshold_ThrowsIllegalArgument() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(0, 10, Duration.ofSeconds(10),
+                Duration.ofSeconds(30), 1));
+    }
+
+    private CircuitBreaker breaker(int failureRateThreshold, int minimumCalls) {
+        return new CircuitBreaker(failureRateThreshold, minimumCalls, Duration.ofSeconds(10),
+                Duration.ofSeconds(30), 2, now::get);
+    }
+
+    private static void record(CircuitBreaker breaker, int successes, int failures) {
+        for (int i = 0; i < successes; i++) {
+            breaker.onSuccess();
+        }
+        for (int i = 0; i < failures; i++) {
+            breaker.onFailure();
+        }
+    }
+}
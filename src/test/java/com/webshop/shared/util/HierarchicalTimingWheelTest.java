@@ -0,0 +1,126 @@
+package com.webshop.shared.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void advance_BeforeDeadline_DoesNotExpire() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, START);
+        wheel.schedule("case", START + 5_000);
+
+        // Act
+        List<String> expired = wheel.advance(START + 4_999);
+
+        // Assert
+        assertThat(expired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 5_000)).containsExactly("case");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_DeadlinesAcrossAllLevels_ExpireOnTheirTick() {
+        // Arrange
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, START);
+        Random random = new Random(42);
+        int scheduled = 20_000;
+        for (int i = 0; i < scheduled; i++) {
+            long deadline = START + 1_000L * random.nextInt(200 * 24 * 3600);
+            wheel.schedule(deadline, deadline);
+        }
+        long step = 997 * 60_000L;
+
+        // Act & Assert
+        List<Long> expired = new ArrayList<>();
+        for (long now = START + step; wheel.size() > 0; now += step) {
+            for (Long deadline : wheel.advance(now)) {
+                assertThat(deadline).isLessThanOrEqualTo(now).isGreaterThan(now - step);
+                expired.add(deadline);
+            }
+        }
+        assertThat(expired).hasSize(scheduled);
+    }
+
+    @Test
+    void advance_EverySecond_FiresExactlyOnDeadline() {
+        // Arrange
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, START);
+        long[] offsets = {1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 262_145};
+        for (long offset : offsets) {
+            wheel.schedule(offset, START + offset * 1000);
+        }
+
+        // Act & Assert
+        for (long second = 1; second <= 262_145; second++) {
+            List<Long> expired = wheel.advance(START + second * 1000);
+            for (Long offset : expired) {
+                assertThat(offset).isEqualTo(second);
+            }
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cancel_PendingTimer_IsNeverReturned() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, START);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", START + 90_000);
+        wheel.schedule("kept", START + 90_000);
+
+        // Act
+        boolean result = cancelled.cancel();
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(wheel.advance(START + 90_000)).containsExactly("kept");
+    }
+
+    @Test
+    void schedule_DeadlineInPast_ExpiresOnNextTick() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, START);
+        HierarchicalTimingWheel.Timeout<String> overdue = wheel.schedule("overdue", START - 3_600_000);
+
+        // Act
+        List<String> expired = wheel.advance(START + 1_000);
+
+        // Assert
+        assertThat(expired).containsExactly("overdue");
+        assertThat(overdue.isExpired()).isTrue();
+        assertThat(overdue.cancel()).isFalse();
+    }
+
+    @Test
+    void schedule_BeyondWheelRange_StillExpiresOnTime() {
+        // Arrange
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, START);
+        long deadline = START + 40_000_000L;
+        wheel.schedule("far", deadline);
+
+        // Act & Assert
+        assertThat(wheel.advance(deadline - 1)).isEmpty();
+        assertThat(wheel.advance(deadline)).containsExactly("far");
+    }
+
+    @Test
+    void constructor_NonPositiveTick_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(0, START));
+    }
+}